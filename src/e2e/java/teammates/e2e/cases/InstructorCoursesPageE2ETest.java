@@ -222,7 +222,7 @@ public class InstructorCoursesPageE2ETest extends BaseE2ETestCase {
         coursesPage.deleteCourse(newCourse.getId());
 
         coursesPage.verifyStatusMessage("The course " + newCourse.getId()
-                + " has been permanently deleted.");
+                + " is being permanently deleted.");
         coursesPage.verifyNumDeletedCourses(1);
         verifyAbsentInDatabase(newCourse);
 
@@ -245,7 +245,7 @@ public class InstructorCoursesPageE2ETest extends BaseE2ETestCase {
         coursesPage.moveCourseToRecycleBin(courses[2].getId());
         coursesPage.deleteAllCourses();
 
-        coursesPage.verifyStatusMessage("All courses have been permanently deleted.");
+        coursesPage.verifyStatusMessage("All courses are being permanently deleted.");
         coursesPage.verifyNumActiveCourses(4);
         coursesPage.verifyNumArchivedCourses(0);
         coursesPage.verifyNumDeletedCourses(0);
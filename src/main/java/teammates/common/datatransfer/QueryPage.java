@@ -0,0 +1,33 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a page of the results of a query, which are read one page at a time.
+ *
+ * @param <T> the type of the results
+ */
+public class QueryPage<T> {
+    private final List<T> results;
+    @Nullable
+    private final String nextPageToken;
+
+    public QueryPage(List<T> results, @Nullable String nextPageToken) {
+        this.results = results;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the token to read the next page with, or null if this is the last page.
+     */
+    @Nullable
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+}
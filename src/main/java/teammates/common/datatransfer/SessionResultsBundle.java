@@ -27,6 +27,7 @@ public class SessionResultsBundle {
     private final Map<String, Boolean> responseRecipientVisibilityTable;
     private final Map<Long, Boolean> commentGiverVisibilityTable;
     private final CourseRoster roster;
+    private boolean hasMissingResultsSnapshots;
 
     public SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
                                 Map<String, FeedbackQuestionAttributes> questionsNotVisibleForPreviewMap,
@@ -171,4 +172,15 @@ public class SessionResultsBundle {
     public Map<Long, Boolean> getCommentGiverVisibilityTable() {
         return commentGiverVisibilityTable;
     }
+
+    /**
+     * Returns true if some of the questions in the results had no fresh results snapshots when the results were read.
+     */
+    public boolean hasMissingResultsSnapshots() {
+        return hasMissingResultsSnapshots;
+    }
+
+    public void setMissingResultsSnapshots(boolean hasMissingResultsSnapshots) {
+        this.hasMissingResultsSnapshots = hasMissingResultsSnapshots;
+    }
 }
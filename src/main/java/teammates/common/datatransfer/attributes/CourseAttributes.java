@@ -64,6 +64,21 @@ public final class CourseAttributes extends EntityAttributes<Course> implements
         return courseAttributes;
     }
 
+    /**
+     * Gets a deep copy of this object.
+     */
+    public CourseAttributes getCopy() {
+        CourseAttributes courseAttributes = new CourseAttributes(id);
+
+        courseAttributes.name = name;
+        courseAttributes.timeZone = timeZone;
+        courseAttributes.institute = institute;
+        courseAttributes.createdAt = createdAt;
+        courseAttributes.deletedAt = deletedAt;
+
+        return courseAttributes;
+    }
+
     /**
      * Returns a builder for {@link CourseAttributes}.
      */
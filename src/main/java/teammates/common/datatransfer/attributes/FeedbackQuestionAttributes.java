@@ -97,7 +97,7 @@ public final class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQ
     @Override
     public FeedbackQuestion toEntity() {
         return new FeedbackQuestion(feedbackSessionName, courseId,
-                                    getSerializedQuestionDetails(), questionDescription,
+                                    getSerializedQuestionDetailsForStorage(), questionDescription,
                                     questionNumber, getQuestionType(), giverType,
                                     recipientType, numberOfEntitiesToGiveFeedbackTo,
                                     showResponsesTo, showGiverNameTo, showRecipientNameTo);
@@ -391,6 +391,15 @@ public final class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQ
         return questionDetails.getJsonString();
     }
 
+    /**
+     * Returns the serialized question details in the form in which they are stored.
+     *
+     * @see FeedbackQuestionDetails#getStorageString()
+     */
+    public String getSerializedQuestionDetailsForStorage() {
+        return questionDetails.getStorageString();
+    }
+
     public String getFeedbackQuestionId() {
         return feedbackQuestionId;
     }
@@ -480,8 +489,8 @@ public final class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQ
     }
 
     private static FeedbackQuestionDetails deserializeFeedbackQuestionDetails(
-            String questionDetailsInJson, FeedbackQuestionType questionType) {
-        return JsonUtils.fromJson(questionDetailsInJson, questionType.getQuestionDetailsClass());
+            String serializedQuestionDetails, FeedbackQuestionType questionType) {
+        return JsonUtils.fromJsonOrCompactEncoding(serializedQuestionDetails, questionType.getQuestionDetailsClass());
     }
 
     /**
@@ -31,7 +31,15 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
     private String recipient;
     private String feedbackSessionName;
     private String courseId;
+    /**
+     * The response details, or null if they have not been parsed from {@link #serializedResponseDetails} yet.
+     */
     private FeedbackResponseDetails responseDetails;
+    /**
+     * The response details as stored, which are only parsed when first accessed.
+     */
+    private transient String serializedResponseDetails;
+    private transient FeedbackQuestionType serializedQuestionType;
     private String giverSection;
     private String recipientSection;
     private transient Instant createdAt;
@@ -59,7 +67,12 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
         this.recipientSection = copy.recipientSection;
         this.createdAt = copy.createdAt;
         this.updatedAt = copy.updatedAt;
-        this.responseDetails = copy.getResponseDetailsCopy();
+        if (copy.responseDetails == null) {
+            this.serializedResponseDetails = copy.serializedResponseDetails;
+            this.serializedQuestionType = copy.serializedQuestionType;
+        } else {
+            this.responseDetails = copy.getResponseDetailsCopy();
+        }
     }
 
     /**
@@ -79,7 +92,8 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
         if (fr.getRecipientSection() != null) {
             fra.recipientSection = fr.getRecipientSection();
         }
-        fra.responseDetails = deserializeResponseFromSerializedString(fr.getAnswer(), fr.getFeedbackQuestionType());
+        fra.serializedResponseDetails = fr.getAnswer();
+        fra.serializedQuestionType = fr.getFeedbackQuestionType();
         fra.createdAt = fr.getCreatedAt();
         fra.updatedAt = fr.getUpdatedAt();
 
@@ -87,6 +101,9 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
     }
 
     public FeedbackQuestionType getFeedbackQuestionType() {
+        if (responseDetails == null) {
+            return serializedQuestionType;
+        }
         return responseDetails.getQuestionType();
     }
 
@@ -171,7 +188,7 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
     public FeedbackResponse toEntity() {
         return new FeedbackResponse(feedbackSessionName, courseId,
                 feedbackQuestionId, getFeedbackQuestionType(),
-                giver, giverSection, recipient, recipientSection, getSerializedFeedbackResponseDetail());
+                giver, giverSection, recipient, recipientSection, getSerializedFeedbackResponseDetailForStorage());
     }
 
     @Override
@@ -215,20 +232,50 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
         // nothing to sanitize before saving
     }
 
+    /**
+     * Returns the response details without copying them.
+     *
+     * <p>The details are shared with this object and must be treated as read-only;
+     * use {@link #getResponseDetailsCopy()} to get details which can be modified.
+     */
     public FeedbackResponseDetails getResponseDetails() {
-        return responseDetails;
+        return getParsedResponseDetails();
     }
 
     public void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
         responseDetails = newFeedbackResponseDetails.getDeepCopy();
+        serializedResponseDetails = null;
+        serializedQuestionType = null;
     }
 
     public String getSerializedFeedbackResponseDetail() {
-        return responseDetails.getJsonString();
+        return getParsedResponseDetails().getJsonString();
+    }
+
+    /**
+     * Returns the serialized response details in the form in which they are stored.
+     *
+     * <p>Details which have not been accessed since they were loaded are returned as they were stored.
+     *
+     * @see FeedbackResponseDetails#getStorageString()
+     */
+    public String getSerializedFeedbackResponseDetailForStorage() {
+        if (responseDetails == null && serializedQuestionType != FeedbackQuestionType.TEXT) {
+            return serializedResponseDetails;
+        }
+        return getParsedResponseDetails().getStorageString();
     }
 
     public FeedbackResponseDetails getResponseDetailsCopy() {
-        return responseDetails.getDeepCopy();
+        return getParsedResponseDetails().getDeepCopy();
+    }
+
+    private FeedbackResponseDetails getParsedResponseDetails() {
+        if (responseDetails == null && serializedResponseDetails != null) {
+            // the serialized form is kept, so that concurrent readers at worst parse it again
+            responseDetails = deserializeResponseFromSerializedString(serializedResponseDetails, serializedQuestionType);
+        }
+        return responseDetails;
     }
 
     private static FeedbackResponseDetails deserializeResponseFromSerializedString(
@@ -237,7 +284,7 @@ public final class FeedbackResponseAttributes extends EntityAttributes<FeedbackR
             // For Text questions, the answer simply contains the response text, not a JSON
             return new FeedbackTextResponseDetails(serializedResponseDetails);
         }
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+        return JsonUtils.fromJsonOrCompactEncoding(serializedResponseDetails, questionType.getResponseDetailsClass());
     }
 
     /**
@@ -105,7 +105,7 @@ public final class InstructorAttributes extends EntityAttributes<Instructor> {
         instructorAttributes.displayedName = displayedName;
         instructorAttributes.isArchived = isArchived;
         instructorAttributes.isDisplayedToStudents = isDisplayedToStudents;
-        instructorAttributes.privileges = privileges;
+        instructorAttributes.privileges = privileges == null ? null : new InstructorPrivileges(privileges.toLegacyFormat());
         instructorAttributes.createdAt = createdAt;
         instructorAttributes.updatedAt = updatedAt;
 
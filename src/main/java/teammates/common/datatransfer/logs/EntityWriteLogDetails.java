@@ -0,0 +1,70 @@
+package teammates.common.datatransfer.logs;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Contains specific structure and processing logic for entity write audit log.
+ */
+public class EntityWriteLogDetails extends LogDetails {
+
+    private String entityKind;
+    private String writeType;
+    private int numEntities;
+    @Nullable
+    private List<String> entityKeys;
+    @Nullable
+    private List<String> changedFields;
+
+    public EntityWriteLogDetails() {
+        super(LogEvent.ENTITY_WRITE);
+    }
+
+    public String getEntityKind() {
+        return entityKind;
+    }
+
+    public void setEntityKind(String entityKind) {
+        this.entityKind = entityKind;
+    }
+
+    public String getWriteType() {
+        return writeType;
+    }
+
+    public void setWriteType(String writeType) {
+        this.writeType = writeType;
+    }
+
+    public int getNumEntities() {
+        return numEntities;
+    }
+
+    public void setNumEntities(int numEntities) {
+        this.numEntities = numEntities;
+    }
+
+    public List<String> getEntityKeys() {
+        return entityKeys;
+    }
+
+    public void setEntityKeys(List<String> entityKeys) {
+        this.entityKeys = entityKeys;
+    }
+
+    public List<String> getChangedFields() {
+        return changedFields;
+    }
+
+    public void setChangedFields(List<String> changedFields) {
+        this.changedFields = changedFields;
+    }
+
+    @Override
+    public void hideSensitiveInformation() {
+        // keys of some entities are made up of user emails
+        entityKeys = null;
+    }
+
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.util.Config;
 import teammates.common.util.JsonUtils;
 
 /**
@@ -130,6 +131,18 @@ public abstract class FeedbackQuestionDetails {
         return JsonUtils.toJson(this, questionType.getQuestionDetailsClass());
     }
 
+    /**
+     * Returns the string representation in which the question details are stored,
+     * i.e. the JSON string or, if enabled, its compact encoding.
+     */
+    public String getStorageString() {
+        assert questionType != null;
+        if (!Config.FEEDBACK_DETAILS_COMPACT_ENCODING) {
+            return getJsonString();
+        }
+        return JsonUtils.toCompactEncoding(this, questionType.getQuestionDetailsClass());
+    }
+
     /**
      * Returns a deep copy of the question details.
      */
@@ -1,5 +1,6 @@
 package teammates.common.datatransfer.questions;
 
+import teammates.common.util.Config;
 import teammates.common.util.JsonUtils;
 
 /**
@@ -34,6 +35,18 @@ public abstract class FeedbackResponseDetails {
         return JsonUtils.toJson(this, questionType.getResponseDetailsClass());
     }
 
+    /**
+     * Returns the string representation in which the response details are stored,
+     * i.e. the JSON string or, if enabled, its compact encoding.
+     */
+    public String getStorageString() {
+        assert questionType != null;
+        if (questionType == FeedbackQuestionType.TEXT || !Config.FEEDBACK_DETAILS_COMPACT_ENCODING) {
+            return getJsonString();
+        }
+        return JsonUtils.toCompactEncoding(this, questionType.getResponseDetailsClass());
+    }
+
     /**
      * Returns a deep copy of the response details.
      */
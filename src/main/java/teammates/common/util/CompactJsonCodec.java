@@ -0,0 +1,285 @@
+package teammates.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Encodes JSON values in a compact, versioned binary format which is stored as text.
+ *
+ * <p>An encoded value is the prefix of its format version followed by the unpadded Base64 encoding
+ * of the binary form of the value. Version 1 encodes each value as a one-byte tag followed by its content:
+ * integers as zigzag varints, other numbers as IEEE 754 doubles, strings as their UTF-8 length and bytes,
+ * arrays and objects as their size and members. Object keys are only written out in full the first time;
+ * later occurrences refer to the first one by index.
+ *
+ * <p>As neither JSON objects nor JSON arrays start with the prefix, encoded values can be told apart from JSON.
+ */
+public final class CompactJsonCodec {
+
+    /**
+     * Prefix of values encoded in version 1 of the format.
+     */
+    static final String PREFIX_V1 = "~c1:";
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TRUE = 1;
+    private static final int TAG_FALSE = 2;
+    private static final int TAG_INTEGER = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_STRING = 5;
+    private static final int TAG_ARRAY = 6;
+    private static final int TAG_OBJECT = 7;
+
+    private CompactJsonCodec() {
+        // utility class
+    }
+
+    /**
+     * Returns true if the given value is encoded in a version of the compact format.
+     */
+    public static boolean isEncoded(String value) {
+        return value != null && value.startsWith(PREFIX_V1);
+    }
+
+    /**
+     * Encodes the given JSON value in the latest version of the format.
+     */
+    public static String encode(JsonElement element) {
+        Encoder encoder = new Encoder();
+        encoder.write(element);
+        return PREFIX_V1 + Base64.getEncoder().withoutPadding().encodeToString(encoder.out.toByteArray());
+    }
+
+    /**
+     * Decodes a value encoded in any version of the format.
+     *
+     * @throws IllegalArgumentException if the value is not a valid encoded value
+     */
+    public static JsonElement decode(String encoded) {
+        if (!isEncoded(encoded)) {
+            throw new IllegalArgumentException("Unknown compact encoding: " + encoded);
+        }
+        byte[] bytes = Base64.getDecoder().decode(encoded.substring(PREFIX_V1.length()));
+        Decoder decoder = new Decoder(bytes);
+        JsonElement element = decoder.read();
+        if (decoder.position != bytes.length) {
+            throw new IllegalArgumentException("Trailing bytes in compact encoding: " + encoded);
+        }
+        return element;
+    }
+
+    private static final class Encoder {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final Map<String, Integer> keyIndexes = new HashMap<>();
+
+        private void write(JsonElement element) {
+            if (element == null || element.isJsonNull()) {
+                out.write(TAG_NULL);
+            } else if (element.isJsonArray()) {
+                JsonArray array = element.getAsJsonArray();
+                out.write(TAG_ARRAY);
+                writeVarint(array.size());
+                for (JsonElement member : array) {
+                    write(member);
+                }
+            } else if (element.isJsonObject()) {
+                JsonObject object = element.getAsJsonObject();
+                out.write(TAG_OBJECT);
+                writeVarint(object.size());
+                for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+                    writeKey(member.getKey());
+                    write(member.getValue());
+                }
+            } else {
+                writePrimitive(element.getAsJsonPrimitive());
+            }
+        }
+
+        private void writePrimitive(JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                out.write(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (primitive.isNumber()) {
+                Number number = primitive.getAsNumber();
+                if (isIntegral(number)) {
+                    out.write(TAG_INTEGER);
+                    long value = number.longValue();
+                    writeVarint((value << 1) ^ (value >> 63));
+                } else {
+                    out.write(TAG_DOUBLE);
+                    long bits = Double.doubleToLongBits(number.doubleValue());
+                    for (int shift = 56; shift >= 0; shift -= 8) {
+                        out.write((int) (bits >>> shift));
+                    }
+                }
+            } else {
+                out.write(TAG_STRING);
+                writeString(primitive.getAsString());
+            }
+        }
+
+        private static boolean isIntegral(Number number) {
+            if (number instanceof Integer || number instanceof Long
+                    || number instanceof Short || number instanceof Byte) {
+                return true;
+            }
+            if (number instanceof Double || number instanceof Float) {
+                // kept as doubles, so that e.g. 1.0 is decoded as 1.0 rather than 1
+                return false;
+            }
+            // numbers parsed from JSON text, whose type is not known
+            String text = number.toString();
+            if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+                return false;
+            }
+            try {
+                new BigDecimal(text).longValueExact();
+                return true;
+            } catch (ArithmeticException | NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private void writeKey(String key) {
+            Integer index = keyIndexes.get(key);
+            if (index == null) {
+                writeVarint(0);
+                writeString(key);
+                keyIndexes.put(key, keyIndexes.size() + 1);
+            } else {
+                writeVarint(index);
+            }
+        }
+
+        private void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private void writeVarint(long value) {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                out.write((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            out.write((int) remaining);
+        }
+
+    }
+
+    private static final class Decoder {
+
+        private final byte[] bytes;
+        private final List<String> keys = new ArrayList<>();
+        private int position;
+
+        private Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private JsonElement read() {
+            int tag = readByte();
+            switch (tag) {
+            case TAG_NULL:
+                return JsonNull.INSTANCE;
+            case TAG_TRUE:
+                return new JsonPrimitive(true);
+            case TAG_FALSE:
+                return new JsonPrimitive(false);
+            case TAG_INTEGER:
+                long zigzag = readVarint();
+                return new JsonPrimitive((zigzag >>> 1) ^ -(zigzag & 1));
+            case TAG_DOUBLE:
+                long bits = 0;
+                for (int i = 0; i < 8; i++) {
+                    bits = (bits << 8) | readByte();
+                }
+                return new JsonPrimitive(Double.longBitsToDouble(bits));
+            case TAG_STRING:
+                return new JsonPrimitive(readString());
+            case TAG_ARRAY:
+                int arraySize = readSize();
+                JsonArray array = new JsonArray(arraySize);
+                for (int i = 0; i < arraySize; i++) {
+                    array.add(read());
+                }
+                return array;
+            case TAG_OBJECT:
+                int objectSize = readSize();
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < objectSize; i++) {
+                    String key = readKey();
+                    object.add(key, read());
+                }
+                return object;
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " in compact encoding");
+            }
+        }
+
+        private String readKey() {
+            int index = readSize();
+            if (index == 0) {
+                String key = readString();
+                keys.add(key);
+                return key;
+            }
+            if (index > keys.size()) {
+                throw new IllegalArgumentException("Unknown key reference in compact encoding");
+            }
+            return keys.get(index - 1);
+        }
+
+        private String readString() {
+            int length = readSize();
+            if (position + length > bytes.length) {
+                throw new IllegalArgumentException("Truncated compact encoding");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private int readSize() {
+            long size = readVarint();
+            if (size > bytes.length) {
+                throw new IllegalArgumentException("Invalid size in compact encoding");
+            }
+            return (int) size;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid varint in compact encoding");
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Truncated compact encoding");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+    }
+
+}
@@ -91,6 +91,51 @@ public final class Config {
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
+    /** The value of the "app.courses.service.embedded" in build.properties file. */
+    public static final boolean COURSES_SERVICE_EMBEDDED;
+
+    /** The value of the "app.courses.service.url" in build.properties file. */
+    public static final String COURSES_SERVICE_URL;
+
+    /** The value of the "app.courses.service.timeout" in build.properties file. */
+    public static final int COURSES_SERVICE_TIMEOUT_MS;
+
+    /** The value of the "app.courses.service.stalefallback" in build.properties file. */
+    public static final boolean COURSES_SERVICE_STALE_FALLBACK;
+
+    /** The value of the "app.courses.cache.size" in build.properties file. */
+    public static final int COURSES_CACHE_SIZE;
+
+    /** The value of the "app.courses.cache.ttl" in build.properties file. */
+    public static final int COURSES_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.datastore.write.batchsize" in build.properties file. */
+    public static final int DATASTORE_WRITE_BATCH_SIZE;
+
+    /** The value of the "app.datastore.delete.parallelism" in build.properties file. */
+    public static final int DATASTORE_DELETE_PARALLELISM;
+
+    /** The value of the "app.results.build.parallelism" in build.properties file. */
+    public static final int RESULTS_BUILD_PARALLELISM;
+
+    /** The value of the "app.datastore.write.log.samplerate" in build.properties file. */
+    public static final double DATASTORE_WRITE_LOG_SAMPLE_RATE;
+
+    /** The value of the "app.datastore.cache.kinds" in build.properties file. */
+    public static final List<String> DATASTORE_CACHE_KINDS;
+
+    /** The value of the "app.datastore.cache.type" in build.properties file. */
+    public static final String DATASTORE_CACHE_TYPE;
+
+    /** The value of the "app.datastore.cache.size" in build.properties file. */
+    public static final int DATASTORE_CACHE_SIZE;
+
+    /** The value of the "app.datastore.cache.ttl" in build.properties file. */
+    public static final int DATASTORE_CACHE_TTL_SECONDS;
+
+    /** The value of the "app.feedback.details.compactencoding" in build.properties file. */
+    public static final boolean FEEDBACK_DETAILS_COMPACT_ENCODING;
+
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
@@ -167,6 +212,34 @@ public final class Config {
         MAILJET_APIKEY = getProperty(properties, devProperties, "app.mailjet.apikey");
         MAILJET_SECRETKEY = getProperty(properties, devProperties, "app.mailjet.secretkey");
         SEARCH_SERVICE_HOST = getProperty(properties, devProperties, "app.search.service.host");
+        COURSES_SERVICE_EMBEDDED = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.courses.service.embedded", "false"));
+        COURSES_SERVICE_URL = getProperty(properties, devProperties, "app.courses.service.url",
+                "http://34.171.169.145:5000");
+        COURSES_SERVICE_TIMEOUT_MS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.courses.service.timeout", "10000"));
+        COURSES_SERVICE_STALE_FALLBACK = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.courses.service.stalefallback", "true"));
+        COURSES_CACHE_SIZE = Integer.parseInt(getProperty(properties, devProperties, "app.courses.cache.size", "1000"));
+        COURSES_CACHE_TTL_SECONDS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.courses.cache.ttl", "60"));
+        DATASTORE_WRITE_BATCH_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.datastore.write.batchsize", "500"));
+        DATASTORE_DELETE_PARALLELISM = Integer.parseInt(
+                getProperty(properties, devProperties, "app.datastore.delete.parallelism", "4"));
+        RESULTS_BUILD_PARALLELISM = Integer.parseInt(
+                getProperty(properties, devProperties, "app.results.build.parallelism", "4"));
+        DATASTORE_WRITE_LOG_SAMPLE_RATE = Double.parseDouble(
+                getProperty(properties, devProperties, "app.datastore.write.log.samplerate", "1"));
+        DATASTORE_CACHE_KINDS = Collections.unmodifiableList(
+                Arrays.asList(getProperty(properties, devProperties, "app.datastore.cache.kinds", "").split(",")));
+        DATASTORE_CACHE_TYPE = getProperty(properties, devProperties, "app.datastore.cache.type", "memory");
+        DATASTORE_CACHE_SIZE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.datastore.cache.size", "10000"));
+        DATASTORE_CACHE_TTL_SECONDS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.datastore.cache.ttl", "30"));
+        FEEDBACK_DETAILS_COMPACT_ENCODING = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.feedback.details.compactencoding", "false"));
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
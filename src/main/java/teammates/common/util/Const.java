@@ -133,6 +133,9 @@ public final class Const {
 
         public static final String FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER = "frsessionbygiverreceiver";
 
+        public static final String FEEDBACK_RESULTS_PAGE_TOKEN = "frpagetoken";
+        public static final String FEEDBACK_RESULTS_PAGE_SIZE = "frpagesize";
+
         public static final String PREVIEWAS = "previewas";
 
         public static final String STUDENT_ID = "googleid";
@@ -328,6 +331,7 @@ public final class Const {
         public static final String COURSE = URI_PREFIX + "/course";
         public static final String COURSE_ARCHIVE = URI_PREFIX + "/course/archive";
         public static final String BIN_COURSE = URI_PREFIX + "/bin/course";
+        public static final String COURSE_DELETION = URI_PREFIX + "/course/deletion";
         public static final String COURSE_SECTIONS = URI_PREFIX + "/course/sections";
         public static final String COURSES = URI_PREFIX + "/courses";
         public static final String INSTRUCTORS = URI_PREFIX + "/instructors";
@@ -335,6 +339,8 @@ public final class Const {
         public static final String INSTRUCTOR_PRIVILEGE = URI_PREFIX + "/instructor/privilege";
         public static final String INSTRUCTOR_KEY = URI_PREFIX + "/instructor/key";
         public static final String RESULT = URI_PREFIX + "/result";
+        public static final String RESULT_OUTLINE = URI_PREFIX + "/result/outline";
+        public static final String RESULT_PAGE = URI_PREFIX + "/result/page";
         public static final String STUDENTS = URI_PREFIX + "/students";
         public static final String STUDENT = URI_PREFIX + "/student";
         public static final String STUDENT_KEY = URI_PREFIX + "/student/key";
@@ -391,6 +397,8 @@ public final class Const {
                 URI_PREFIX + "/feedbackSessionPublishedReminders";
         public static final String AUTOMATED_USAGE_STATISTICS_COLLECTION =
                 URI_PREFIX + "/calculateUsageStatistics";
+        public static final String AUTOMATED_SUBMISSION_COUNTS_RECONCILIATION =
+                URI_PREFIX + "/reconcileSubmissionCounts";
     }
 
     /**
@@ -431,6 +439,12 @@ public final class Const {
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
 
+        public static final String COURSE_DELETION_QUEUE_NAME = "course-deletion-queue";
+        public static final String COURSE_DELETION_WORKER_URL = URI_PREFIX + "/courseDeletion";
+
+        public static final String SESSION_RESULTS_SNAPSHOT_QUEUE_NAME = "session-results-snapshot-queue";
+        public static final String SESSION_RESULTS_SNAPSHOT_WORKER_URL = URI_PREFIX + "/sessionResultsSnapshot";
+
         public static final String SEARCH_INDEXING_QUEUE_NAME = "search-indexing-queue";
         public static final String INSTRUCTOR_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/instructorSearchIndexing";
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -15,7 +17,13 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
@@ -43,6 +51,7 @@ public final class JsonUtils {
                 .registerTypeAdapter(FeedbackQuestionDetails.class, new FeedbackQuestionDetailsAdapter())
                 .registerTypeAdapter(FeedbackResponseDetails.class, new FeedbackResponseDetailsAdapter())
                 .registerTypeAdapter(LogDetails.class, new LogDetailsAdapter())
+                .registerTypeAdapterFactory(new FeedbackResponseAttributesAdapterFactory())
                 .disableHtmlEscaping();
         if (prettyPrint) {
             builder.setPrettyPrinting();
@@ -87,6 +96,26 @@ public final class JsonUtils {
         getGsonInstance(false).toJson(src, writer);
     }
 
+    /**
+     * Creates a JSON writer which streams compact JSON into a writer.
+     * This is done to write out large JSON documents one part at a time.
+     *
+     * @see #getCompactJsonAdapter(Class)
+     */
+    public static JsonWriter newCompactJsonWriter(Writer writer) throws IOException {
+        return getGsonInstance(false).newJsonWriter(writer);
+    }
+
+    /**
+     * Gets the adapter which serializes objects of the specified type into compact JSON, e.g. as the next values
+     * of a JSON writer. This is done to serialize many objects of the type without setting up Gson for each.
+     *
+     * @see Gson#getAdapter(Class)
+     */
+    public static <T> TypeAdapter<T> getCompactJsonAdapter(Class<T> type) {
+        return getGsonInstance(false).getAdapter(type);
+    }
+
     /**
      * Deserializes the specified JSON string into an object of the specified type.
      *
@@ -105,6 +134,28 @@ public final class JsonUtils {
         return getGsonInstance(false).fromJson(json, classOfT);
     }
 
+    /**
+     * Serializes the specified object into the compact encoding of its equivalent JSON value.
+     *
+     * @see CompactJsonCodec
+     */
+    public static String toCompactEncoding(Object src, Type typeOfSrc) {
+        return CompactJsonCodec.encode(getGsonInstance(false).toJsonTree(src, typeOfSrc));
+    }
+
+    /**
+     * Deserializes the specified JSON string, or compact encoding of a JSON value,
+     * into an object of the specified class.
+     *
+     * @see CompactJsonCodec
+     */
+    public static <T> T fromJsonOrCompactEncoding(String serialized, Class<T> classOfT) {
+        if (CompactJsonCodec.isEncoded(serialized)) {
+            return getGsonInstance(false).fromJson(CompactJsonCodec.decode(serialized), classOfT);
+        }
+        return fromJson(serialized, classOfT);
+    }
+
     /**
      * Parses the specified JSON string into a {@link JsonElement} object.
      *
@@ -182,6 +233,36 @@ public final class JsonUtils {
 
     }
 
+    /**
+     * Parses the response details of {@link FeedbackResponseAttributes}, which are only parsed when first accessed,
+     * before the attributes are serialized.
+     */
+    private static class FeedbackResponseAttributesAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != FeedbackResponseAttributes.class) {
+                return null;
+            }
+            TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+            return new TypeAdapter<T>() {
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    if (value != null) {
+                        ((FeedbackResponseAttributes) value).getResponseDetails();
+                    }
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+
+    }
+
     private static class FeedbackQuestionDetailsAdapter implements JsonSerializer<FeedbackQuestionDetails>,
             JsonDeserializer<FeedbackQuestionDetails> {
 
@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.logging.Level;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -57,6 +58,13 @@ public final class Logger {
         standardLog.info(formatLogMessage(message, LogSeverity.INFO));
     }
 
+    /**
+     * Returns true if messages at INFO level are logged, i.e. whether it is worth building them.
+     */
+    public boolean isInfoEnabled() {
+        return standardLog.isLoggable(Level.INFO);
+    }
+
     /**
      * Logs an instance startup event.
      */
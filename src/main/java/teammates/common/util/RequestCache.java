@@ -0,0 +1,104 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes lookups made while serving the current HTTP request,
+ * so that repeated lookups of the same entity within a request are only made once.
+ *
+ * <p>Values are only kept between {@link #init()} and {@link #clear()}, which bracket the handling of a request;
+ * outside of a request nothing is cached. Any write discards all cached values, so that a request
+ * always sees its own writes.
+ *
+ * <p>Cached values are shared by every reader within the request and must not be modified:
+ * lookups whose results callers may modify return copies of the cached values instead.
+ */
+public final class RequestCache {
+
+    private static final ThreadLocal<Map<String, Object>> THREAD_LOCAL = new ThreadLocal<>();
+
+    /**
+     * Stands in for a cached null, i.e. a lookup which found nothing.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private RequestCache() {
+        // utility class
+    }
+
+    /**
+     * Starts caching lookups made by the current thread.
+     */
+    public static void init() {
+        THREAD_LOCAL.set(new HashMap<>());
+    }
+
+    /**
+     * Stops caching lookups made by the current thread and discards all cached values.
+     */
+    public static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
+    /**
+     * Discards all cached values, e.g. after a write.
+     */
+    public static void invalidateAll() {
+        Map<String, Object> cache = THREAD_LOCAL.get();
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns true if a value (possibly null) is cached for the given key.
+     */
+    public static boolean contains(String namespace, String key) {
+        Map<String, Object> cache = THREAD_LOCAL.get();
+        return cache != null && cache.containsKey(toCacheKey(namespace, key));
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     *
+     * @return null if the cached value is null or if there is no cached value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String namespace, String key) {
+        Map<String, Object> cache = THREAD_LOCAL.get();
+        if (cache == null) {
+            return null;
+        }
+        Object value = cache.get(toCacheKey(namespace, key));
+        return value == NULL_VALUE ? null : (T) value;
+    }
+
+    /**
+     * Caches a value (possibly null) for the given key. Does nothing outside of a request.
+     */
+    public static void put(String namespace, String key, Object value) {
+        Map<String, Object> cache = THREAD_LOCAL.get();
+        if (cache != null) {
+            cache.put(toCacheKey(namespace, key), value == null ? NULL_VALUE : value);
+        }
+    }
+
+    /**
+     * Returns the value cached for the given key, loading and caching it first if there is none.
+     */
+    public static <T> T getOrLoad(String namespace, String key, Supplier<T> loader) {
+        if (contains(namespace, key)) {
+            return get(namespace, key);
+        }
+        T value = loader.get();
+        put(namespace, key, value);
+        return value;
+    }
+
+    private static String toCacheKey(String namespace, String key) {
+        return namespace + '|' + key;
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Callable;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -78,6 +79,23 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Wraps a task to be run on another thread as part of the current request,
+     * e.g. so that {@link #checkRemainingTime()} within the task checks the time left for the current request.
+     */
+    public static <T> Callable<T> withCurrentTrace(Callable<T> task) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return () -> {
+            RequestTrace traceOfThread = THREAD_LOCAL.get();
+            THREAD_LOCAL.set(trace);
+            try {
+                return task.call();
+            } finally {
+                THREAD_LOCAL.set(traceOfThread);
+            }
+        };
+    }
+
     private static class RequestTrace {
         private final String traceId;
         private final String spanId;
@@ -14,6 +14,7 @@ import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.NotificationTargetUser;
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
@@ -564,6 +565,45 @@ public class Logic {
         coursesLogic.deleteCourseCascade(courseId);
     }
 
+    /**
+     * Marks a course as being deleted, before its deletion in the background.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see CoursesLogic#startCourseDeletion(String)
+     */
+    public void startCourseDeletion(String courseId) {
+        assert courseId != null;
+        coursesLogic.startCourseDeletion(courseId);
+    }
+
+    /**
+     * Returns true if the course is being deleted.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public boolean isCourseDeletionInProgress(String courseId) {
+        assert courseId != null;
+        return coursesLogic.isCourseDeletionInProgress(courseId);
+    }
+
+    /**
+     * Deletes the next part of a course cascade, so that a large course can be deleted across several requests.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return true if no part of the course is left to be deleted
+     * @see CoursesLogic#deleteNextPartOfCourseCascade(String)
+     */
+    public boolean deleteNextPartOfCourseCascade(String courseId)
+            throws URISyntaxException, IOException, InterruptedException {
+        assert courseId != null;
+        return coursesLogic.deleteNextPartOfCourseCascade(courseId);
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      *
@@ -991,6 +1031,17 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets all feedback sessions of a course, including those in the Recycle Bin.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackSessionAttributes> getAllFeedbackSessionsForCourse(String courseId) {
+        assert courseId != null;
+        return feedbackSessionsLogic.getAllFeedbackSessionsForCourse(courseId);
+    }
+
     /**
      * Gets the expected number of submissions for a feedback session.
      *
@@ -1013,6 +1064,19 @@ public class Logic {
         return feedbackSessionsLogic.getActualTotalSubmission(fsa);
     }
 
+    /**
+     * Recounts the actual number of submissions for a feedback session from its responses.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the actual number of submissions
+     */
+    public int reconcileActualTotalSubmission(FeedbackSessionAttributes fsa) {
+        assert fsa != null;
+        return feedbackSessionsLogic.reconcileActualTotalSubmission(fsa);
+    }
+
     /**
      * Gets a list of feedback sessions for instructors.
      */
@@ -1278,6 +1342,81 @@ public class Logic {
                 feedbackSessionName, courseId, userEmail, questionId, section, fetchType);
     }
 
+    /**
+     * Gets the session result of some responses to a question for an instructor.
+     *
+     * @see FeedbackResponsesLogic#getSessionResultsForResponsesOfQuestion(
+     * String, String, String, FeedbackQuestionAttributes, List, String, FeedbackResultFetchType)
+     */
+    public SessionResultsBundle getSessionResultsForResponsesOfQuestion(
+            String feedbackSessionName, String courseId, String instructorEmail, FeedbackQuestionAttributes question,
+            List<FeedbackResponseAttributes> responses,
+            @Nullable String section, @Nullable FeedbackResultFetchType fetchType) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert instructorEmail != null;
+        assert question != null;
+        assert responses != null;
+
+        return feedbackResponsesLogic.getSessionResultsForResponsesOfQuestion(
+                feedbackSessionName, courseId, instructorEmail, question, responses, section, fetchType);
+    }
+
+    /**
+     * Gets a page of the responses for a question.
+     *
+     * @see FeedbackResponsesLogic#getFeedbackResponsesForQuestionInPage(String, String, int)
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInPage(
+            String feedbackQuestionId, @Nullable String pageToken, int pageSize) {
+        assert feedbackQuestionId != null;
+
+        return feedbackResponsesLogic.getFeedbackResponsesForQuestionInPage(feedbackQuestionId, pageToken, pageSize);
+    }
+
+    /**
+     * Gets the number of responses for a question.
+     */
+    public int getNumFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        assert feedbackQuestionId != null;
+
+        return feedbackResponsesLogic.getNumFeedbackResponsesForQuestion(feedbackQuestionId);
+    }
+
+    /**
+     * Takes results snapshots of the questions of a session which do not have fresh snapshots.
+     *
+     * @see FeedbackResponsesLogic#takeResultsSnapshotsForSession(String, String)
+     */
+    public int takeResultsSnapshotsForSession(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackResponsesLogic.takeResultsSnapshotsForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Requests for the results snapshots of a session to be taken, unless a request for them is already pending.
+     *
+     * @see FeedbackResponsesLogic#requestResultsSnapshotsForSession(String, String)
+     */
+    public boolean requestResultsSnapshotsForSession(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackResponsesLogic.requestResultsSnapshotsForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Returns true if all questions of a session have fresh results snapshots.
+     */
+    public boolean hasFreshResultsSnapshotsForSession(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackResponsesLogic.hasFreshResultsSnapshotsForSession(feedbackSessionName, courseId);
+    }
+
     /**
      * Gets the session result for a feedback session for the given user.
      *
@@ -1339,6 +1478,26 @@ public class Logic {
         return feedbackResponsesLogic.createFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Deletes, creates and updates the responses of a submission, sending the writes to the database in bulk.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the created and updated responses
+     * @see FeedbackResponsesLogic#saveSubmittedFeedbackResponses(List, List, List)
+     */
+    public List<FeedbackResponseAttributes> saveSubmittedFeedbackResponses(
+            List<String> responseIdsToDelete, List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate) {
+        assert responseIdsToDelete != null;
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+
+        return feedbackResponsesLogic.saveSubmittedFeedbackResponses(
+                responseIdsToDelete, responsesToCreate, responsesToUpdate);
+    }
+
     public boolean hasResponsesForCourse(String courseId) {
         return feedbackResponsesLogic.hasResponsesForCourse(courseId);
     }
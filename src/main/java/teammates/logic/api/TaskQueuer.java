@@ -202,6 +202,33 @@ public class TaskQueuer {
         }
     }
 
+    /**
+     * Schedules for the deletion of the specified course, which is carried out one part at a time.
+     *
+     * @param courseId the ID of the course to delete
+     */
+    public void scheduleCourseDeletion(String courseId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        addTask(TaskQueue.COURSE_DELETION_QUEUE_NAME, TaskQueue.COURSE_DELETION_WORKER_URL, paramMap, null);
+    }
+
+    /**
+     * Schedules for the results snapshots of the specified session to be taken.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleSessionResultsSnapshot(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.SESSION_RESULTS_SNAPSHOT_QUEUE_NAME, TaskQueue.SESSION_RESULTS_SNAPSHOT_WORKER_URL,
+                paramMap, null);
+    }
+
     /**
      * Schedules for the search indexing of the instructor identified by {@code courseId} and {@code email}.
      *
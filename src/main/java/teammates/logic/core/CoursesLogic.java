@@ -1,47 +1,37 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.eclipse.jetty.http.HttpParser.HttpHandler;
-import org.json.JSONObject;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpRequest.BodyPublishers;
-import java.net.http.HttpResponse.BodyHandlers;
-
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
-import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
+import teammates.storage.api.CourseService;
+import teammates.storage.api.CourseDeletionsDb;
+import teammates.storage.api.CourseServiceClient;
 import teammates.storage.api.CoursesDb;
-import teammates.storage.entity.Course;
+import teammates.storage.api.EmbeddedCourseService;
 
 /**
  * Handles operations related to courses.
  *
  * @see CourseAttributes
- * @see CoursesDb
+ * @see CourseService
  */
 public final class CoursesLogic {
 
@@ -57,8 +47,14 @@ public final class CoursesLogic {
      * other entity types.
      */
 
+    private static final String COURSE_CACHE_NAMESPACE = "course";
+
     private final CoursesDb coursesDb = CoursesDb.inst();
 
+    private final CourseDeletionsDb courseDeletionsDb = CourseDeletionsDb.inst();
+
+    private final CourseService courseService;
+
     private AccountsLogic accountsLogic;
     private FeedbackSessionsLogic feedbackSessionsLogic;
     private FeedbackQuestionsLogic fqLogic;
@@ -69,7 +65,11 @@ public final class CoursesLogic {
     private DeadlineExtensionsLogic deadlineExtensionsLogic;
 
     private CoursesLogic() {
-        // prevent initialization
+        if (Config.COURSES_SERVICE_EMBEDDED) {
+            courseService = EmbeddedCourseService.inst();
+        } else {
+            courseService = CourseServiceClient.inst();
+        }
     }
 
     public static CoursesLogic inst() {
@@ -98,52 +98,18 @@ public final class CoursesLogic {
         assert cd != null : "Trying to getCourseInstitute for inexistent course with id " + courseId;
         return cd.getInstitute();
     }
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método CreateCourse ///////////////////////////////
+
     /**
      * Creates a course.
      *
      * @return the created course
      * @throws InvalidParametersException if the course is not valid
      * @throws EntityAlreadyExistsException if the course already exists in the database.
-     * @throws InterruptedException
-     * @throws IOException
      */
     CourseAttributes createCourse(CourseAttributes courseToCreate)
             throws InvalidParametersException, EntityAlreadyExistsException, URISyntaxException, IOException, InterruptedException {
-
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.registerModule(new JavaTimeModule());
-    // Convertir courseToCreate a JSON
-    String requestBody = objectMapper.writeValueAsString(courseToCreate);
-    // Enviar la solicitud HTTP POST
-    HttpRequest postRequest = HttpRequest.newBuilder()
-            .uri(new URI("http://34.171.169.145:5000/Courses"))
-            .header("Content-Type", "application/json")
-            .POST(BodyPublishers.ofString(requestBody))
-            .build();
-    HttpClient httpClient = HttpClient.newHttpClient();
-    HttpResponse<String> response = httpClient.send(postRequest, BodyHandlers.ofString());
-    // Parsear la respuesta JSON y crear un nuevo objeto CourseAttributes
-    JSONObject newCourse = new JSONObject(response.body().toString());
-
-    String idCourse = newCourse.getString("id");
-    String nameCourse = newCourse.getString("name");
-    String timeZoneCourse = newCourse.getString("timeZone");
-    String instituteCourse = newCourse.getString("institute");
-
-    CourseAttributes courseAttributes = CourseAttributes.builder(idCourse)
-                        .withName(nameCourse)
-                        .withTimezone(timeZoneCourse)
-                        .withInstitute(instituteCourse)
-                        .build();
-    // Retornar el objeto CourseAttributes recién creado
-    return courseAttributes;
+        return courseService.createCourse(courseToCreate);
     }
-    ///////////////////////////////// Nuevo método CreateCourse ///////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
     /**
      * Creates a course and an associated instructor for the course.
@@ -180,57 +146,22 @@ public final class CoursesLogic {
         }
     }
 
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método GetCourse //////////////////////////////////
     /**
      * Gets the course with the specified ID.
-     * @throws URISyntaxException
-     * @throws InterruptedException
-     * @throws IOException
+     *
+     * <p>The course is looked up at most once per request; see {@link RequestCache}.
+     * Each call returns a copy of the course, which the caller is free to modify.
      */
     public CourseAttributes getCourse(String courseId) throws URISyntaxException, IOException, InterruptedException {
-
-        HttpRequest get_request = HttpRequest.newBuilder()
-            .uri(new URI("http://34.171.169.145:5000/Course/"+courseId))
-            .build(); 
-
-        HttpClient httpClient = HttpClient.newHttpClient();
-        HttpResponse<String> response = httpClient.send(get_request, BodyHandlers.ofString());
-
-        JSONObject course = new JSONObject(response.body().toString());
-
-        String idCourse = course.getString("id");
-        String nameCourse = course.getString("name");
-        String timeZoneCourse = course.getString("timeZone");
-        String instituteCourse = course.getString("institute");
-        String createdAt = course.getString("createdAt");
-
-        Instant createdAtCourse = Instant.parse(createdAt.substring(0,22) + "Z");
-        
-        Instant deletedAtCourse;
-        if (course.isNull("deletedAt")){
-            deletedAtCourse = null;
-        }
-        else {
-            String deletedAt = course.getString("deletedAt");
-            deletedAtCourse = Instant.parse(deletedAt.substring(0,22) + "Z");
+        CourseAttributes course;
+        if (RequestCache.contains(COURSE_CACHE_NAMESPACE, courseId)) {
+            course = RequestCache.get(COURSE_CACHE_NAMESPACE, courseId);
+        } else {
+            course = courseService.getCourse(courseId);
+            RequestCache.put(COURSE_CACHE_NAMESPACE, courseId, course);
         }
-
-        CourseAttributes courseAttributes = CourseAttributes.builder(idCourse)
-                        .withName(nameCourse)
-                        .withTimezone(timeZoneCourse)
-                        .withInstitute(instituteCourse)
-                        .build();
-        
-        courseAttributes.setDeletedAt(deletedAtCourse);
-        courseAttributes.setCreatedAt(createdAtCourse);
-        
-        return courseAttributes;
+        return course == null ? null : course.getCopy();
     }
-    ///////////////////////////////// Nuevo método GetCourse //////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
     /**
      * Returns true if the course with ID courseId is present.
@@ -265,19 +196,12 @@ public final class CoursesLogic {
     public List<String> getSectionsNameForCourse(String courseId) throws EntityDoesNotExistException, URISyntaxException, IOException, InterruptedException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
-        Set<String> sectionNameSet = new HashSet<>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!Const.DEFAULT_SECTION.equals(sd.getSection())) {
-                sectionNameSet.add(sd.getSection());
-            }
-        }
-
-        List<String> sectionNameList = new ArrayList<>(sectionNameSet);
-        sectionNameList.sort(null);
-
-        return sectionNameList;
+        return studentsLogic.getSectionNamesForCourse(courseId)
+                .stream()
+                .filter(sectionName -> !Const.DEFAULT_SECTION.equals(sectionName))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
     }
 
     /**
@@ -295,9 +219,8 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        return studentsLogic.getStudentsForCourse(courseId)
+        return studentsLogic.getTeamNamesForCourse(courseId)
                 .stream()
-                .map(StudentAttributes::getTeam)
                 .distinct()
                 .sorted()
                 .collect(Collectors.toList());
@@ -318,10 +241,8 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        return studentsLogic.getStudentsForCourse(courseId)
+        return studentsLogic.getTeamNamesForSection(sectionName, courseId)
                 .stream()
-                .filter(studentAttributes -> studentAttributes.getSection().equals(sectionName))
-                .map(StudentAttributes::getTeam)
                 .distinct()
                 .sorted()
                 .collect(Collectors.toList());
@@ -331,62 +252,51 @@ public final class CoursesLogic {
      * Returns a list of {@link CourseAttributes} for all courses a given student is enrolled in.
      *
      * @param googleId The Google ID of the student
-     * @throws InterruptedException
-     * @throws IOException
-     * @throws URISyntaxException
      */
     public List<CourseAttributes> getCoursesForStudentAccount(String googleId) throws URISyntaxException, IOException, InterruptedException {
         List<StudentAttributes> studentDataList = studentsLogic.getStudentsForGoogleId(googleId);
 
         List<String> courseIds = studentDataList.stream()
-                .filter(student -> {
-                    try {
-                        try {
-                            return !getCourse(student.getCourse()).isCourseDeleted();
-                        } catch (IOException e) {
-                            // TODO Auto-generated catch block
-                            e.printStackTrace();
-                        } catch (InterruptedException e) {
-                            // TODO Auto-generated catch block
-                            e.printStackTrace();
-                        }
-                    } catch (URISyntaxException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                    return false;
-                })
                 .map(StudentAttributes::getCourse)
                 .collect(Collectors.toList());
-        return getCourses(courseIds);
+
+        return excludeCoursesBeingDeleted(getCourses(courseIds))
+                .stream()
+                .filter(course -> !course.isCourseDeleted())
+                .collect(Collectors.toList());
     }
 
     /**
      * Returns a list of {@link CourseAttributes} for all courses for a given list of instructors
      * except for courses in Recycle Bin.
-     * @throws InterruptedException
-     * @throws IOException
-     * @throws URISyntaxException
      */
     public List<CourseAttributes> getCoursesForInstructor(List<InstructorAttributes> instructorList) throws URISyntaxException, IOException, InterruptedException {
         assert instructorList != null;
 
+        return getCoursesForInstructors(instructorList)
+                .stream()
+                .filter(course -> !course.isCourseDeleted())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a list of {@link CourseAttributes} for soft-deleted courses for a given list of instructors.
+     */
+    public List<CourseAttributes> getSoftDeletedCoursesForInstructors(List<InstructorAttributes> instructorList) throws URISyntaxException, IOException, InterruptedException {
+        assert instructorList != null;
+
+        return getCoursesForInstructors(instructorList)
+                .stream()
+                .filter(CourseAttributes::isCourseDeleted)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the courses of all given instructors, both soft-deleted and not, fetched in a single batch.
+     */
+    private List<CourseAttributes> getCoursesForInstructors(List<InstructorAttributes> instructorList)
+            throws URISyntaxException, IOException, InterruptedException {
         List<String> courseIdList = instructorList.stream()
-                .filter(instructor -> {
-                    try {
-                        return !getCourse(instructor.getCourseId()).isCourseDeleted();
-                    } catch (URISyntaxException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    } catch (IOException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    } catch (InterruptedException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                    return false;
-                })
                 .map(InstructorAttributes::getCourseId)
                 .collect(Collectors.toList());
 
@@ -401,54 +311,20 @@ public final class CoursesLogic {
                     + courseIdList.toString());
         }
 
-        return courseList;
+        return excludeCoursesBeingDeleted(courseList);
     }
 
-    /**
-     * Returns a list of {@link CourseAttributes} for soft-deleted courses for a given list of instructors.
-     * @throws InterruptedException
-     * @throws IOException
-     * @throws URISyntaxException
-     */
-    public List<CourseAttributes> getSoftDeletedCoursesForInstructors(List<InstructorAttributes> instructorList) throws URISyntaxException, IOException, InterruptedException {
-        assert instructorList != null;
-
-        List<String> softDeletedCourseIdList = instructorList.stream()
-
-                .filter(instructor -> {
-                    try {
-                        return getCourse(instructor.getCourseId()).isCourseDeleted();
-                    } catch (URISyntaxException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    } catch (IOException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    } catch (InterruptedException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                    return false;
-                })
-                .map(InstructorAttributes::getCourseId)
-                .collect(Collectors.toList());
-
-        List<CourseAttributes> softDeletedCourseList = getCourses(softDeletedCourseIdList);
-
-        if (softDeletedCourseIdList.size() > softDeletedCourseList.size()) {
-            for (CourseAttributes ca : softDeletedCourseList) {
-                softDeletedCourseIdList.remove(ca.getId());
-            }
-            log.severe("Course(s) was deleted but the instructor still exists: " + System.lineSeparator()
-                    + softDeletedCourseIdList.toString());
+    private List<CourseAttributes> excludeCoursesBeingDeleted(List<CourseAttributes> courses) {
+        Set<String> courseIdsBeingDeleted = courseDeletionsDb.getCourseIdsWithDeletionInProgress(
+                courses.stream().map(CourseAttributes::getId).collect(Collectors.toList()));
+        if (courseIdsBeingDeleted.isEmpty()) {
+            return courses;
         }
-
-        return softDeletedCourseList;
+        return courses.stream()
+                .filter(course -> !courseIdsBeingDeleted.contains(course.getId()))
+                .collect(Collectors.toList());
     }
 
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método UpdateCourse ///////////////////////////////
     /**
      * Updates a course by {@link CourseAttributes.UpdateOptions}.
      *
@@ -457,62 +333,18 @@ public final class CoursesLogic {
      * @return updated course
      * @throws InvalidParametersException if attributes to update are not valid
      * @throws EntityDoesNotExistException if the course cannot be found
-     * @throws InterruptedException
-     * @throws IOException
-     * @throws URISyntaxException
      */
     public CourseAttributes updateCourseCascade(CourseAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException, URISyntaxException, IOException, InterruptedException {
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-
-        CourseAttributes courseToUpdate = getCourse(updateOptions.getCourseId());
-        courseToUpdate.update(updateOptions);
-        // Convertir courseToCreate a JSON
-        String requestBody = objectMapper.writeValueAsString(courseToUpdate);
-        // Enviar la solicitud HTTP PUT
-        HttpRequest putRequest = HttpRequest.newBuilder()
-            .uri(new URI("http://34.171.169.145:5000/Course/"+updateOptions.getCourseId()))
-            .header("Content-Type", "application/json")
-            .PUT(BodyPublishers.ofString(requestBody))
-            .build();
-        HttpClient httpClient = HttpClient.newHttpClient();
-        HttpResponse<String> response = httpClient.send(putRequest, BodyHandlers.ofString());
-        // Parsear la respuesta JSON y crear un nuevo objeto CourseAttributes
-        JSONObject updatedCourse = new JSONObject(response.body().toString());
-
-        String idCourse = updatedCourse.getString("id");
-        String nameCourse = updatedCourse.getString("name");
-        String timeZoneCourse = updatedCourse.getString("timeZone");
-        String instituteCourse = updatedCourse.getString("institute");
-        String createdAt = updatedCourse.getString("createdAt");
-
-        Instant createdAtCourse = Instant.parse(createdAt.substring(0,22) + "Z");
-        
-        Instant deletedAtCourse;
-        if (updatedCourse.isNull("deletedAt")){
-            deletedAtCourse = null;
+        // not taken from the request cache, as it is modified below
+        CourseAttributes courseToUpdate = courseService.getCourse(updateOptions.getCourseId());
+        if (courseToUpdate == null) {
+            throw new EntityDoesNotExistException("Trying to update non-existent course: " + updateOptions.getCourseId());
         }
-        else {
-            String deletedAt = updatedCourse.getString("deletedAt");
-            deletedAtCourse = Instant.parse(deletedAt.substring(0,22) + "Z");
-        }
-
-        CourseAttributes courseAttributes = CourseAttributes.builder(idCourse)
-                        .withName(nameCourse)
-                        .withTimezone(timeZoneCourse)
-                        .withInstitute(instituteCourse)
-                        .build();
-        
-        courseAttributes.setDeletedAt(deletedAtCourse);
-        courseAttributes.setCreatedAt(createdAtCourse);
+        courseToUpdate.update(updateOptions);
 
-        return courseAttributes;
+        return courseService.updateCourse(courseToUpdate);
     }
-    ///////////////////////////////// Nuevo método UpdateCourse ///////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
     /**
      * Deletes a course cascade its students, instructors, sessions, responses, deadline extensions and comments.
@@ -524,6 +356,8 @@ public final class CoursesLogic {
      */
     public void deleteCourseCascade(String courseId) throws URISyntaxException, IOException, InterruptedException {
         if (getCourse(courseId) == null) {
+            // the course may have been deleted by an earlier attempt which failed to remove the mark
+            courseDeletionsDb.deleteMark(courseId);
             return;
         }
 
@@ -539,66 +373,69 @@ public final class CoursesLogic {
         deadlineExtensionsLogic.deleteDeadlineExtensions(query);
 
         deleteCourse(courseId);
+        courseDeletionsDb.deleteMark(courseId);
+    }
+
+    /**
+     * Marks a course as being deleted, before its deletion by {@link #deleteNextPartOfCourseCascade(String)}.
+     *
+     * <p>Until it is gone, the course is left out of the lists of courses of its students and instructors,
+     * and is not to be restored or edited. The mark is removed once the course is deleted.
+     */
+    public void startCourseDeletion(String courseId) {
+        courseDeletionsDb.markDeletionStarted(courseId);
+    }
+
+    /**
+     * Returns true if the course is being deleted.
+     *
+     * @see #startCourseDeletion(String)
+     */
+    public boolean isCourseDeletionInProgress(String courseId) {
+        return courseDeletionsDb.isDeletionInProgress(courseId);
+    }
+
+    /**
+     * Deletes the next part of a course cascade: one of its sessions cascade to the session's questions, responses,
+     * deadline extensions and comments or, if no session is left, the rest of the course
+     * as in {@link #deleteCourseCascade(String)}.
+     *
+     * <p>A part is deleted in full whenever its deletion is repeated, e.g. after it was interrupted,
+     * and the course itself is deleted last. The course can thus be deleted by a series of calls
+     * which are each retried until they succeed.
+     *
+     * @return true if no part of the course is left to be deleted
+     */
+    public boolean deleteNextPartOfCourseCascade(String courseId)
+            throws URISyntaxException, IOException, InterruptedException {
+        List<FeedbackSessionAttributes> sessions = feedbackSessionsLogic.getAllFeedbackSessionsForCourse(courseId);
+        if (sessions.isEmpty()) {
+            deleteCourseCascade(courseId);
+            log.info("Deleted course " + courseId);
+            return true;
+        }
+
+        String feedbackSessionName = sessions.get(0).getFeedbackSessionName();
+        feedbackSessionsLogic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        log.info(String.format("Deleted session %s of course %s; %d session(s) left to delete",
+                feedbackSessionName, courseId, sessions.size() - 1));
+        return false;
     }
 
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método SoftDeleteCourse ///////////////////////////
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * @return the time when the course is moved to the recycle bin
-     * @throws InterruptedException
-     * @throws IOException
-     * @throws URISyntaxException
      */
     public Instant moveCourseToRecycleBin(String courseId) throws EntityDoesNotExistException, IOException, InterruptedException, URISyntaxException {
-    ////////////////// Reemplazar este método por un método put que cambio el atributo deletedAt ////
-        String softDelete = "Softdelete";
-    
-        HttpRequest putRequest = HttpRequest.newBuilder()
-            .uri(new URI("http://34.171.169.145:5000/Softdelete/"+courseId))
-            .header("Content-Type", "application/json")
-            .PUT(BodyPublishers.ofString(softDelete))
-            .build();
-        HttpClient httpClient = HttpClient.newHttpClient();
-        HttpResponse<String> response = httpClient.send(putRequest, BodyHandlers.ofString());
-
-        String deletedAt = response.body().toString();
-        String deletedAtInstant = deletedAt.substring(1, 11) + "T" + deletedAt.substring(12, 23) + "Z";
-        System.out.println(deletedAt);
-        Instant deletedAtCourse = Instant.parse(deletedAtInstant);
-        return deletedAtCourse;
+        return courseService.softDeleteCourse(courseId);
     }
-    ///////////////////////////////// Nuevo método SoftDeleteCourse ///////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método RestoreCourse //////////////////////////////
     /**
      * Restores a course from Recycle Bin by its given corresponding ID.
-     * @throws URISyntaxException
-     * @throws InterruptedException
-     * @throws IOException
      */
     public void restoreCourseFromRecycleBin(String courseId) throws EntityDoesNotExistException, URISyntaxException, IOException, InterruptedException {
-    ////////////////// Reemplazar este método por un método put que cambio el atributo deletedAt ////
-        String restore = "Restore";
-    
-        HttpRequest putRequest = HttpRequest.newBuilder()
-            .uri(new URI("http://34.171.169.145:5000/Restore/"+courseId))
-            .header("Content-Type", "application/json")
-            .PUT(BodyPublishers.ofString(restore))
-            .build();
-        HttpClient httpClient = HttpClient.newHttpClient();
-        HttpResponse<String> response = httpClient.send(putRequest, BodyHandlers.ofString());
-
-        System.out.println(response);
+        courseService.restoreDeletedCourse(courseId);
     }
-    ///////////////////////////////// Nuevo método RestoreCourse //////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
 
     /**
@@ -610,41 +447,24 @@ public final class CoursesLogic {
     /////////////////////////// Debe retornar un int con el número de cursos creados dentro de startTime y endTime //////////
     }
 
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método getCourses /////////////////////////////////
-
+    /**
+     * Gets a list of courses in a single request to the Courses service.
+     *
+     * <p>Courses that do not exist are omitted from the result.
+     */
     public List<CourseAttributes> getCourses(List<String> courseIds) throws URISyntaxException, IOException, InterruptedException {
+        assert courseIds != null;
 
-        List<CourseAttributes> coursesList = new ArrayList<>();
-
-        for (int i = 0; i<courseIds.size(); i++){
-            CourseAttributes course = getCourse(courseIds.get(i));
-            coursesList.add(course);
-        }    
-        return coursesList;
+        return courseService.getCourses(courseIds);
     }
-    ///////////////////////////////// Nuevo método getCourses /////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////// Nuevo método DeleteCourse ///////////////////////////////
+    /**
+     * Deletes a course.
+     *
+     * <p>The students, instructors, sessions etc. of the course are not deleted.
+     */
     public void deleteCourse(String courseId) throws URISyntaxException, IOException, InterruptedException {
-        
-        HttpRequest delete_request = HttpRequest.newBuilder()
-            .uri(new URI("http://34.171.169.145:5000/Course/"+courseId))
-            .DELETE()
-            .build(); 
-
-        HttpClient httpClient = HttpClient.newHttpClient();
-        HttpResponse<String> response = httpClient.send(delete_request, BodyHandlers.ofString());
-
-        System.out.print(response);
+        courseService.deleteCourse(courseId);
     }
-    ///////////////////////////////// Nuevo método DeleteCourse ///////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
-    ///////////////////////////////////////////////////////////////////////////////////////////
 
 }
\ No newline at end of file
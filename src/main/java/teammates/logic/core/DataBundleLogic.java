@@ -30,6 +30,7 @@ import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.AccountRequestsDb;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.CourseDeletionsDb;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.DeadlineExtensionsDb;
 import teammates.storage.api.FeedbackQuestionsDb;
@@ -52,6 +53,7 @@ public final class DataBundleLogic {
     private final AccountsDb accountsDb = AccountsDb.inst();
     private final AccountRequestsDb accountRequestsDb = AccountRequestsDb.inst();
     private final CoursesDb coursesDb = CoursesDb.inst();
+    private final CourseDeletionsDb courseDeletionsDb = CourseDeletionsDb.inst();
     private final DeadlineExtensionsDb deadlineExtensionsDb = DeadlineExtensionsDb.inst();
     private final StudentsDb studentsDb = StudentsDb.inst();
     private final InstructorsDb instructorsDb = InstructorsDb.inst();
@@ -408,6 +410,7 @@ public final class DataBundleLogic {
                 deadlineExtensionsDb.deleteDeadlineExtensions(query);
 
                 coursesDb.deleteCourse(courseId);
+                courseDeletionsDb.deleteMark(courseId);
             });
         }
     }
@@ -3,6 +3,7 @@ package teammates.logic.core;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -142,6 +143,24 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForQuestionInSection(questionId, section);
     }
 
+    /**
+     * Gets the comments of the given responses, in one read of the comments in the range of the IDs
+     * of the responses to each of their questions.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Set<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
+    /**
+     * Gets the comments of the given responses of a feedback question, in one read of the comments in the range
+     * of the IDs of the responses.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponsesOfQuestion(
+            String questionId, Set<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponsesOfQuestion(questionId, feedbackResponseIds);
+    }
+
     /**
      * Updates all email fields of feedback response comments with the new email.
      */
@@ -183,6 +202,17 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.updateFeedbackResponseComment(updateOptions);
     }
 
+    /**
+     * Updates feedback response comments in bulk by {@link FeedbackResponseCommentAttributes.UpdateOptions}.
+     *
+     * @throws InvalidParametersException if attributes to update are not valid
+     */
+    public void updateFeedbackResponseComments(
+            Collection<FeedbackResponseCommentAttributes.UpdateOptions> updateOptionsList)
+            throws InvalidParametersException {
+        frcDb.updateFeedbackResponseComments(updateOptionsList);
+    }
+
     /**
      * Gets all comments given by a user in a course.
      */
@@ -198,6 +228,13 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseComment(commentId);
     }
 
+    /**
+     * Deletes the comments with the given IDs.
+     */
+    public void deleteFeedbackResponseCommentsByIds(Collection<Long> commentIds) {
+        frcDb.deleteFeedbackResponseCommentsByIds(commentIds);
+    }
+
     /**
      * Deletes comments using {@link AttributesDeletionQuery}.
      */
@@ -289,82 +326,9 @@ public final class FeedbackResponseCommentsLogic {
             return false;
         }
 
-        boolean isVisibilityFollowingFeedbackQuestion = relatedComment.isVisibilityFollowingFeedbackQuestion();
-        boolean isVisibleToGiver = isVisibilityFollowingFeedbackQuestion
-                                 || relatedComment.isVisibleTo(FeedbackParticipantType.GIVER);
-
-        boolean isVisibleToUser = isVisibleToUser(userEmail, response, relatedQuestion, relatedComment,
-                isVisibleToGiver, isInstructor, !isInstructor);
-
-        boolean isVisibleToUserTeam = isVisibleToUserTeam(student, studentsEmailInTeam, response,
-                relatedQuestion, relatedComment, !isInstructor);
-
-        return isVisibleToUser || isVisibleToUserTeam;
-    }
-
-    private boolean isVisibleToUserTeam(StudentAttributes student, Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response, FeedbackQuestionAttributes relatedQuestion,
-            FeedbackResponseCommentAttributes relatedComment, boolean isUserStudent) {
-
-        boolean isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipients =
-                isUserStudent
-                && relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                && isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                              FeedbackParticipantType.RECEIVER)
-                && response.getRecipient().equals(student.getTeam());
-
-        boolean isUserInResponseGiverTeamAndRelatedResponseCommentVisibleToGiversTeamMembers =
-                (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                || isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                              FeedbackParticipantType.OWN_TEAM_MEMBERS))
-                && (studentsEmailInTeam.contains(response.getGiver())
-                        || isUserStudent && student.getTeam().equals(response.getGiver()));
-
-        boolean isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipientsTeamMembers =
-                isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                           FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                && studentsEmailInTeam.contains(response.getRecipient());
-
-        return isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipients
-                || isUserInResponseGiverTeamAndRelatedResponseCommentVisibleToGiversTeamMembers
-                || isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipientsTeamMembers;
-    }
-
-    private boolean isVisibleToUser(String userEmail, FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, FeedbackResponseCommentAttributes relatedComment,
-            boolean isVisibleToGiver, boolean isUserInstructor, boolean isUserStudent) {
-
-        boolean isUserInstructorAndRelatedResponseCommentVisibleToInstructors =
-                isUserInstructor && isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                                               FeedbackParticipantType.INSTRUCTORS);
-
-        boolean isUserResponseRecipientAndRelatedResponseCommentVisibleToRecipients =
-                response.getRecipient().equals(userEmail) && isResponseCommentVisibleTo(relatedQuestion,
-                        relatedComment, FeedbackParticipantType.RECEIVER);
-
-        boolean isUserResponseGiverAndRelatedResponseCommentVisibleToGivers =
-                response.getGiver().equals(userEmail) && isVisibleToGiver;
-
-        boolean isUserRelatedResponseCommentGiver = relatedComment.getCommentGiver().equals(userEmail);
-
-        boolean isUserStudentAndRelatedResponseCommentVisibleToStudents =
-                isUserStudent && isResponseCommentVisibleTo(relatedQuestion,
-                        relatedComment, FeedbackParticipantType.STUDENTS);
-
-        return isUserInstructorAndRelatedResponseCommentVisibleToInstructors
-                || isUserResponseRecipientAndRelatedResponseCommentVisibleToRecipients
-                || isUserResponseGiverAndRelatedResponseCommentVisibleToGivers
-                || isUserRelatedResponseCommentGiver
-                || isUserStudentAndRelatedResponseCommentVisibleToStudents;
-    }
-
-    private boolean isResponseCommentVisibleTo(FeedbackQuestionAttributes relatedQuestion,
-                                               FeedbackResponseCommentAttributes relatedComment,
-                                               FeedbackParticipantType viewerType) {
-        boolean isVisibilityFollowingFeedbackQuestion = relatedComment.isVisibilityFollowingFeedbackQuestion();
-        return isVisibilityFollowingFeedbackQuestion
-                ? relatedQuestion.isResponseVisibleTo(viewerType)
-                : relatedComment.isVisibleTo(viewerType);
+        return QuestionVisibilityPolicy.compile(relatedQuestion).isCommentVisibleTo(
+                new ResultsViewer(userEmail, isInstructor, student, studentsEmailInTeam, null, null),
+                response, relatedComment);
     }
 
     private void verifyIsCoursePresent(String courseId) throws EntityDoesNotExistException, URISyntaxException, IOException, InterruptedException {
@@ -0,0 +1,223 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Logger;
+import teammates.storage.api.FeedbackSessionGiversDb;
+import teammates.storage.api.WriteBatch;
+
+/**
+ * Applies the changes to feedback responses and their comments caused by a change in the course roster,
+ * e.g. a student changing email, team or section, in bulk.
+ *
+ * <p>All changes are first recorded against the responses already loaded by the caller. When applied,
+ * the comments of all affected responses are read once per session, then the responses are updated or deleted
+ * in chunks of {@value #CHUNK_SIZE}: each chunk reads its responses in one batch and writes the responses
+ * and their comments in one {@link WriteBatch}, after which the progress is logged.
+ *
+ * <p>Chunks are written one after another; if one fails, the chunks before it remain applied.
+ * As the changes only move responses to their final state, cascading the same roster change again
+ * from freshly loaded responses completes it.
+ *
+ * <p>Once all chunks are applied, the sets of givers maintained for the sessions whose givers may have changed
+ * are dropped, to be rebuilt from the responses when next read.
+ */
+final class FeedbackResponsesBulkCascade {
+
+    /**
+     * Number of responses updated or deleted per chunk.
+     */
+    static final int CHUNK_SIZE = 100;
+
+    private static final Logger log = Logger.getLogger();
+
+    private final FeedbackResponsesLogic frLogic;
+    private final FeedbackResponseCommentsLogic frcLogic;
+    private final FeedbackSessionGiversDb fsGiversDb = FeedbackSessionGiversDb.inst();
+    private final String description;
+
+    private final Map<String, FeedbackResponseAttributes> affectedResponses = new LinkedHashMap<>();
+    private final Map<String, FeedbackResponseAttributes.UpdateOptions.Builder> updates = new LinkedHashMap<>();
+    private final Set<String> responseIdsToDelete = new LinkedHashSet<>();
+    private final Set<List<String>> sessionsWithChangedGivers = new LinkedHashSet<>();
+
+    private int numResponsesUpdated;
+    private int numResponsesDeleted;
+    private int numCommentsUpdated;
+    private int numCommentsDeleted;
+
+    /**
+     * Creates an empty cascade.
+     *
+     * @param description describes the roster change in the progress logs
+     */
+    FeedbackResponsesBulkCascade(FeedbackResponsesLogic frLogic, FeedbackResponseCommentsLogic frcLogic,
+            String description) {
+        this.frLogic = frLogic;
+        this.frcLogic = frcLogic;
+        this.description = description;
+    }
+
+    /**
+     * Changes the giver of the response.
+     */
+    FeedbackResponsesBulkCascade changeGiver(FeedbackResponseAttributes response, String newGiver) {
+        getUpdateOptionsBuilder(response).withGiver(newGiver);
+        sessionsWithChangedGivers.add(List.of(response.getCourseId(), response.getFeedbackSessionName()));
+        return this;
+    }
+
+    /**
+     * Changes the recipient of the response.
+     */
+    FeedbackResponsesBulkCascade changeRecipient(FeedbackResponseAttributes response, String newRecipient) {
+        getUpdateOptionsBuilder(response).withRecipient(newRecipient);
+        return this;
+    }
+
+    /**
+     * Changes the section of the giver of the response.
+     */
+    FeedbackResponsesBulkCascade changeGiverSection(FeedbackResponseAttributes response, String newGiverSection) {
+        getUpdateOptionsBuilder(response).withGiverSection(newGiverSection);
+        return this;
+    }
+
+    /**
+     * Changes the section of the recipient of the response.
+     */
+    FeedbackResponsesBulkCascade changeRecipientSection(FeedbackResponseAttributes response,
+            String newRecipientSection) {
+        getUpdateOptionsBuilder(response).withRecipientSection(newRecipientSection);
+        return this;
+    }
+
+    /**
+     * Deletes the response and its comments, overriding any change made to the response.
+     */
+    FeedbackResponsesBulkCascade delete(FeedbackResponseAttributes response) {
+        affectedResponses.put(response.getId(), response);
+        updates.remove(response.getId());
+        responseIdsToDelete.add(response.getId());
+        sessionsWithChangedGivers.add(List.of(response.getCourseId(), response.getFeedbackSessionName()));
+        return this;
+    }
+
+    private FeedbackResponseAttributes.UpdateOptions.Builder getUpdateOptionsBuilder(
+            FeedbackResponseAttributes response) {
+        // changes of a response to be deleted are not recorded; the builder is then discarded
+        if (responseIdsToDelete.contains(response.getId())) {
+            return FeedbackResponseAttributes.updateOptionsBuilder(response.getId());
+        }
+        affectedResponses.put(response.getId(), response);
+        return updates.computeIfAbsent(response.getId(), FeedbackResponseAttributes::updateOptionsBuilder);
+    }
+
+    /**
+     * Applies the recorded changes.
+     *
+     * @throws InvalidParametersException if a changed response or comment is not valid
+     * @throws EntityAlreadyExistsException if a response cannot be recreated with its new giver or recipient
+     *         because of an existent response
+     */
+    void apply() throws InvalidParametersException, EntityAlreadyExistsException {
+        if (affectedResponses.isEmpty()) {
+            return;
+        }
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponse = getCommentsOfAffectedResponses();
+
+        List<String> responseIds = new ArrayList<>(updates.keySet());
+        responseIds.addAll(responseIdsToDelete);
+        for (int start = 0; start < responseIds.size(); start += CHUNK_SIZE) {
+            List<String> chunk = responseIds.subList(start, Math.min(start + CHUNK_SIZE, responseIds.size()));
+            try (WriteBatch batch = WriteBatch.begin()) {
+                applyChunk(chunk, commentsByResponse);
+                batch.commit();
+            }
+            log.info(String.format("Cascading %s: %d/%d responses done (%d updated, %d deleted; "
+                    + "%d comments updated, %d deleted)", description, start + chunk.size(), responseIds.size(),
+                    numResponsesUpdated, numResponsesDeleted, numCommentsUpdated, numCommentsDeleted));
+        }
+
+        for (List<String> session : sessionsWithChangedGivers) {
+            fsGiversDb.deleteGivers(session.get(0), session.get(1));
+        }
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> getCommentsOfAffectedResponses() {
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponse = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment
+                : frcLogic.getFeedbackResponseCommentsForResponses(affectedResponses.keySet())) {
+            commentsByResponse.computeIfAbsent(comment.getFeedbackResponseId(), id -> new ArrayList<>())
+                    .add(comment);
+        }
+        return commentsByResponse;
+    }
+
+    private void applyChunk(List<String> responseIds,
+            Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponse)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        List<FeedbackResponseAttributes.UpdateOptions> responseUpdates = new ArrayList<>();
+        List<String> responsesToDelete = new ArrayList<>();
+        for (String responseId : responseIds) {
+            if (responseIdsToDelete.contains(responseId)) {
+                responsesToDelete.add(responseId);
+            } else {
+                responseUpdates.add(updates.get(responseId).build());
+            }
+        }
+
+        Map<String, FeedbackResponseAttributes> updatedResponses =
+                frLogic.updateFeedbackResponsesWithoutCascade(responseUpdates);
+        List<FeedbackResponseCommentAttributes.UpdateOptions> commentUpdates = new ArrayList<>();
+        updatedResponses.forEach((oldResponseId, newResponse) -> {
+            for (FeedbackResponseCommentAttributes comment : commentsByResponse.getOrDefault(oldResponseId, List.of())) {
+                commentUpdates.add(FeedbackResponseCommentAttributes.updateOptionsBuilder(comment.getId())
+                        .withFeedbackResponseId(newResponse.getId())
+                        .withGiverSection(newResponse.getGiverSection())
+                        .withReceiverSection(newResponse.getRecipientSection())
+                        .build());
+            }
+        });
+        frcLogic.updateFeedbackResponseComments(commentUpdates);
+        numResponsesUpdated += updatedResponses.size();
+        numCommentsUpdated += commentUpdates.size();
+
+        List<Long> commentIdsToDelete = responsesToDelete.stream()
+                .flatMap(responseId -> commentsByResponse.getOrDefault(responseId, List.of()).stream())
+                .map(FeedbackResponseCommentAttributes::getId)
+                .collect(Collectors.toList());
+        frcLogic.deleteFeedbackResponseCommentsByIds(commentIdsToDelete);
+        frLogic.deleteFeedbackResponsesByIdsWithoutCascade(responsesToDelete);
+        numResponsesDeleted += responsesToDelete.size();
+        numCommentsDeleted += commentIdsToDelete.size();
+    }
+
+    int getNumResponsesUpdated() {
+        return numResponsesUpdated;
+    }
+
+    int getNumResponsesDeleted() {
+        return numResponsesDeleted;
+    }
+
+    int getNumCommentsUpdated() {
+        return numCommentsUpdated;
+    }
+
+    int getNumCommentsDeleted() {
+        return numCommentsDeleted;
+    }
+
+}
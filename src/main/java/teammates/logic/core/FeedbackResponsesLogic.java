@@ -9,6 +9,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -16,6 +22,7 @@ import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -28,9 +35,14 @@ import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
-import teammates.common.util.Const;
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.common.util.RequestTracer;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackResultsSnapshotsDb;
+import teammates.storage.api.FeedbackSessionGiversDb;
+import teammates.storage.api.WriteBatch;
 
 /**
  * Handles operations related to feedback responses.
@@ -40,17 +52,43 @@ import teammates.storage.api.FeedbackResponsesDb;
  */
 public final class FeedbackResponsesLogic {
 
-    private static final FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
+    private static final Logger log = Logger.getLogger();
+
+    private static final FeedbackResponsesLogic instance =
+            new FeedbackResponsesLogic(MIN_ITEMS_TO_BUILD_RESULTS_IN_PARALLEL);
+
+    private static final String COURSE_ROSTER_CACHE_NAMESPACE = "course-roster";
+
+    /**
+     * Minimum number of responses and comments for the results of their questions to be built in parallel.
+     */
+    private static final int MIN_ITEMS_TO_BUILD_RESULTS_IN_PARALLEL = 1000;
+
+    private static final ExecutorService RESULTS_BUILD_EXECUTOR = Config.RESULTS_BUILD_PARALLELISM > 1
+            ? Executors.newFixedThreadPool(Config.RESULTS_BUILD_PARALLELISM, runnable -> {
+                Thread thread = new Thread(runnable, "results-builder");
+                thread.setDaemon(true);
+                return thread;
+            })
+            : null;
 
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
+    private final FeedbackSessionGiversDb fsGiversDb = FeedbackSessionGiversDb.inst();
+    private final FeedbackResultsSnapshotsDb snapshotsDb = FeedbackResultsSnapshotsDb.inst();
 
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponseCommentsLogic frcLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
-    private FeedbackResponsesLogic() {
-        // prevent initialization
+    private final int minItemsToBuildResultsInParallel;
+
+    /**
+     * Creates an instance building the results of questions in parallel from the given number of responses
+     * and comments; other than the shared instance, only used in tests.
+     */
+    FeedbackResponsesLogic(int minItemsToBuildResultsInParallel) {
+        this.minItemsToBuildResultsInParallel = minItemsToBuildResultsInParallel;
     }
 
     public static FeedbackResponsesLogic inst() {
@@ -71,6 +109,66 @@ public final class FeedbackResponsesLogic {
         return frDb.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
     }
 
+    /**
+     * Gets the number of givers that have at least one response under a feedback session.
+     *
+     * <p>The number is read from the set of givers maintained for the session, which is first built
+     * from the responses if it is not maintained yet.
+     */
+    public int getNumGiversThatAnswerFeedbackSession(String courseId, String feedbackSessionName) {
+        Integer numGivers = fsGiversDb.getNumGivers(courseId, feedbackSessionName);
+        if (numGivers != null) {
+            return numGivers;
+        }
+        return reconcileGiversThatAnswerFeedbackSession(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Rebuilds the set of givers maintained for a feedback session from its responses,
+     * correcting any drift of the set.
+     *
+     * @return the number of givers that have at least one response under the session
+     */
+    public int reconcileGiversThatAnswerFeedbackSession(String courseId, String feedbackSessionName) {
+        Instant readAt = Instant.now();
+        Set<String> givers = frDb.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+        fsGiversDb.putGivers(courseId, feedbackSessionName, givers, readAt);
+        return givers.size();
+    }
+
+    /**
+     * Adds the givers to, or removes them from, the set of givers maintained for a feedback session,
+     * depending on whether they still have any response under the session.
+     *
+     * <p>This is done once the {@link WriteBatch} open in the current thread, if any, is committed,
+     * so that the responses are queried after the writes of the batch are done.
+     */
+    private void refreshGiversThatAnswerFeedbackSession(
+            String courseId, String feedbackSessionName, Collection<String> givers) {
+        WriteBatch.runAfterCommit(() -> {
+            for (String giver : givers) {
+                if (frDb.hasResponsesFromGiverInSession(giver, feedbackSessionName, courseId)) {
+                    fsGiversDb.addGiver(courseId, feedbackSessionName, giver);
+                } else {
+                    fsGiversDb.removeGiver(courseId, feedbackSessionName, giver);
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds the givers of new responses to the set of givers maintained for a feedback session,
+     * once the {@link WriteBatch} open in the current thread, if any, is committed.
+     */
+    private void addGiversThatAnswerFeedbackSession(
+            String courseId, String feedbackSessionName, Collection<String> givers) {
+        WriteBatch.runAfterCommit(() -> {
+            for (String giver : givers) {
+                fsGiversDb.addGiver(courseId, feedbackSessionName, giver);
+            }
+        });
+    }
+
     /**
      * Creates a feedback response.
      *
@@ -80,7 +178,72 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        addGiversThatAnswerFeedbackSession(createdResponse.getCourseId(), createdResponse.getFeedbackSessionName(),
+                List.of(createdResponse.getGiver()));
+        return createdResponse;
+    }
+
+    /**
+     * Deletes, creates and updates the responses of a submission, sending the writes to the database in bulk.
+     *
+     * <p>The responses are expected to have been validated; any response which still fails to be
+     * created or updated is logged and left out of the result.
+     *
+     * <p>The sets of givers maintained for the sessions are updated once the writes are done,
+     * only for the givers of the created and deleted responses, whose presence in the sets may change.
+     *
+     * @return the created and updated responses
+     */
+    public List<FeedbackResponseAttributes> saveSubmittedFeedbackResponses(
+            List<String> responseIdsToDelete, List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate) {
+        List<FeedbackResponseAttributes> savedResponses = new ArrayList<>();
+        Map<List<String>, Set<String>> giversOfDeletedResponsesBySession = new HashMap<>();
+        Map<List<String>, Set<String>> giversOfCreatedResponsesBySession = new HashMap<>();
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            for (String responseId : responseIdsToDelete) {
+                FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
+                if (response != null) {
+                    addGiverOfSession(giversOfDeletedResponsesBySession, response);
+                }
+                deleteFeedbackResponseAndComments(responseId);
+            }
+
+            for (FeedbackResponseAttributes response : responsesToCreate) {
+                try {
+                    savedResponses.add(frDb.createEntity(response));
+                    addGiverOfSession(giversOfCreatedResponsesBySession, response);
+                } catch (InvalidParametersException | EntityAlreadyExistsException e) {
+                    log.severe("Encountered exception when creating response: " + e.getMessage(), e);
+                }
+            }
+
+            for (FeedbackResponseAttributes.UpdateOptions updateOptions : responsesToUpdate) {
+                try {
+                    savedResponses.add(updateFeedbackResponseCascade(updateOptions));
+                } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
+                    log.severe("Encountered exception when updating response: " + e.getMessage(), e);
+                }
+            }
+
+            giversOfDeletedResponsesBySession.forEach((session, givers) ->
+                    refreshGiversThatAnswerFeedbackSession(session.get(0), session.get(1), givers));
+            giversOfCreatedResponsesBySession.forEach((session, givers) ->
+                    addGiversThatAnswerFeedbackSession(session.get(0), session.get(1), givers));
+            batch.commit();
+        }
+
+        return savedResponses;
+    }
+
+    private static void addGiverOfSession(Map<List<String>, Set<String>> giversBySession,
+            FeedbackResponseAttributes response) {
+        giversBySession
+                .computeIfAbsent(List.of(response.getCourseId(), response.getFeedbackSessionName()),
+                        session -> new HashSet<>())
+                .add(response.getGiver());
     }
 
     /**
@@ -139,6 +302,24 @@ public final class FeedbackResponsesLogic {
         return frDb.areThereResponsesForQuestion(feedbackQuestionId);
     }
 
+    /**
+     * Gets a page of the responses for a question.
+     *
+     * @param pageToken the token of the page from {@link QueryPage#getNextPageToken()}, or null for the first page
+     * @throws IllegalArgumentException if the page token is not valid
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInPage(
+            String feedbackQuestionId, @Nullable String pageToken, int pageSize) {
+        return frDb.getFeedbackResponsesForQuestionInPage(feedbackQuestionId, pageToken, pageSize);
+    }
+
+    /**
+     * Gets the number of responses for a question.
+     */
+    public int getNumFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        return frDb.getNumFeedbackResponsesForQuestion(feedbackQuestionId);
+    }
+
     /**
      * Gets all responses given to/from a section for a question.
      *
@@ -220,81 +401,8 @@ public final class FeedbackResponsesLogic {
             return false;
         }
 
-        // Early return if user is giver
-        if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
-            // if response is given by team, then anyone in the team can see the response
-            if (roster.isStudentInTeam(userEmail, response.getGiver())) {
-                return true;
-            }
-        } else {
-            if (response.getGiver().equals(userEmail)) {
-                return true;
-            }
-        }
-
-        return isFeedbackParticipantNameVisibleToUser(question, response,
-                userEmail, isInstructor, isGiverName, roster);
-    }
-
-    private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
-            String userEmail, boolean isInstructor, boolean isGiverName, CourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = isGiverName
-                                                 ? question.getShowGiverNameTo()
-                                                 : question.getShowRecipientNameTo();
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null && isInstructor) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-                // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                // Response to team
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                    // Response to individual
-                } else if (response.getRecipient().equals(userEmail)) {
-                    return true;
-                } else {
-                    break;
-                }
-            case RECEIVER_TEAM_MEMBERS:
-                // Response to team; recipient = teamName
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                } else if (roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
-                    // Response to individual
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.isStudentInCourse(userEmail)) {
-                    return true;
-                }
-                break;
-            default:
-                assert false : "Invalid FeedbackParticipantType for showNameTo in "
-                        + "FeedbackResponseLogic.isFeedbackParticipantNameVisibleToUser()";
-                break;
-            }
-        }
-        return false;
+        return QuestionVisibilityPolicy.compile(question).isNameVisibleTo(
+                new ResultsViewer(userEmail, isInstructor, null, null, null, roster), response, isGiverName);
     }
 
     /**
@@ -341,43 +449,19 @@ public final class FeedbackResponsesLogic {
     }
 
     private SessionResultsBundle buildResultsBundle(
-            boolean isCourseWide, String feedbackSessionName, String courseId, String section, String questionId,
-            boolean isInstructor, String userEmail, InstructorAttributes instructor, StudentAttributes student,
+            boolean isCourseWide, String feedbackSessionName, String courseId, String section, boolean isInstructor,
+            String userEmail, InstructorAttributes instructor, StudentAttributes student,
             CourseRoster roster, List<FeedbackQuestionAttributes> allQuestions,
-            List<FeedbackResponseAttributes> allResponses, boolean isPreviewResults) {
-        Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
+            List<FeedbackResponseAttributes> allResponses, List<FeedbackResponseCommentAttributes> allComments,
+            boolean isPreviewResults) {
         Set<String> questionsNotVisibleToInstructors = new HashSet<>();
         for (FeedbackQuestionAttributes qn : allQuestions) {
-            allQuestionsMap.put(qn.getId(), qn);
-
             // set questions that should not be visible to instructors if results are being previewed
             if (isPreviewResults && !canInstructorsSeeQuestion(qn)) {
                 questionsNotVisibleToInstructors.add(qn.getId());
             }
         }
 
-        // load comment(s)
-        List<FeedbackResponseCommentAttributes> allComments;
-        if (questionId == null) {
-            allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
-        } else {
-            allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section);
-        }
-        RequestTracer.checkRemainingTime();
-
-        // related questions, responses, and comment
-        Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new HashMap<>();
-        Map<String, FeedbackQuestionAttributes> relatedQuestionsNotVisibleForPreviewMap = new HashMap<>();
-        Set<String> relatedQuestionsWithCommentNotVisibleForPreview = new HashSet<>();
-        Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
-        Map<String, List<FeedbackResponseCommentAttributes>> relatedCommentsMap = new HashMap<>();
-        if (isCourseWide) {
-            // all questions are related questions when viewing course-wide result
-            for (FeedbackQuestionAttributes qn : allQuestions) {
-                relatedQuestionsMap.put(qn.getId(), qn);
-            }
-        }
-
         Set<String> studentsEmailInTeam = new HashSet<>();
         if (student != null) {
             for (StudentAttributes studentInTeam
@@ -386,90 +470,193 @@ public final class FeedbackResponsesLogic {
             }
         }
 
+        // partition responses and comments by question, ignoring orphan responses without corresponding question
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion = new HashMap<>();
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByQuestion = new HashMap<>();
+        for (FeedbackQuestionAttributes qn : allQuestions) {
+            responsesByQuestion.put(qn.getId(), new ArrayList<>());
+            commentsByQuestion.put(qn.getId(), new ArrayList<>());
+        }
+        for (FeedbackResponseAttributes response : allResponses) {
+            List<FeedbackResponseAttributes> responsesOfQuestion = responsesByQuestion.get(response.getFeedbackQuestionId());
+            if (responsesOfQuestion != null) {
+                responsesOfQuestion.add(response);
+            }
+        }
+        for (FeedbackResponseCommentAttributes frc : allComments) {
+            List<FeedbackResponseCommentAttributes> commentsOfQuestion = commentsByQuestion.get(frc.getFeedbackQuestionId());
+            if (commentsOfQuestion != null) {
+                commentsOfQuestion.add(frc);
+            }
+        }
+
+        // the viewer is shared by the results of all questions, each compiling its visibility settings once
+        ResultsViewer viewer = new ResultsViewer(userEmail, isInstructor, student, studentsEmailInTeam, instructor, roster);
+
+        // the results of each question are independent of those of other questions
+        List<Supplier<QuestionResults>> questionTasks = new ArrayList<>();
+        for (FeedbackQuestionAttributes qn : allQuestions) {
+            boolean isNotVisibleForPreview = isPreviewResults && questionsNotVisibleToInstructors.contains(qn.getId());
+            questionTasks.add(() -> buildQuestionResults(qn, responsesByQuestion.get(qn.getId()),
+                    commentsByQuestion.get(qn.getId()), isNotVisibleForPreview, isPreviewResults, viewer));
+        }
+        List<QuestionResults> allQuestionResults =
+                runQuestionTasks(questionTasks, allResponses.size() + allComments.size());
+
+        // related questions, responses, and comment, merged in the order of the questions
+        Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new HashMap<>();
+        Map<String, FeedbackQuestionAttributes> relatedQuestionsNotVisibleForPreviewMap = new HashMap<>();
+        Set<String> relatedQuestionsWithCommentNotVisibleForPreview = new HashSet<>();
+        Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
+        Map<String, List<FeedbackResponseCommentAttributes>> relatedCommentsMap = new HashMap<>();
+
         // visibility table for each response and comment
         Map<String, Boolean> responseGiverVisibilityTable = new HashMap<>();
         Map<String, Boolean> responseRecipientVisibilityTable = new HashMap<>();
         Map<Long, Boolean> commentVisibilityTable = new HashMap<>();
 
-        // build response
-        for (FeedbackResponseAttributes response : allResponses) {
-            if (isPreviewResults
-                    && relatedQuestionsNotVisibleForPreviewMap.get(response.getFeedbackQuestionId()) != null) {
-                // corresponding question's responses will not be shown to previewer, ignore the response
-                continue;
-            }
+        for (int i = 0; i < allQuestions.size(); i++) {
+            FeedbackQuestionAttributes qn = allQuestions.get(i);
+            QuestionResults questionResults = allQuestionResults.get(i);
 
-            FeedbackQuestionAttributes correspondingQuestion = allQuestionsMap.get(response.getFeedbackQuestionId());
-            if (correspondingQuestion == null) {
-                // orphan response without corresponding question, ignore it
-                continue;
+            // all questions are related questions when viewing course-wide result,
+            // otherwise a question becomes related if there are viewable responses
+            if (isCourseWide || !questionResults.responses.isEmpty()) {
+                relatedQuestionsMap.put(qn.getId(), qn);
+            }
+            if (questionResults.hasResponseNotVisibleForPreview) {
+                relatedQuestionsNotVisibleForPreviewMap.put(qn.getId(), qn);
+            }
+            if (questionResults.hasCommentNotVisibleForPreview) {
+                relatedQuestionsWithCommentNotVisibleForPreview.add(qn.getId());
+            }
+            for (FeedbackResponseAttributes response : questionResults.responses) {
+                relatedResponsesMap.put(response.getId(), response);
             }
+            relatedCommentsMap.putAll(questionResults.commentsByResponseId);
+            responseGiverVisibilityTable.putAll(questionResults.responseGiverVisibilityTable);
+            responseRecipientVisibilityTable.putAll(questionResults.responseRecipientVisibilityTable);
+            commentVisibilityTable.putAll(questionResults.commentVisibilityTable);
+        }
+        RequestTracer.checkRemainingTime();
+
+        List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
+        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
+        if (isCourseWide) {
+            missingResponses = buildMissingResponses(
+                    courseId, feedbackSessionName, instructor, responseGiverVisibilityTable,
+                    responseRecipientVisibilityTable, relatedQuestionsMap, existingResponses, roster, section);
+        }
+        RequestTracer.checkRemainingTime();
+
+        return new SessionResultsBundle(relatedQuestionsMap, relatedQuestionsNotVisibleForPreviewMap,
+                relatedQuestionsWithCommentNotVisibleForPreview,
+                existingResponses, missingResponses, responseGiverVisibilityTable, responseRecipientVisibilityTable,
+                relatedCommentsMap, commentVisibilityTable, roster);
+    }
+
+    /**
+     * Builds the results of a question from its responses and the comments on them, for the given user.
+     */
+    private QuestionResults buildQuestionResults(
+            FeedbackQuestionAttributes question, List<FeedbackResponseAttributes> responses,
+            List<FeedbackResponseCommentAttributes> comments, boolean isNotVisibleForPreview, boolean isPreviewResults,
+            ResultsViewer viewer) {
+        RequestTracer.checkRemainingTime();
+        QuestionResults questionResults = new QuestionResults();
+        QuestionVisibilityPolicy visibilityPolicy = QuestionVisibilityPolicy.compile(question);
+
+        // build response
+        Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
+            boolean isVisibleResponse = visibilityPolicy.isResponseVisibleTo(viewer, response);
             if (!isVisibleResponse) {
                 continue;
             }
 
-            // if previewing results and corresponding question should not be visible to instructors,
-            // note down the question and do not add the response
-            if (isPreviewResults && questionsNotVisibleToInstructors.contains(response.getFeedbackQuestionId())) {
-                relatedQuestionsNotVisibleForPreviewMap.put(response.getFeedbackQuestionId(), correspondingQuestion);
-                continue;
+            // if previewing results and the question should not be visible to instructors,
+            // note down the question and do not add any of its responses
+            if (isNotVisibleForPreview) {
+                questionResults.hasResponseNotVisibleForPreview = true;
+                break;
             }
 
-            // if there are viewable responses, the corresponding question becomes related
-            relatedQuestionsMap.put(response.getFeedbackQuestionId(), correspondingQuestion);
+            questionResults.responses.add(response);
             relatedResponsesMap.put(response.getId(), response);
             // generate giver/recipient name visibility table
-            responseGiverVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, true, roster));
-            responseRecipientVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, false, roster));
+            questionResults.responseGiverVisibilityTable.put(response.getId(),
+                    visibilityPolicy.isNameVisibleTo(viewer, response, true));
+            questionResults.responseRecipientVisibilityTable.put(response.getId(),
+                    visibilityPolicy.isNameVisibleTo(viewer, response, false));
         }
-        RequestTracer.checkRemainingTime();
 
         // build comment
-        for (FeedbackResponseCommentAttributes frc : allComments) {
+        for (FeedbackResponseCommentAttributes frc : comments) {
             FeedbackResponseAttributes relatedResponse = relatedResponsesMap.get(frc.getFeedbackResponseId());
-            FeedbackQuestionAttributes relatedQuestion = relatedQuestionsMap.get(frc.getFeedbackQuestionId());
-            // the comment needs to be relevant to the question and response
-            if (relatedQuestion == null || relatedResponse == null) {
+            // the comment needs to be relevant to the response
+            if (relatedResponse == null) {
                 continue;
             }
             // check visibility of comment
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+            boolean isVisibleResponseComment = visibilityPolicy.isCommentVisibleTo(viewer, relatedResponse, frc);
             if (!isVisibleResponseComment) {
                 continue;
             }
 
             // if previewing results and the comment should not be visible to instructors,
-            // note down the corresponding question and do not add the comment
+            // note down the question and do not add the comment
             if (isPreviewResults && !canInstructorsSeeComment(frc)) {
-                relatedQuestionsWithCommentNotVisibleForPreview.add(frc.getFeedbackQuestionId());
+                questionResults.hasCommentNotVisibleForPreview = true;
                 continue;
             }
 
-            relatedCommentsMap.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>()).add(frc);
+            questionResults.commentsByResponseId.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>())
+                    .add(frc);
             // generate comment giver name visibility table
-            commentVisibilityTable.put(frc.getId(), frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster));
+            questionResults.commentVisibilityTable.put(frc.getId(),
+                    frcLogic.isNameVisibleToUser(frc, relatedResponse, viewer.getUserEmail(), viewer.getRoster()));
         }
-        RequestTracer.checkRemainingTime();
+        return questionResults;
+    }
 
-        List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
-        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
-        if (isCourseWide) {
-            missingResponses = buildMissingResponses(
-                    courseId, feedbackSessionName, instructor, responseGiverVisibilityTable,
-                    responseRecipientVisibilityTable, relatedQuestionsMap, existingResponses, roster, section);
+    /**
+     * Runs the tasks building the results of questions, returning their results in the order of the tasks.
+     *
+     * <p>The tasks are run in parallel on a pool of threads shared by the instance if there are enough
+     * responses and comments to build the results of, or on the current thread otherwise.
+     */
+    private List<QuestionResults> runQuestionTasks(List<Supplier<QuestionResults>> tasks, int numItems) {
+        List<QuestionResults> results = new ArrayList<>(tasks.size());
+        if (RESULTS_BUILD_EXECUTOR == null || tasks.size() < 2 || numItems < minItemsToBuildResultsInParallel) {
+            for (Supplier<QuestionResults> task : tasks) {
+                results.add(task.get());
+            }
+            return results;
         }
-        RequestTracer.checkRemainingTime();
 
-        return new SessionResultsBundle(relatedQuestionsMap, relatedQuestionsNotVisibleForPreviewMap,
-                relatedQuestionsWithCommentNotVisibleForPreview,
-                existingResponses, missingResponses, responseGiverVisibilityTable, responseRecipientVisibilityTable,
-                relatedCommentsMap, commentVisibilityTable, roster);
+        List<Future<QuestionResults>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<QuestionResults> task : tasks) {
+            futures.add(RESULTS_BUILD_EXECUTOR.submit(RequestTracer.withCurrentTrace(task::get)));
+        }
+        try {
+            for (Future<QuestionResults> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (Future<QuestionResults> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
     }
 
     /**
@@ -486,29 +673,162 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForCourse(
             String feedbackSessionName, String courseId, String instructorEmail,
             @Nullable String questionId, @Nullable String section, @Nullable FeedbackResultFetchType fetchType) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
         RequestTracer.checkRemainingTime();
 
-        // load response(s)
+        // load response(s) and comment(s), from the results snapshots of the questions if they are all fresh
         List<FeedbackResponseAttributes> allResponses;
-        // load all response for instructors and passively filter them later
-        if (questionId == null) {
-            allResponses = getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section, fetchType);
+        List<FeedbackResponseCommentAttributes> allComments;
+        Map<String, FeedbackResultsSnapshotsDb.QuestionResults> snapshots = getFreshResultsSnapshots(allQuestions);
+        boolean isReadFromSnapshots = !allQuestions.isEmpty() && snapshots.size() == allQuestions.size()
+                && snapshots.values().stream().allMatch(FeedbackResultsSnapshotsDb.QuestionResults::isKept);
+        if (!isReadFromSnapshots) {
+            // load all response for instructors and passively filter them later
+            if (questionId == null) {
+                allResponses = getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section, fetchType);
+            } else {
+                allResponses = getFeedbackResponsesForQuestionInSection(questionId, section, fetchType);
+            }
+            RequestTracer.checkRemainingTime();
+
+            if (questionId == null) {
+                allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(
+                        courseId, feedbackSessionName, section);
+            } else {
+                allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section);
+            }
         } else {
-            allResponses = getFeedbackResponsesForQuestionInSection(questionId, section, fetchType);
+            allResponses = new ArrayList<>();
+            allComments = new ArrayList<>();
+            for (FeedbackResultsSnapshotsDb.QuestionResults questionResults : snapshots.values()) {
+                for (FeedbackResponseAttributes response : questionResults.getResponses()) {
+                    if (section == null || isInSection(
+                            response.getGiverSection(), response.getRecipientSection(), section, fetchType)) {
+                        allResponses.add(response);
+                    }
+                }
+                for (FeedbackResponseCommentAttributes comment : questionResults.getComments()) {
+                    if (section == null || section.equals(comment.getGiverSection())
+                            || section.equals(comment.getReceiverSection())) {
+                        allComments.add(comment);
+                    }
+                }
+            }
         }
         RequestTracer.checkRemainingTime();
 
         // consider the current viewing user
         InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
 
-        return buildResultsBundle(true, feedbackSessionName, courseId, section, questionId, true, instructorEmail,
-                instructor, null, roster, allQuestions, allResponses, false);
+        SessionResultsBundle bundle = buildResultsBundle(true, feedbackSessionName, courseId, section, true,
+                instructorEmail, instructor, null, roster, allQuestions, allResponses, allComments, false);
+        bundle.setMissingResultsSnapshots(snapshots.size() < allQuestions.size());
+        return bundle;
+    }
+
+    /**
+     * Gets the session result of some responses to a question, such as a page of its responses, for an instructor.
+     *
+     * <p>Unlike {@link #getSessionResultsForCourse}, missing responses are not included, as they can only be known
+     * from all responses to the question; the question is only included if any of the responses is visible.
+     *
+     * @param question the question of the responses
+     * @param responses the responses to build the result of
+     * @param section if not null, will only include the responses given to/from the section
+     * @param fetchType if not null, will include the responses in the section by giver, receiver sections, or both
+     * @return the session result bundle
+     */
+    public SessionResultsBundle getSessionResultsForResponsesOfQuestion(
+            String feedbackSessionName, String courseId, String instructorEmail, FeedbackQuestionAttributes question,
+            List<FeedbackResponseAttributes> responses,
+            @Nullable String section, @Nullable FeedbackResultFetchType fetchType) {
+        CourseRoster roster = getCourseRoster(courseId);
+
+        List<FeedbackResponseAttributes> responsesInSection = new ArrayList<>();
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses) {
+            if (section == null || isInSection(response.getGiverSection(), response.getRecipientSection(), section,
+                    fetchType == null ? FeedbackResultFetchType.BOTH : fetchType)) {
+                responsesInSection.add(response);
+                responseIds.add(response.getId());
+            }
+        }
+        List<FeedbackResponseCommentAttributes> comments =
+                frcLogic.getFeedbackResponseCommentsForResponsesOfQuestion(question.getId(), responseIds);
+        RequestTracer.checkRemainingTime();
+
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+
+        return buildResultsBundle(false, feedbackSessionName, courseId, section, true, instructorEmail,
+                instructor, null, roster, Collections.singletonList(question), responsesInSection, comments, false);
+    }
+
+    /**
+     * Gets the results of the questions from their fresh results snapshots.
+     *
+     * @see FeedbackResultsSnapshotsDb#getFreshSnapshots(Collection)
+     */
+    private Map<String, FeedbackResultsSnapshotsDb.QuestionResults> getFreshResultsSnapshots(
+            List<FeedbackQuestionAttributes> questions) {
+        if (questions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionIds.add(question.getId());
+        }
+        return snapshotsDb.getFreshSnapshots(questionIds);
+    }
+
+    private static boolean isInSection(String giverSection, String recipientSection, String section,
+            FeedbackResultFetchType fetchType) {
+        return (fetchType.shouldFetchByGiver() && section.equals(giverSection))
+                || (fetchType.shouldFetchByReceiver() && section.equals(recipientSection));
+    }
+
+    /**
+     * Takes results snapshots of the questions of a session which do not have fresh snapshots,
+     * so that the results of the session can be read from the snapshots.
+     *
+     * @return the number of snapshots taken
+     */
+    public int takeResultsSnapshotsForSession(String feedbackSessionName, String courseId) {
+        // writes from now on may need the snapshots to be taken again, so they may be requested again
+        snapshotsDb.deleteRequest(courseId, feedbackSessionName);
+
+        Set<String> questionIdsWithSnapshots = snapshotsDb.getQuestionIdsWithFreshSnapshots(courseId, feedbackSessionName);
+        int numSnapshotsTaken = 0;
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            if (questionIdsWithSnapshots.contains(question.getId())) {
+                continue;
+            }
+            RequestTracer.checkRemainingTime();
+            if (snapshotsDb.putSnapshot(courseId, feedbackSessionName, question.getId())) {
+                numSnapshotsTaken++;
+            }
+        }
+        return numSnapshotsTaken;
+    }
+
+    /**
+     * Requests for the results snapshots of a session to be taken, unless a request for them is already pending.
+     *
+     * @return true if the request is made, in which case the taking of the snapshots is to be scheduled
+     */
+    public boolean requestResultsSnapshotsForSession(String feedbackSessionName, String courseId) {
+        return snapshotsDb.requestSnapshots(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Returns true if all questions of a session have fresh results snapshots.
+     */
+    public boolean hasFreshResultsSnapshotsForSession(String feedbackSessionName, String courseId) {
+        Set<String> questionIdsWithSnapshots = snapshotsDb.getQuestionIdsWithFreshSnapshots(courseId, feedbackSessionName);
+        return fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId).stream()
+                .allMatch(question -> questionIdsWithSnapshots.contains(question.getId()));
     }
 
     /**
@@ -525,9 +845,7 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForUser(
             String feedbackSessionName, String courseId, String userEmail, boolean isInstructor,
             @Nullable String questionId, boolean isPreviewResults) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
@@ -547,8 +865,17 @@ public final class FeedbackResponsesLogic {
         }
         RequestTracer.checkRemainingTime();
 
-        return buildResultsBundle(false, feedbackSessionName, courseId, null, questionId, isInstructor, userEmail,
-                instructor, student, roster, allQuestions, allResponses, isPreviewResults);
+        // load comment(s)
+        List<FeedbackResponseCommentAttributes> allComments;
+        if (questionId == null) {
+            allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, null);
+        } else {
+            allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, null);
+        }
+        RequestTracer.checkRemainingTime();
+
+        return buildResultsBundle(false, feedbackSessionName, courseId, null, isInstructor, userEmail,
+                instructor, student, roster, allQuestions, allResponses, allComments, isPreviewResults);
     }
 
     /**
@@ -593,12 +920,15 @@ public final class FeedbackResponsesLogic {
         }
 
         List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
+        ResultsViewer viewer =
+                new ResultsViewer(instructor.getEmail(), true, null, Collections.emptySet(), instructor, courseRoster);
         // build dummy responses
         for (Map.Entry<String, Map<String, Set<String>>> currGiverRecipientMapEntry
                 : questionCompleteGiverRecipientMap.entrySet()) {
             FeedbackQuestionAttributes correspondingQuestion =
                     relatedQuestionsMap.get(currGiverRecipientMapEntry.getKey());
             String questionId = correspondingQuestion.getId();
+            QuestionVisibilityPolicy visibilityPolicy = QuestionVisibilityPolicy.compile(correspondingQuestion);
 
             for (Map.Entry<String, Set<String>> giverRecipientEntry
                     : currGiverRecipientMapEntry.getValue().entrySet()) {
@@ -627,20 +957,16 @@ public final class FeedbackResponsesLogic {
                                     .build();
 
                     // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
+                    boolean isVisibleResponse = visibilityPolicy.isResponseVisibleTo(viewer, missingResponse);
                     if (!isVisibleResponse) {
                         continue;
                     }
 
                     // generate giver/recipient name visibility table
                     responseGiverVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
+                            visibilityPolicy.isNameVisibleTo(viewer, missingResponse, true));
                     responseRecipientVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
+                            visibilityPolicy.isNameVisibleTo(viewer, missingResponse, false));
                     missingResponses.add(missingResponse);
                 }
             }
@@ -653,51 +979,8 @@ public final class FeedbackResponsesLogic {
             String userEmail, boolean isInstructor, StudentAttributes student,
             Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
             FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.getRecipient().equals(userEmail)
-                && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.getGiver().equals(userEmail)
-                || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && !isInstructor) {
-            if ((relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                    || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
-                    || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.getRecipient().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                    && response.getGiver().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getGiver())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getRecipient())) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.getGiverSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
-                            && !instructor.isAllowedForPrivilege(response.getRecipientSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
+        return QuestionVisibilityPolicy.compile(relatedQuestion).isResponseVisibleTo(
+                new ResultsViewer(userEmail, isInstructor, student, studentsEmailInTeam, instructor, null), response);
     }
 
     /**
@@ -755,6 +1038,11 @@ public final class FeedbackResponsesLogic {
             }
         }
 
+        if (!oldResponse.getGiver().equals(newResponse.getGiver())) {
+            refreshGiversThatAnswerFeedbackSession(newResponse.getCourseId(), newResponse.getFeedbackSessionName(),
+                    List.of(oldResponse.getGiver(), newResponse.getGiver()));
+        }
+
         return newResponse;
     }
 
@@ -765,15 +1053,20 @@ public final class FeedbackResponsesLogic {
      */
     public void updateFeedbackResponsesForChangingTeam(
             String courseId, String userEmail, String oldTeam, String newTeam) {
-        FeedbackQuestionAttributes question;
+        FeedbackResponsesBulkCascade cascade = new FeedbackResponsesBulkCascade(this, frcLogic,
+                "team change of " + userEmail + " in course " + courseId);
+        // questions are looked up once, however many responses to them the user has
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+
         // deletes all responses given by the user to team members or given by the user as a representative of a team.
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
         for (FeedbackResponseAttributes response : responsesFromUser) {
-            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
+            FeedbackQuestionAttributes question =
+                    questions.computeIfAbsent(response.getFeedbackQuestionId(), fqLogic::getFeedbackQuestion);
             if (question.getGiverType() == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseCascade(response.getId());
+                cascade.delete(response);
             }
         }
 
@@ -781,16 +1074,19 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
         for (FeedbackResponseAttributes response : responsesToUser) {
-            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
+            FeedbackQuestionAttributes question =
+                    questions.computeIfAbsent(response.getFeedbackQuestionId(), fqLogic::getFeedbackQuestion);
             if (isRecipientTypeTeamMembers(question)) {
-                deleteFeedbackResponseCascade(response.getId());
+                cascade.delete(response);
             }
         }
 
         boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
         if (isOldTeamEmpty) {
-            deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, oldTeam);
+            addResponsesInvolvingEntityForDeletion(cascade, courseId, oldTeam);
         }
+
+        applyDeletions(cascade);
     }
 
     /**
@@ -799,8 +1095,20 @@ public final class FeedbackResponsesLogic {
     public void updateFeedbackResponsesForChangingSection(
             String courseId, String userEmail, String oldSection, String newSection)
             throws EntityDoesNotExistException, InvalidParametersException {
-        updateSectionOfResponsesFromUser(courseId, userEmail, newSection);
-        updateSectionOfResponsesToUser(courseId, userEmail, newSection);
+        FeedbackResponsesBulkCascade cascade = new FeedbackResponsesBulkCascade(this, frcLogic,
+                "section change of " + userEmail + " in course " + courseId);
+        for (FeedbackResponseAttributes response : getFeedbackResponsesFromGiverForCourse(courseId, userEmail)) {
+            cascade.changeGiverSection(response, newSection);
+        }
+        for (FeedbackResponseAttributes response : getFeedbackResponsesForReceiverForCourse(courseId, userEmail)) {
+            cascade.changeRecipientSection(response, newSection);
+        }
+
+        try {
+            cascade.apply();
+        } catch (EntityAlreadyExistsException e) {
+            assert false : "Not possible to trigger recreating of response";
+        }
     }
 
     /**
@@ -819,14 +1127,22 @@ public final class FeedbackResponsesLogic {
     private void updateRankRecipientQuestionResponsesAfterDeletingStudent(String courseId) {
         List<FeedbackQuestionAttributes> filteredQuestions =
                 fqLogic.getFeedbackQuestionForCourseWithType(courseId, FeedbackQuestionType.RANK_RECIPIENTS);
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = getCourseRoster(courseId);
         for (FeedbackQuestionAttributes question : filteredQuestions) {
             makeRankRecipientQuestionResponsesConsistent(question, roster);
         }
     }
 
+    /**
+     * Gets the roster of a course, which is built at most once per request; see {@link RequestCache}.
+     */
+    private CourseRoster getCourseRoster(String courseId) {
+        return RequestCache.getOrLoad(COURSE_ROSTER_CACHE_NAMESPACE, courseId,
+                () -> new CourseRoster(
+                        studentsLogic.getStudentsForCourse(courseId),
+                        instructorsLogic.getInstructorsForCourse(courseId)));
+    }
+
     /**
      * Makes the rankings by one giver in the response to a 'rank recipient question' consistent, after deleting a
      * student.
@@ -884,48 +1200,15 @@ public final class FeedbackResponsesLogic {
             break;
         }
 
-        for (FeedbackResponseAttributes.UpdateOptions update : updates) {
-            try {
-                frDb.updateFeedbackResponse(update);
-            } catch (EntityAlreadyExistsException | EntityDoesNotExistException | InvalidParametersException e) {
-                assert false : "Exception occurred when updating responses after deleting students.";
-            }
-        }
-    }
-
-    private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipientSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                assert false : "Not possible to trigger recreating of response";
-            }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
-    }
-
-    private void updateSectionOfResponsesFromUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiverSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                assert false : "Not possible to trigger recreating of response";
+        try (WriteBatch batch = WriteBatch.begin()) {
+            for (FeedbackResponseAttributes.UpdateOptions update : updates) {
+                try {
+                    frDb.updateFeedbackResponse(update);
+                } catch (EntityAlreadyExistsException | EntityDoesNotExistException | InvalidParametersException e) {
+                    assert false : "Exception occurred when updating responses after deleting students.";
+                }
             }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
+            batch.commit();
         }
     }
 
@@ -940,37 +1223,52 @@ public final class FeedbackResponsesLogic {
     public void updateFeedbackResponsesForChangingEmail(
             String courseId, String oldEmail, String newEmail)
             throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackResponsesBulkCascade cascade = new FeedbackResponsesBulkCascade(this, frcLogic,
+                "email change of " + oldEmail + " in course " + courseId);
 
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
-
         for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                updateFeedbackResponseCascade(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiver(newEmail)
-                                .build());
-                frcLogic.updateFeedbackResponseCommentsEmails(courseId, oldEmail, newEmail);
-            } catch (EntityAlreadyExistsException e) {
-                assert false : "Feedback response failed to update successfully as email was already in use.";
-            }
+            cascade.changeGiver(response, newEmail);
         }
 
+        // responses given by the user to themselves have both their giver and recipient changed at once
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
-
         for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                updateFeedbackResponseCascade(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipient(newEmail)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                assert false : "Feedback response failed to update successfully as email was already in use.";
-            }
+            cascade.changeRecipient(response, newEmail);
+        }
+
+        try {
+            cascade.apply();
+        } catch (EntityAlreadyExistsException e) {
+            assert false : "Feedback response failed to update successfully as email was already in use.";
+        }
+
+        if (!responsesFromUser.isEmpty()) {
+            frcLogic.updateFeedbackResponseCommentsEmails(courseId, oldEmail, newEmail);
         }
     }
 
+    /**
+     * Updates responses in bulk, without cascading to their comments.
+     *
+     * @return the updated responses, keyed by their ID before the update
+     * @see FeedbackResponsesDb#updateFeedbackResponses(Collection)
+     */
+    Map<String, FeedbackResponseAttributes> updateFeedbackResponsesWithoutCascade(
+            Collection<FeedbackResponseAttributes.UpdateOptions> updateOptions)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        return frDb.updateFeedbackResponses(updateOptions);
+    }
+
+    /**
+     * Deletes the responses with the given IDs, without cascading to their comments.
+     */
+    void deleteFeedbackResponsesByIdsWithoutCascade(Collection<String> responseIds) {
+        frDb.deleteFeedbackResponsesByIds(responseIds);
+    }
+
     /**
      * Deletes responses using {@link AttributesDeletionQuery}.
      */
@@ -982,6 +1280,15 @@ public final class FeedbackResponsesLogic {
      * Deletes a feedback response cascade its associated comments.
      */
     public void deleteFeedbackResponseCascade(String responseId) {
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
+        deleteFeedbackResponseAndComments(responseId);
+        if (response != null) {
+            refreshGiversThatAnswerFeedbackSession(response.getCourseId(), response.getFeedbackSessionName(),
+                    List.of(response.getGiver()));
+        }
+    }
+
+    private void deleteFeedbackResponseAndComments(String responseId) {
         frcLogic.deleteFeedbackResponseComments(
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
@@ -1008,18 +1315,34 @@ public final class FeedbackResponsesLogic {
      * @param entityEmail the entity email
      */
     public void deleteFeedbackResponsesInvolvedEntityOfCourseCascade(String courseId, String entityEmail) {
+        FeedbackResponsesBulkCascade cascade = new FeedbackResponsesBulkCascade(this, frcLogic,
+                "deletion of responses involving " + entityEmail + " in course " + courseId);
+        addResponsesInvolvingEntityForDeletion(cascade, courseId, entityEmail);
+        applyDeletions(cascade);
+    }
+
+    private void addResponsesInvolvingEntityForDeletion(
+            FeedbackResponsesBulkCascade cascade, String courseId, String entityEmail) {
+        // responses are streamed rather than loaded all at once, as a team may be involved in many of them
+
         // delete responses from the entity
-        List<FeedbackResponseAttributes> responsesFromStudent =
-                getFeedbackResponsesFromGiverForCourse(courseId, entityEmail);
-        for (FeedbackResponseAttributes response : responsesFromStudent) {
-            deleteFeedbackResponseCascade(response.getId());
+        try (Stream<FeedbackResponseAttributes> responsesFromEntity =
+                frDb.streamFeedbackResponsesFromGiverForCourse(courseId, entityEmail)) {
+            responsesFromEntity.forEach(cascade::delete);
         }
 
         // delete responses to the entity
-        List<FeedbackResponseAttributes> responsesToStudent =
-                getFeedbackResponsesForReceiverForCourse(courseId, entityEmail);
-        for (FeedbackResponseAttributes response : responsesToStudent) {
-            deleteFeedbackResponseCascade(response.getId());
+        try (Stream<FeedbackResponseAttributes> responsesToEntity =
+                frDb.streamFeedbackResponsesForReceiverForCourse(courseId, entityEmail)) {
+            responsesToEntity.forEach(cascade::delete);
+        }
+    }
+
+    private void applyDeletions(FeedbackResponsesBulkCascade cascade) {
+        try {
+            cascade.apply();
+        } catch (InvalidParametersException | EntityAlreadyExistsException e) {
+            assert false : "Deleting responses does not update any response or comment.";
         }
     }
 
@@ -1184,4 +1507,18 @@ public final class FeedbackResponsesLogic {
             return responses;
         }
     }
+
+    /**
+     * Results of a question visible to a user, built independently of those of other questions.
+     */
+    private static class QuestionResults {
+
+        private final List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        private final Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponseId = new HashMap<>();
+        private final Map<String, Boolean> responseGiverVisibilityTable = new HashMap<>();
+        private final Map<String, Boolean> responseRecipientVisibilityTable = new HashMap<>();
+        private final Map<Long, Boolean> commentVisibilityTable = new HashMap<>();
+        private boolean hasResponseNotVisibleForPreview;
+        private boolean hasCommentNotVisibleForPreview;
+    }
 }
@@ -116,6 +116,15 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets all feedback sessions of a course, including those in the Recycle Bin.
+     */
+    public List<FeedbackSessionAttributes> getAllFeedbackSessionsForCourse(String courseId) {
+        List<FeedbackSessionAttributes> sessions = new ArrayList<>(getFeedbackSessionsListForCourse(courseId));
+        sessions.addAll(getSoftDeletedFeedbackSessionsListForCourse(courseId));
+        return sessions;
+    }
+
     /**
      * Gets all feedback sessions of a course started after time.
      */
@@ -605,7 +614,15 @@ public final class FeedbackSessionsLogic {
      * Gets the actual number of submissions for a feedback session.
      */
     public int getActualTotalSubmission(FeedbackSessionAttributes fsa) {
-        return frLogic.getGiverSetThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName()).size();
+        return frLogic.getNumGiversThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+    }
+
+    /**
+     * Recounts the actual number of submissions for a feedback session from its responses,
+     * correcting the number maintained for the session.
+     */
+    public int reconcileActualTotalSubmission(FeedbackSessionAttributes fsa) {
+        return frLogic.reconcileGiversThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
     }
 
     private List<FeedbackSessionAttributes> getFeedbackSessionsListForCourse(String courseId) {
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -20,6 +21,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.storage.api.InstructorsDb;
 
 /**
@@ -34,6 +36,9 @@ public final class InstructorsLogic {
 
     private static final InstructorsLogic instance = new InstructorsLogic();
 
+    private static final String INSTRUCTOR_CACHE_NAMESPACE = "instructor";
+    private static final String INSTRUCTORS_CACHE_NAMESPACE = "instructors-for-google-id";
+
     private final InstructorsDb instructorsDb = InstructorsDb.inst();
 
     private FeedbackResponsesLogic frLogic;
@@ -136,9 +141,14 @@ public final class InstructorsLogic {
 
     /**
      * Gets an instructor by unique constraint courseId-googleId.
+     *
+     * <p>The instructor is looked up at most once per request; see {@link RequestCache}.
+     * Each call returns a copy of the instructor, which the caller is free to modify.
      */
     public InstructorAttributes getInstructorForGoogleId(String courseId, String googleId) {
-        return instructorsDb.getInstructorForGoogleId(courseId, googleId);
+        InstructorAttributes instructor = RequestCache.getOrLoad(INSTRUCTOR_CACHE_NAMESPACE, courseId + '|' + googleId,
+                () -> instructorsDb.getInstructorForGoogleId(courseId, googleId));
+        return instructor == null ? null : instructor.getCopy();
     }
 
     /**
@@ -181,7 +191,11 @@ public final class InstructorsLogic {
      * @param omitArchived whether archived instructors should be omitted or not
      */
     public List<InstructorAttributes> getInstructorsForGoogleId(String googleId, boolean omitArchived) {
-        return instructorsDb.getInstructorsForGoogleId(googleId, omitArchived);
+        List<InstructorAttributes> instructors = RequestCache.getOrLoad(
+                INSTRUCTORS_CACHE_NAMESPACE, googleId + '|' + omitArchived,
+                () -> instructorsDb.getInstructorsForGoogleId(googleId, omitArchived));
+        // the list and the instructors in it are copied as callers may modify them
+        return instructors.stream().map(InstructorAttributes::getCopy).collect(Collectors.toList());
     }
 
     /**
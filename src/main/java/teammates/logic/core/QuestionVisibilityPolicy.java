@@ -0,0 +1,191 @@
+package teammates.logic.core;
+
+import java.util.Collection;
+import java.util.Set;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+
+/**
+ * The visibility settings of a feedback question, compiled once so that they can be checked against
+ * all responses to the question and the comments on them.
+ *
+ * <p>The participant types in the visibility lists of the question are kept as bitmasks, and what depends only on
+ * the giver and recipient types of the question is worked out when compiled. The checks give the same results
+ * as reading the visibility lists of the question for each response.
+ *
+ * @see ResultsViewer
+ */
+final class QuestionVisibilityPolicy {
+
+    private final int showResponsesToMask;
+    private final int showGiverNameToMask;
+    private final int showRecipientNameToMask;
+
+    private final boolean isGiverTeam;
+    private final boolean isRecipientTeams;
+    private final boolean isRecipientTeamsOrTeamsInSection;
+    private final boolean isRecipientTeamName;
+    private final boolean hasRecipient;
+
+    private QuestionVisibilityPolicy(FeedbackQuestionAttributes question) {
+        this.showResponsesToMask = toMask(question.getShowResponsesTo());
+        this.showGiverNameToMask = toMask(question.getShowGiverNameTo());
+        this.showRecipientNameToMask = toMask(question.getShowRecipientNameTo());
+
+        FeedbackParticipantType recipientType = question.getRecipientType();
+        this.isGiverTeam = question.getGiverType() == FeedbackParticipantType.TEAMS;
+        this.isRecipientTeams = recipientType == FeedbackParticipantType.TEAMS;
+        this.isRecipientTeamsOrTeamsInSection = recipientType == FeedbackParticipantType.TEAMS
+                || recipientType == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
+                || recipientType == FeedbackParticipantType.TEAMS_EXCLUDING_SELF;
+        this.isRecipientTeamName = recipientType.isTeam();
+        this.hasRecipient = recipientType != FeedbackParticipantType.NONE;
+    }
+
+    /**
+     * Compiles the visibility settings of the question.
+     */
+    static QuestionVisibilityPolicy compile(FeedbackQuestionAttributes question) {
+        return new QuestionVisibilityPolicy(question);
+    }
+
+    /**
+     * Returns the bitmask of the given participant types, indexed by their ordinals.
+     */
+    static int toMask(Collection<FeedbackParticipantType> types) {
+        int mask = 0;
+        if (types != null) {
+            for (FeedbackParticipantType type : types) {
+                mask |= bit(type);
+            }
+        }
+        return mask;
+    }
+
+    private static int bit(FeedbackParticipantType type) {
+        return 1 << type.ordinal();
+    }
+
+    private static boolean isIn(int mask, FeedbackParticipantType type) {
+        return (mask & bit(type)) != 0;
+    }
+
+    /**
+     * Returns true if the responses to the question are visible to the given participant type.
+     */
+    boolean isResponseVisibleTo(FeedbackParticipantType type) {
+        return isIn(showResponsesToMask, type);
+    }
+
+    /**
+     * Returns true if the response is visible to the viewer.
+     */
+    boolean isResponseVisibleTo(ResultsViewer viewer, FeedbackResponseAttributes response) {
+        String userEmail = viewer.getUserEmail();
+        boolean isInstructor = viewer.isInstructor();
+        boolean isVisibleResponse = false;
+        if (isInstructor && isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || response.getRecipient().equals(userEmail) && isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || response.getGiver().equals(userEmail)
+                || !isInstructor && isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            isVisibleResponse = true;
+        } else if (viewer.getStudentsEmailInTeam() != null && !isInstructor) {
+            isVisibleResponse = isRecipientTeamsOrTeamsInSection
+                    && isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                    && response.getRecipient().equals(viewer.getStudent().getTeam())
+                    || isGiverTeam && response.getGiver().equals(viewer.getStudent().getTeam())
+                    || isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                    && viewer.getStudentsEmailInTeam().contains(response.getGiver())
+                    || isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                    && viewer.getStudentsEmailInTeam().contains(response.getRecipient());
+        }
+        if (!isVisibleResponse) {
+            return false;
+        }
+        // If instructors are not restricted to view the giver's section,
+        // they are allowed to view responses to GENERAL, subject to visibility options
+        return viewer.canViewSessionInSection(response.getGiverSection(), response.getFeedbackSessionName())
+                && (!hasRecipient
+                        || viewer.canViewSessionInSection(response.getRecipientSection(),
+                                response.getFeedbackSessionName()));
+    }
+
+    /**
+     * Returns true if the name of the giver or recipient of the response is visible to the viewer.
+     *
+     * <p>The roster of the course must be known to the viewer.
+     */
+    boolean isNameVisibleTo(ResultsViewer viewer, FeedbackResponseAttributes response, boolean isGiverName) {
+        // the giver can always see
+        if (isGiverTeam ? viewer.isInRosterTeam(response.getGiver())
+                : response.getGiver().equals(viewer.getUserEmail())) {
+            return true;
+        }
+
+        int showNameToMask = isGiverName ? showGiverNameToMask : showRecipientNameToMask;
+        if (isIn(showNameToMask, FeedbackParticipantType.INSTRUCTORS)
+                && viewer.isInstructor() && viewer.isInstructorInRoster()) {
+            return true;
+        }
+        if (isIn(showNameToMask, FeedbackParticipantType.STUDENTS) && viewer.isStudentInRoster()) {
+            return true;
+        }
+        if ((isIn(showNameToMask, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                || isIn(showNameToMask, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                && viewer.isInSameRosterTeamAs(response.getGiver())) {
+            return true;
+        }
+        if (isIn(showNameToMask, FeedbackParticipantType.RECEIVER)) {
+            // for responses to teams, the recipient is the name of the team
+            if (isRecipientTeamName ? viewer.isInRosterTeam(response.getRecipient())
+                    : response.getRecipient().equals(viewer.getUserEmail())) {
+                return true;
+            }
+        }
+        if (isIn(showNameToMask, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
+            return isRecipientTeamName ? viewer.isInRosterTeam(response.getRecipient())
+                    : viewer.isInSameRosterTeamAs(response.getRecipient());
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the comment on the response is visible to the viewer.
+     *
+     * <p>Comments whose visibility follows the question are visible to those the responses are visible to,
+     * other comments to those in their own visibility list.
+     */
+    boolean isCommentVisibleTo(ResultsViewer viewer, FeedbackResponseAttributes response,
+            FeedbackResponseCommentAttributes comment) {
+        boolean isVisibilityFollowingFeedbackQuestion = comment.isVisibilityFollowingFeedbackQuestion();
+        int showCommentToMask = isVisibilityFollowingFeedbackQuestion
+                ? showResponsesToMask
+                : toMask(comment.getShowCommentTo());
+        String userEmail = viewer.getUserEmail();
+        boolean isInstructor = viewer.isInstructor();
+
+        boolean isVisibleToUser = isInstructor && isIn(showCommentToMask, FeedbackParticipantType.INSTRUCTORS)
+                || response.getRecipient().equals(userEmail) && isIn(showCommentToMask, FeedbackParticipantType.RECEIVER)
+                || response.getGiver().equals(userEmail)
+                        && (isVisibilityFollowingFeedbackQuestion
+                                || isIn(showCommentToMask, FeedbackParticipantType.GIVER))
+                || comment.getCommentGiver().equals(userEmail)
+                || !isInstructor && isIn(showCommentToMask, FeedbackParticipantType.STUDENTS);
+        if (isVisibleToUser) {
+            return true;
+        }
+
+        Set<String> studentsEmailInTeam = viewer.getStudentsEmailInTeam();
+        return !isInstructor && isRecipientTeams && isIn(showCommentToMask, FeedbackParticipantType.RECEIVER)
+                && response.getRecipient().equals(viewer.getStudent().getTeam())
+                || (isGiverTeam || isIn(showCommentToMask, FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                        && (studentsEmailInTeam.contains(response.getGiver())
+                                || !isInstructor && viewer.getStudent().getTeam().equals(response.getGiver()))
+                || isIn(showCommentToMask, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                        && studentsEmailInTeam.contains(response.getRecipient());
+    }
+
+}
@@ -0,0 +1,124 @@
+package teammates.logic.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * The user viewing the results of a feedback session, with their relations to the course roster
+ * looked up once so that they can be checked against all responses of the session.
+ *
+ * <p>The privileges of an instructor viewer in the sections of the session are looked up when first needed
+ * and remembered; a viewer can be shared by the threads building the results of different questions.
+ *
+ * @see QuestionVisibilityPolicy
+ */
+final class ResultsViewer {
+
+    private final String userEmail;
+    private final boolean isInstructor;
+    private final StudentAttributes student;
+    private final Set<String> studentsEmailInTeam;
+    private final InstructorAttributes instructor;
+    private final CourseRoster roster;
+
+    private final boolean isInstructorInRoster;
+    private final boolean isStudentInRoster;
+    private final String rosterTeam;
+
+    private final Map<List<String>, Boolean> canViewSessionInSection = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a viewer.
+     *
+     * @param student the student viewing the results, if viewing them as a student
+     * @param studentsEmailInTeam the emails of the students in the team of the student, if viewing them as a student
+     * @param instructor if not null, the responses in the sections the instructor cannot view are not visible
+     * @param roster the roster of the course, required only to check whether names are visible
+     */
+    ResultsViewer(String userEmail, boolean isInstructor, @Nullable StudentAttributes student,
+            @Nullable Set<String> studentsEmailInTeam, @Nullable InstructorAttributes instructor,
+            @Nullable CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.isInstructor = isInstructor;
+        this.student = student;
+        this.studentsEmailInTeam = studentsEmailInTeam;
+        this.instructor = instructor;
+        this.roster = roster;
+
+        StudentAttributes studentInRoster = roster == null ? null : roster.getStudentForEmail(userEmail);
+        this.isInstructorInRoster = roster != null && roster.getInstructorForEmail(userEmail) != null;
+        this.isStudentInRoster = studentInRoster != null;
+        this.rosterTeam = studentInRoster == null ? null : studentInRoster.getTeam();
+    }
+
+    String getUserEmail() {
+        return userEmail;
+    }
+
+    boolean isInstructor() {
+        return isInstructor;
+    }
+
+    StudentAttributes getStudent() {
+        return student;
+    }
+
+    Set<String> getStudentsEmailInTeam() {
+        return studentsEmailInTeam;
+    }
+
+    CourseRoster getRoster() {
+        return roster;
+    }
+
+    /**
+     * Returns true if the viewer is an instructor in the roster of the course.
+     */
+    boolean isInstructorInRoster() {
+        return isInstructorInRoster;
+    }
+
+    /**
+     * Returns true if the viewer is a student in the roster of the course.
+     */
+    boolean isStudentInRoster() {
+        return isStudentInRoster;
+    }
+
+    /**
+     * Returns true if the viewer is a student in the given team of the roster of the course.
+     */
+    boolean isInRosterTeam(String teamName) {
+        return rosterTeam != null && rosterTeam.equals(teamName);
+    }
+
+    /**
+     * Returns true if the viewer is a student in the same team of the roster as the given student.
+     */
+    boolean isInSameRosterTeamAs(String studentEmail) {
+        return isStudentInRoster && roster.isStudentsInSameTeam(studentEmail, userEmail);
+    }
+
+    /**
+     * Returns true if the viewer is not restricted from viewing the responses in the given section of the session.
+     */
+    boolean canViewSessionInSection(String sectionName, String feedbackSessionName) {
+        if (instructor == null) {
+            return true;
+        }
+        return canViewSessionInSection.computeIfAbsent(Arrays.asList(sectionName, feedbackSessionName),
+                key -> instructor.isAllowedForPrivilege(sectionName, feedbackSessionName,
+                        Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -17,6 +18,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
+import teammates.common.util.RequestCache;
 import teammates.common.util.RequestTracer;
 import teammates.storage.api.StudentsDb;
 
@@ -39,6 +41,9 @@ public final class StudentsLogic {
 
     private static final StudentsLogic instance = new StudentsLogic();
 
+    private static final String STUDENT_CACHE_NAMESPACE = "student";
+    private static final String STUDENTS_CACHE_NAMESPACE = "students-for-google-id";
+
     private final StudentsDb studentsDb = StudentsDb.inst();
 
     private FeedbackResponsesLogic frLogic;
@@ -87,9 +92,14 @@ public final class StudentsLogic {
 
     /**
      * Gets a student by unique constraint courseId-googleId.
+     *
+     * <p>The student is looked up at most once per request; see {@link RequestCache}.
+     * Each call returns a copy of the student, which the caller is free to modify.
      */
     public StudentAttributes getStudentForCourseIdAndGoogleId(String courseId, String googleId) {
-        return studentsDb.getStudentForGoogleId(courseId, googleId);
+        StudentAttributes student = RequestCache.getOrLoad(STUDENT_CACHE_NAMESPACE, courseId + '|' + googleId,
+                () -> studentsDb.getStudentForGoogleId(courseId, googleId));
+        return student == null ? null : student.getCopy();
     }
 
     /**
@@ -103,7 +113,10 @@ public final class StudentsLogic {
      * Gets all students associated with a googleId.
      */
     public List<StudentAttributes> getStudentsForGoogleId(String googleId) {
-        return studentsDb.getStudentsForGoogleId(googleId);
+        List<StudentAttributes> students = RequestCache.getOrLoad(STUDENTS_CACHE_NAMESPACE, googleId,
+                () -> studentsDb.getStudentsForGoogleId(googleId));
+        // the list and the students in it are copied as callers may modify them
+        return students.stream().map(StudentAttributes::getCopy).collect(Collectors.toList());
     }
 
     /**
@@ -127,6 +140,27 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId, batchSize);
     }
 
+    /**
+     * Gets the names of all sections of a course which have students, in no particular order.
+     */
+    public List<String> getSectionNamesForCourse(String courseId) {
+        return studentsDb.getSectionNamesForCourse(courseId);
+    }
+
+    /**
+     * Gets the names of all teams of a course, in no particular order.
+     */
+    public List<String> getTeamNamesForCourse(String courseId) {
+        return studentsDb.getTeamNamesForCourse(courseId);
+    }
+
+    /**
+     * Gets the names of all teams of a section of a course, in no particular order.
+     */
+    public List<String> getTeamNamesForSection(String sectionName, String courseId) {
+        return studentsDb.getTeamNamesForSection(sectionName, courseId);
+    }
+
     /**
      * Gets all students of a section.
      */
@@ -159,7 +159,7 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
     boolean hasExistingEntities(AccountRequestAttributes entityToCreate) {
         Key<AccountRequest> keyToFind = Key.create(AccountRequest.class,
                 AccountRequest.generateId(entityToCreate.getEmail(), entityToCreate.getInstitute()));
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     @Override
@@ -114,7 +114,7 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     @Override
     boolean hasExistingEntities(AccountAttributes entityToCreate) {
         Key<Account> keyToFind = Key.create(Account.class, entityToCreate.getGoogleId());
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     @Override
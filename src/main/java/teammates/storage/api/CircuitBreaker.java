@@ -0,0 +1,144 @@
+package teammates.storage.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import teammates.common.util.Logger;
+
+/**
+ * Stops calls to a remote service after repeated failures, so that callers fail fast
+ * instead of waiting for a service which is known to be down.
+ *
+ * <p>The breaker is {@link State#CLOSED} while calls succeed. After {@code failureThreshold} consecutive
+ * failures it becomes {@link State#OPEN} and rejects all calls. Once {@code openDuration} has passed,
+ * it becomes {@link State#HALF_OPEN} and lets a single probe call through: the breaker closes again
+ * if the probe succeeds and re-opens if it fails.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * The state of a circuit breaker.
+     */
+    public enum State {
+        /** Calls are allowed. */
+        CLOSED,
+
+        /** Calls are rejected. */
+        OPEN,
+
+        /** A single probe call is allowed. */
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final Map<State, AtomicLong> transitionCounts = new EnumMap<>(State.class);
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean isProbeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, Clock clock) {
+        assert failureThreshold > 0;
+
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        for (State s : State.values()) {
+            transitionCounts.put(s, new AtomicLong());
+        }
+    }
+
+    /**
+     * Returns true if a call may be made now.
+     * Every allowed call must be followed by {@link #recordSuccess()}, {@link #recordFailure()}
+     * or {@link #recordUnknownOutcome()}.
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        switch (state) {
+        case CLOSED:
+            return true;
+        case HALF_OPEN:
+            if (isProbeInFlight) {
+                return false;
+            }
+            isProbeInFlight = true;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        isProbeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        isProbeInFlight = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = clock.instant();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Records a call whose outcome is unknown, e.g. because the caller stopped waiting for it.
+     */
+    public synchronized void recordUnknownOutcome() {
+        isProbeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of times the breaker has entered the given state.
+     */
+    public long getTransitionCount(State target) {
+        return transitionCounts.get(target).get();
+    }
+
+    private void transitionTo(State newState) {
+        String message = String.format("Circuit breaker %s changed from %s to %s after %d consecutive failure(s)",
+                name, state, newState, consecutiveFailures);
+        if (newState == State.OPEN) {
+            log.warning(message);
+        } else {
+            log.info(message);
+        }
+
+        state = newState;
+        transitionCounts.get(newState).incrementAndGet();
+    }
+
+}
@@ -0,0 +1,123 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+
+/**
+ * An in-memory cache of courses, keyed by course ID.
+ *
+ * <p>Entries are evicted once the cache is full or once they are older than the configured lifetime.
+ * Courses are copied on the way in and on the way out, so callers are free to modify what they receive.
+ *
+ * <p>The last known version of each course is kept for a longer time, to be served as a fallback
+ * while the Courses service is unavailable. Writes invalidate both versions.
+ */
+public final class CourseCache {
+
+    /**
+     * How long the last known version of a course is kept for use as a fallback.
+     */
+    private static final Duration STALE_LIFETIME = Duration.ofDays(1);
+
+    private final Cache<String, CourseAttributes> cache;
+    private final Cache<String, CourseAttributes> staleCache;
+
+    /**
+     * Creates a cache holding at most {@code maximumSize} courses for at most {@code expireAfterWrite}.
+     * A {@code maximumSize} of 0 disables caching.
+     */
+    public CourseCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.staleCache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(STALE_LIFETIME)
+                .build();
+    }
+
+    /**
+     * Gets the cached course with the given ID.
+     *
+     * @return null if the course is not cached
+     */
+    CourseAttributes get(String courseId) {
+        return copyOrNull(cache.getIfPresent(courseId));
+    }
+
+    /**
+     * Gets the last known version of the course with the given ID, which may have expired from the cache.
+     *
+     * @return null if the course is not known
+     */
+    CourseAttributes getStale(String courseId) {
+        return copyOrNull(staleCache.getIfPresent(courseId));
+    }
+
+    /**
+     * Gets the cached courses among the given IDs, keyed by course ID.
+     */
+    Map<String, CourseAttributes> getAll(Collection<String> courseIds) {
+        Map<String, CourseAttributes> courses = new HashMap<>();
+        cache.getAllPresent(courseIds).forEach((courseId, course) -> courses.put(courseId, copy(course)));
+        return courses;
+    }
+
+    /**
+     * Caches the given course, replacing any previous entry for the same course ID.
+     */
+    void put(CourseAttributes course) {
+        CourseAttributes copy = copy(course);
+        cache.put(course.getId(), copy);
+        staleCache.put(course.getId(), copy);
+    }
+
+    /**
+     * Removes the course with the given ID from the cache.
+     */
+    void invalidate(String courseId) {
+        cache.invalidate(courseId);
+        staleCache.invalidate(courseId);
+    }
+
+    /**
+     * Removes all courses from the cache.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        staleCache.invalidateAll();
+    }
+
+    /**
+     * Returns the hit/miss/eviction statistics of the cache.
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private static CourseAttributes copyOrNull(CourseAttributes course) {
+        return course == null ? null : copy(course);
+    }
+
+    private static CourseAttributes copy(CourseAttributes course) {
+        CourseAttributes copy = CourseAttributes.builder(course.getId())
+                .withName(course.getName())
+                .withTimezone(course.getTimeZone())
+                .withInstitute(course.getInstitute())
+                .build();
+        copy.setCreatedAt(course.getCreatedAt());
+        copy.setDeletedAt(course.getDeletedAt());
+        return copy;
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+
+import teammates.storage.entity.CourseDeletion;
+
+/**
+ * Handles the marks of the courses being deleted in the background.
+ *
+ * @see CourseDeletion
+ */
+public final class CourseDeletionsDb {
+
+    private static final CourseDeletionsDb instance = new CourseDeletionsDb();
+
+    private CourseDeletionsDb() {
+        // prevent initialization
+    }
+
+    public static CourseDeletionsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Marks a course as being deleted, keeping the time of the first mark if it is already marked.
+     */
+    public void markDeletionStarted(String courseId) {
+        assert courseId != null;
+
+        Key<CourseDeletion> key = getKey(courseId);
+        ofy().transact(() -> {
+            if (ofy().load().key(key).now() == null) {
+                ofy().save().entity(new CourseDeletion(courseId)).now();
+            }
+        });
+    }
+
+    /**
+     * Returns true if the course is marked as being deleted.
+     */
+    public boolean isDeletionInProgress(String courseId) {
+        assert courseId != null;
+
+        return ofy().load().key(getKey(courseId)).now() != null;
+    }
+
+    /**
+     * Gets the IDs of the given courses which are marked as being deleted, looked up in one batch.
+     */
+    public Set<String> getCourseIdsWithDeletionInProgress(Collection<String> courseIds) {
+        assert courseIds != null;
+
+        if (courseIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Key<CourseDeletion>> keys = courseIds.stream()
+                .map(CourseDeletionsDb::getKey)
+                .collect(Collectors.toList());
+        return ofy().load().keys(keys).values().stream()
+                .map(CourseDeletion::getCourseId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Removes the mark of a course being deleted.
+     *
+     * <p>Fails silently if the course is not marked.
+     */
+    public void deleteMark(String courseId) {
+        assert courseId != null;
+
+        ofy().delete().key(getKey(courseId)).now();
+    }
+
+    private static Key<CourseDeletion> getKey(String courseId) {
+        return Key.create(CourseDeletion.class, courseId);
+    }
+
+}
@@ -0,0 +1,239 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+
+/**
+ * Converts courses to and from the JSON payloads of the Courses service.
+ *
+ * <p>Payloads are read token by token straight from the response stream, without building
+ * an intermediate string or tree, so that a list of courses is decoded as it arrives.
+ * Instances are immutable and thread-safe.
+ */
+public final class CourseJsonCodec {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Writes a course as the JSON payload expected by the Courses service.
+     *
+     * <p>Timestamps are written as decimal epoch seconds.
+     */
+    public String writeCourse(CourseAttributes course) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("id", course.getId());
+            generator.writeStringField("name", course.getName());
+            generator.writeStringField("timeZone", course.getTimeZone());
+            generator.writeStringField("institute", course.getInstitute());
+            writeInstantField(generator, "createdAt", course.getCreatedAt());
+            writeInstantField(generator, "deletedAt", course.getDeletedAt());
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the payload of a batch lookup for the given course IDs.
+     */
+    public String writeCourseIds(List<String> courseIds) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("ids");
+            for (String courseId : courseIds) {
+                generator.writeString(courseId);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Reads a single course.
+     *
+     * @return null if the payload is empty or a JSON null
+     */
+    public CourseAttributes readCourse(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return readCourseObject(parser);
+        }
+    }
+
+    /**
+     * Reads a list of courses, decoding each course as soon as it has been received.
+     * Null elements are skipped.
+     */
+    public List<CourseAttributes> readCourses(InputStream in) throws IOException {
+        List<CourseAttributes> courses = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                courses.add(readCourseObject(parser));
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Reads a single timestamp.
+     *
+     * @return null if the payload is empty or a JSON null
+     */
+    public Instant readInstant(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            return readInstantValue(parser);
+        }
+    }
+
+    private CourseAttributes readCourseObject(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        String id = null;
+        String name = null;
+        String timeZone = null;
+        String institute = null;
+        Instant createdAt = null;
+        Instant deletedAt = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "id":
+                id = parser.getValueAsString();
+                break;
+            case "name":
+                name = parser.getValueAsString();
+                break;
+            case "timeZone":
+                timeZone = parser.getValueAsString();
+                break;
+            case "institute":
+                institute = parser.getValueAsString();
+                break;
+            case "createdAt":
+                createdAt = readInstantValue(parser);
+                break;
+            case "deletedAt":
+                deletedAt = readInstantValue(parser);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        if (id == null) {
+            throw new JsonParseException(parser, "Course payload does not contain an id");
+        }
+        CourseAttributes.Builder builder = CourseAttributes.builder(id);
+        if (name != null) {
+            builder.withName(name);
+        }
+        if (timeZone != null) {
+            builder.withTimezone(timeZone);
+        }
+        if (institute != null) {
+            builder.withInstitute(institute);
+        }
+        CourseAttributes course = builder.build();
+        if (createdAt != null) {
+            course.setCreatedAt(createdAt);
+        }
+        course.setDeletedAt(deletedAt);
+        return course;
+    }
+
+    private Instant readInstantValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+        case VALUE_NULL:
+            return null;
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+            BigDecimal epochSeconds = parser.getDecimalValue();
+            return Instant.ofEpochSecond(epochSeconds.longValue(),
+                    epochSeconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+        case VALUE_STRING:
+            try {
+                return parseInstant(parser.getText());
+            } catch (DateTimeParseException e) {
+                throw new JsonParseException(parser, "Invalid timestamp: " + parser.getText(), e);
+            }
+        default:
+            throw new JsonParseException(parser, "Expected a timestamp but found " + parser.currentToken());
+        }
+    }
+
+    /**
+     * Parses a timestamp sent by the Courses service.
+     *
+     * <p>ISO-8601 date-times with any fraction precision are accepted, with either {@code T} or a space
+     * separating date and time. Date-times without an offset are taken to be in UTC.
+     * RFC 1123 date-times are accepted as well.
+     */
+    static Instant parseInstant(String text) {
+        String normalized = text.trim();
+        if (normalized.length() > 10 && normalized.charAt(10) == ' ') {
+            normalized = normalized.substring(0, 10) + 'T' + normalized.substring(11);
+        }
+
+        TemporalAccessor parsed;
+        try {
+            parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(normalized, ZonedDateTime::from, LocalDateTime::from);
+        } catch (DateTimeParseException e) {
+            return ZonedDateTime.parse(text.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        }
+        if (parsed instanceof ZonedDateTime) {
+            return ((ZonedDateTime) parsed).toInstant();
+        }
+        return ((LocalDateTime) parsed).toInstant(ZoneOffset.UTC);
+    }
+
+    private void writeInstantField(JsonGenerator generator, String fieldName, Instant instant) throws IOException {
+        if (instant == null) {
+            generator.writeNullField(fieldName);
+            return;
+        }
+        generator.writeNumberField(fieldName,
+                BigDecimal.valueOf(instant.getEpochSecond()).add(BigDecimal.valueOf(instant.getNano(), 9)));
+    }
+
+    private void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+
+/**
+ * Stores and retrieves courses.
+ *
+ * <p>Courses are normally kept by the remote Courses service ({@link CourseServiceClient}),
+ * but can be kept in the application's own datastore instead ({@link EmbeddedCourseService}).
+ *
+ * @see CourseAttributes
+ */
+public interface CourseService {
+
+    /**
+     * Creates a course.
+     *
+     * @return the created course
+     * @throws InvalidParametersException if the course is not valid
+     * @throws EntityAlreadyExistsException if the course already exists
+     */
+    CourseAttributes createCourse(CourseAttributes courseToCreate)
+            throws InvalidParametersException, EntityAlreadyExistsException, IOException, InterruptedException;
+
+    /**
+     * Gets a course.
+     *
+     * @return null if the course does not exist
+     */
+    CourseAttributes getCourse(String courseId) throws IOException, InterruptedException;
+
+    /**
+     * Gets a list of courses.
+     *
+     * <p>Courses that do not exist are omitted from the result.
+     */
+    List<CourseAttributes> getCourses(List<String> courseIds) throws IOException, InterruptedException;
+
+    /**
+     * Replaces the stored course with {@code courseToUpdate}.
+     *
+     * @return the updated course
+     * @throws InvalidParametersException if the updated course is not valid
+     * @throws EntityDoesNotExistException if the course cannot be found
+     */
+    CourseAttributes updateCourse(CourseAttributes courseToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException, IOException, InterruptedException;
+
+    /**
+     * Soft-deletes a course by its given corresponding ID.
+     *
+     * @return Soft-deletion time of the course.
+     * @throws EntityDoesNotExistException if the course cannot be found
+     */
+    Instant softDeleteCourse(String courseId) throws EntityDoesNotExistException, IOException, InterruptedException;
+
+    /**
+     * Restores a soft-deleted course by its given corresponding ID.
+     *
+     * @throws EntityDoesNotExistException if the course cannot be found
+     */
+    void restoreDeletedCourse(String courseId) throws EntityDoesNotExistException, IOException, InterruptedException;
+
+    /**
+     * Deletes a course.
+     *
+     * <p>Fails silently if no such course.
+     */
+    void deleteCourse(String courseId) throws IOException, InterruptedException;
+
+}
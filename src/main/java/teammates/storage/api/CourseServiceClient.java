@@ -0,0 +1,475 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
+
+/**
+ * Handles CRUD operations for courses stored in the remote Courses service.
+ *
+ * <p>A single instance is shared by the whole application so that the underlying
+ * {@link CourseServiceTransport} (and its connection pool) is reused across requests.
+ * Reads go through a {@link CourseCache}, which is invalidated by every write made through this instance,
+ * as is the {@link RequestCache} of the current request.
+ *
+ * <p>All calls go through a {@link CircuitBreaker}, so that callers fail fast while the service is down.
+ * Reads are retried with jittered exponential backoff on I/O failures and server errors and, while the
+ * circuit is open, may be answered with the last known version of the course.
+ *
+ * <p>Payloads are encoded and decoded by {@link CourseJsonCodec}; responses are decoded as they are streamed
+ * from the service instead of being buffered first.
+ *
+ * @see CourseAttributes
+ */
+public final class CourseServiceClient implements CourseService {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Maximum number of requests in flight when courses are fetched one by one.
+     */
+    private static final int MAX_CONCURRENT_REQUESTS = 8;
+
+    /**
+     * Maximum number of attempts for a read, including the first one.
+     */
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private static final int CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+
+    private static final Duration CIRCUIT_BREAKER_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private static final Duration TIMEOUT = Duration.ofMillis(Config.COURSES_SERVICE_TIMEOUT_MS);
+
+    private static final CourseServiceClient instance = new CourseServiceClient(
+            new HttpCourseServiceTransport(Config.COURSES_SERVICE_URL, TIMEOUT), TIMEOUT,
+            new CourseCache(Config.COURSES_CACHE_SIZE, Duration.ofSeconds(Config.COURSES_CACHE_TTL_SECONDS)),
+            new CircuitBreaker("courses-service", CIRCUIT_BREAKER_FAILURE_THRESHOLD, CIRCUIT_BREAKER_OPEN_DURATION),
+            Duration.ofMillis(100), Config.COURSES_SERVICE_STALE_FALLBACK);
+
+    private static final CourseJsonCodec CODEC = new CourseJsonCodec();
+
+    private final CourseServiceTransport transport;
+    private final Duration timeout;
+    private final CourseCache cache;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration initialBackoff;
+    private final boolean isStaleFallbackEnabled;
+
+    private volatile boolean isBatchLookupSupported = true;
+
+    CourseServiceClient(CourseServiceTransport transport, Duration timeout, CourseCache cache,
+                        CircuitBreaker circuitBreaker, Duration initialBackoff, boolean isStaleFallbackEnabled) {
+        this.transport = transport;
+        this.timeout = timeout;
+        this.cache = cache;
+        this.circuitBreaker = circuitBreaker;
+        this.initialBackoff = initialBackoff;
+        this.isStaleFallbackEnabled = isStaleFallbackEnabled;
+    }
+
+    public static CourseServiceClient inst() {
+        return instance;
+    }
+
+    public CourseCache getCache() {
+        return cache;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Creates a course.
+     *
+     * @return the created course
+     */
+    @Override
+    public CourseAttributes createCourse(CourseAttributes courseToCreate) throws IOException, InterruptedException {
+        assert courseToCreate != null;
+
+        String requestBody = CODEC.writeCourse(courseToCreate);
+        CourseAttributes createdCourse;
+        try (CourseServiceTransport.Response response = send("POST", "/Courses", requestBody)) {
+            createdCourse = readCourse(response);
+        } finally {
+            RequestCache.invalidateAll();
+        }
+        cache.put(createdCourse);
+        return createdCourse;
+    }
+
+    /**
+     * Gets a course.
+     *
+     * @return null if the course does not exist
+     */
+    @Override
+    public CourseAttributes getCourse(String courseId) throws IOException, InterruptedException {
+        assert courseId != null;
+
+        CourseAttributes cachedCourse = cache.get(courseId);
+        if (cachedCourse != null) {
+            return cachedCourse;
+        }
+
+        CourseServiceTransport.Response response;
+        try {
+            response = sendWithRetries("GET", "/Course/" + courseId, null);
+        } catch (CircuitOpenException e) {
+            return getStaleCourseOrThrow(courseId, e);
+        }
+        return toCourseOrNull(response);
+    }
+
+    /**
+     * Gets a course without blocking the caller until the Courses service responds.
+     *
+     * <p>The returned future completes with null if the course does not exist,
+     * or exceptionally with an {@link IOException} if the service cannot be reached.
+     */
+    public CompletableFuture<CourseAttributes> getCourseAsync(String courseId) {
+        assert courseId != null;
+
+        CourseAttributes cachedCourse = cache.get(courseId);
+        if (cachedCourse != null) {
+            return CompletableFuture.completedFuture(cachedCourse);
+        }
+
+        if (!circuitBreaker.allowRequest()) {
+            try {
+                return CompletableFuture.completedFuture(getStaleCourseOrThrow(courseId, new CircuitOpenException()));
+            } catch (CircuitOpenException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        // asynchronous reads are not retried; the circuit breaker still sees their outcome
+        return transport.sendAsync("GET", "/Course/" + courseId, null, timeout)
+                .whenComplete((response, e) -> {
+                    if (e != null || isServerError(response)) {
+                        circuitBreaker.recordFailure();
+                    } else {
+                        circuitBreaker.recordSuccess();
+                    }
+                })
+                .thenApply(response -> {
+                    try {
+                        return toCourseOrNull(response);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Gets a list of courses in a single request.
+     *
+     * <p>If the Courses service does not offer batch lookups, the courses are fetched one by one instead,
+     * with up to {@value #MAX_CONCURRENT_REQUESTS} requests in flight at any time.
+     *
+     * <p>Courses that do not exist are omitted from the result.
+     */
+    @Override
+    public List<CourseAttributes> getCourses(List<String> courseIds) throws IOException, InterruptedException {
+        assert courseIds != null;
+
+        Map<String, CourseAttributes> coursesById = cache.getAll(courseIds);
+        List<String> uncachedCourseIds = courseIds.stream()
+                .filter(courseId -> !coursesById.containsKey(courseId))
+                .distinct()
+                .collect(Collectors.toList());
+
+        // the service rejects empty lookups
+        if (!uncachedCourseIds.isEmpty()) {
+            try {
+                List<CourseAttributes> fetchedCourses = isBatchLookupSupported
+                        ? getCoursesInBatch(uncachedCourseIds)
+                        : null;
+                if (fetchedCourses == null) {
+                    fetchedCourses = getCoursesConcurrently(uncachedCourseIds);
+                }
+                fetchedCourses.forEach(course -> coursesById.put(course.getId(), course));
+            } catch (CircuitOpenException e) {
+                for (String courseId : uncachedCourseIds) {
+                    coursesById.put(courseId, getStaleCourseOrThrow(courseId, e));
+                }
+            }
+        }
+
+        List<CourseAttributes> courses = new ArrayList<>();
+        for (String courseId : courseIds) {
+            CourseAttributes course = coursesById.get(courseId);
+            if (course != null) {
+                courses.add(course);
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Fetches the given courses with a single batch request.
+     *
+     * @return null if the Courses service does not support batch lookups
+     */
+    private List<CourseAttributes> getCoursesInBatch(List<String> courseIds) throws IOException, InterruptedException {
+        String requestBody = CODEC.writeCourseIds(courseIds);
+        try (CourseServiceTransport.Response response = sendWithRetries("POST", "/Courses/batch", requestBody)) {
+            if (response.getStatusCode() == 404 || response.getStatusCode() == 405
+                    || response.getStatusCode() == 501) {
+                isBatchLookupSupported = false;
+                return null;
+            }
+            verifySuccess(response);
+
+            List<CourseAttributes> courses = CODEC.readCourses(response.getBodyStream());
+            courses.forEach(cache::put);
+            return courses;
+        }
+    }
+
+    /**
+     * Fetches the given courses one by one, with up to {@value #MAX_CONCURRENT_REQUESTS} requests in flight,
+     * so that the total latency is close to that of the slowest request rather than the sum of all of them.
+     */
+    private List<CourseAttributes> getCoursesConcurrently(List<String> courseIds)
+            throws IOException, InterruptedException {
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+        List<CompletableFuture<CourseAttributes>> futures = new ArrayList<>();
+        for (String courseId : courseIds) {
+            permits.acquire();
+            futures.add(getCourseAsync(courseId).whenComplete((course, e) -> permits.release()));
+        }
+
+        List<CourseAttributes> courses = new ArrayList<>();
+        for (CompletableFuture<CourseAttributes> future : futures) {
+            try {
+                CourseAttributes course = future.get();
+                if (course != null) {
+                    courses.add(course);
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+        return courses;
+    }
+
+    /**
+     * Replaces the stored course with {@code courseToUpdate}.
+     *
+     * @return the updated course
+     */
+    @Override
+    public CourseAttributes updateCourse(CourseAttributes courseToUpdate) throws IOException, InterruptedException {
+        assert courseToUpdate != null;
+
+        String requestBody = CODEC.writeCourse(courseToUpdate);
+        CourseAttributes updatedCourse;
+        try (CourseServiceTransport.Response response =
+                send("PUT", "/Course/" + courseToUpdate.getId(), requestBody)) {
+            updatedCourse = readCourse(response);
+        } finally {
+            cache.invalidate(courseToUpdate.getId());
+            RequestCache.invalidateAll();
+        }
+        cache.put(updatedCourse);
+        return updatedCourse;
+    }
+
+    /**
+     * Soft-deletes a course by its given corresponding ID.
+     *
+     * @return Soft-deletion time of the course.
+     */
+    @Override
+    public Instant softDeleteCourse(String courseId) throws IOException, InterruptedException {
+        assert courseId != null;
+
+        try (CourseServiceTransport.Response response = send("PUT", "/Softdelete/" + courseId, "Softdelete")) {
+            Instant deletedAt = CODEC.readInstant(response.getBodyStream());
+            if (deletedAt == null) {
+                throw new IOException("Courses service did not return the deletion time of course " + courseId);
+            }
+            return deletedAt;
+        } finally {
+            cache.invalidate(courseId);
+            RequestCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Restores a soft-deleted course by its given corresponding ID.
+     */
+    @Override
+    public void restoreDeletedCourse(String courseId) throws IOException, InterruptedException {
+        assert courseId != null;
+
+        try {
+            send("PUT", "/Restore/" + courseId, "Restore").close();
+        } finally {
+            cache.invalidate(courseId);
+            RequestCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Deletes a course.
+     */
+    @Override
+    public void deleteCourse(String courseId) throws IOException, InterruptedException {
+        assert courseId != null;
+
+        try {
+            send("DELETE", "/Course/" + courseId, null).close();
+        } finally {
+            cache.invalidate(courseId);
+            RequestCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Sends a write request once, failing fast if the circuit is open.
+     */
+    private CourseServiceTransport.Response send(String method, String path, String body)
+            throws IOException, InterruptedException {
+        CourseServiceTransport.Response response = sendThroughCircuitBreaker(method, path, body);
+        verifySuccess(response);
+        return response;
+    }
+
+    /**
+     * Sends a read request, retrying with jittered exponential backoff on I/O failures and server errors.
+     *
+     * @return the first response which is not a server error
+     * @throws CircuitOpenException if the circuit is open
+     */
+    private CourseServiceTransport.Response sendWithRetries(String method, String path, String body)
+            throws IOException, InterruptedException {
+        IOException lastException = null;
+        for (int attempt = 1; attempt <= MAX_READ_ATTEMPTS; attempt++) {
+            if (attempt > 1) {
+                long maxDelay = initialBackoff.toMillis() << (attempt - 2);
+                Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1));
+            }
+            try {
+                CourseServiceTransport.Response response = sendThroughCircuitBreaker(method, path, body);
+                if (!isServerError(response)) {
+                    return response;
+                }
+                lastException = new IOException("Courses service responded with status "
+                        + response.getStatusCode() + ": " + response.getBody());
+                response.close();
+            } catch (CircuitOpenException e) {
+                throw e;
+            } catch (IOException e) {
+                lastException = e;
+            }
+            log.warning("Attempt " + attempt + " of " + method + " " + path + " failed: "
+                    + lastException.getMessage());
+        }
+        throw lastException;
+    }
+
+    private CourseServiceTransport.Response sendThroughCircuitBreaker(String method, String path, String body)
+            throws IOException, InterruptedException {
+        if (!circuitBreaker.allowRequest()) {
+            throw new CircuitOpenException();
+        }
+
+        CourseServiceTransport.Response response;
+        try {
+            response = transport.send(method, path, body, timeout);
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.recordFailure();
+            throw e;
+        } catch (InterruptedException e) {
+            // the call was abandoned by the caller, not failed by the service
+            circuitBreaker.recordUnknownOutcome();
+            throw e;
+        }
+
+        if (isServerError(response)) {
+            circuitBreaker.recordFailure();
+        } else {
+            circuitBreaker.recordSuccess();
+        }
+        return response;
+    }
+
+    private static boolean isServerError(CourseServiceTransport.Response response) {
+        // 501 means that the endpoint is not offered, which neither retrying nor opening the circuit helps with
+        return response.getStatusCode() >= 500 && response.getStatusCode() != 501;
+    }
+
+    private CourseAttributes getStaleCourseOrThrow(String courseId, CircuitOpenException e)
+            throws CircuitOpenException {
+        CourseAttributes staleCourse = isStaleFallbackEnabled ? cache.getStale(courseId) : null;
+        if (staleCourse == null) {
+            throw e;
+        }
+        log.warning("Courses service is unavailable; serving last known version of course " + courseId);
+        return staleCourse;
+    }
+
+    private CourseAttributes toCourseOrNull(CourseServiceTransport.Response response) throws IOException {
+        try (response) {
+            if (response.getStatusCode() == 404) {
+                return null;
+            }
+            verifySuccess(response);
+
+            CourseAttributes course = CODEC.readCourse(response.getBodyStream());
+            if (course != null) {
+                cache.put(course);
+            }
+            return course;
+        }
+    }
+
+    private CourseAttributes readCourse(CourseServiceTransport.Response response) throws IOException {
+        CourseAttributes course = CODEC.readCourse(response.getBodyStream());
+        if (course == null) {
+            throw new IOException("Courses service returned an empty course");
+        }
+        return course;
+    }
+
+    private void verifySuccess(CourseServiceTransport.Response response) throws IOException {
+        if (!response.isSuccess()) {
+            throw new IOException("Courses service responded with status " + response.getStatusCode()
+                    + ": " + response.getBody());
+        }
+    }
+
+    /**
+     * Thrown when a call is rejected because the circuit to the Courses service is open.
+     */
+    @SuppressWarnings("serial")
+    static class CircuitOpenException extends IOException {
+
+        CircuitOpenException() {
+            super("Courses service is unavailable: too many recent failures");
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package teammates.storage.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Carries requests to the Courses service and returns its raw responses.
+ *
+ * <p>The production implementation talks HTTP to the remote service;
+ * an in-process stand-in can be plugged in instead, e.g. in tests.
+ */
+public interface CourseServiceTransport {
+
+    /**
+     * Sends a request to the Courses service.
+     *
+     * @param method the HTTP method, e.g. {@code GET}
+     * @param path the path relative to the service base URL, starting with "/"
+     * @param body the request body, or null if the request has no body
+     * @param timeout the maximum time to wait for the response
+     */
+    Response send(String method, String path, String body, Duration timeout) throws IOException, InterruptedException;
+
+    /**
+     * Sends a request to the Courses service without blocking the caller until the response arrives.
+     *
+     * <p>The default implementation sends the request synchronously and returns a completed future;
+     * implementations backed by a non-blocking client should override it.
+     *
+     * @see #send(String, String, String, Duration)
+     */
+    default CompletableFuture<Response> sendAsync(String method, String path, String body, Duration timeout) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        try {
+            future.complete(send(method, path, body, timeout));
+        } catch (IOException e) {
+            future.completeExceptionally(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Represents a raw response of the Courses service.
+     *
+     * <p>The body is exposed as a stream so that it can be decoded as it arrives;
+     * the response must be closed once it is no longer needed.
+     */
+    final class Response implements Closeable {
+
+        private final int statusCode;
+        private final InputStream body;
+
+        public Response(int statusCode, InputStream body) {
+            this.statusCode = statusCode;
+            this.body = body == null ? InputStream.nullInputStream() : body;
+        }
+
+        public Response(int statusCode, String body) {
+            this(statusCode, body == null ? null : new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public InputStream getBodyStream() {
+            return body;
+        }
+
+        /**
+         * Reads the remaining body as a string, e.g. for error reporting.
+         */
+        public String getBody() throws IOException {
+            try (InputStream in = body) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        public boolean isSuccess() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+
+    }
+
+}
@@ -145,7 +145,7 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     @Override
     boolean hasExistingEntities(CourseAttributes entityToCreate) {
         Key<Course> keyToFind = Key.create(Course.class, entityToCreate.getId());
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     private Course getCourseEntity(String courseId) {
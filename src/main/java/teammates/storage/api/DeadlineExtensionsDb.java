@@ -215,7 +215,7 @@ public final class DeadlineExtensionsDb extends EntitiesDb<DeadlineExtension, De
         Key<DeadlineExtension> keyToFind = Key.create(DeadlineExtension.class, DeadlineExtension.generateId(
                 entityToCreate.getCourseId(), entityToCreate.getFeedbackSessionName(),
                 entityToCreate.getUserEmail(), entityToCreate.getIsInstructor()));
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     @Override
@@ -0,0 +1,78 @@
+package teammates.storage.api;
+
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+
+/**
+ * Keeps courses in the application's own datastore through {@link CoursesDb}
+ * instead of the remote Courses service.
+ *
+ * <p>Used for local development, component tests and load tests, so that they neither depend on
+ * a reachable Courses service nor include its network latency.
+ */
+public final class EmbeddedCourseService implements CourseService {
+
+    private static final EmbeddedCourseService instance = new EmbeddedCourseService();
+
+    private final CoursesDb coursesDb = CoursesDb.inst();
+
+    private EmbeddedCourseService() {
+        // prevent initialization
+    }
+
+    public static EmbeddedCourseService inst() {
+        return instance;
+    }
+
+    @Override
+    public CourseAttributes createCourse(CourseAttributes courseToCreate)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        assert courseToCreate != null;
+
+        return coursesDb.createEntity(courseToCreate);
+    }
+
+    @Override
+    public CourseAttributes getCourse(String courseId) {
+        return coursesDb.getCourse(courseId);
+    }
+
+    @Override
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+        return coursesDb.getCourses(courseIds);
+    }
+
+    @Override
+    public CourseAttributes updateCourse(CourseAttributes courseToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        assert courseToUpdate != null;
+
+        return coursesDb.updateCourse(
+                CourseAttributes.updateOptionsBuilder(courseToUpdate.getId())
+                        .withName(courseToUpdate.getName())
+                        .withTimezone(courseToUpdate.getTimeZone())
+                        .withInstitute(courseToUpdate.getInstitute())
+                        .build());
+    }
+
+    @Override
+    public Instant softDeleteCourse(String courseId) throws EntityDoesNotExistException {
+        return coursesDb.softDeleteCourse(courseId);
+    }
+
+    @Override
+    public void restoreDeletedCourse(String courseId) throws EntityDoesNotExistException {
+        coursesDb.restoreDeletedCourse(courseId);
+    }
+
+    @Override
+    public void deleteCourse(String courseId) {
+        coursesDb.deleteCourse(courseId);
+    }
+
+}
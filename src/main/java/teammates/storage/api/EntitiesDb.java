@@ -5,24 +5,36 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.google.cloud.datastore.Cursor;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.cmd.QueryResultIterator;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.datatransfer.logs.EntityWriteLogDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
-import teammates.common.util.JsonUtils;
+import teammates.common.util.Config;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.storage.entity.BaseEntity;
 
 /**
  * Base class for all classes performing CRUD operations against the database.
  *
+ * <p>Writes are sent to the database immediately, unless a {@link WriteBatch} is open in the current thread.
+ *
  * @param <E> Specific entity class
  * @param <A> Specific attributes class
  */
@@ -44,6 +56,16 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     static final String OPTIMIZED_SAVING_POLICY_APPLIED =
             "Saving request is not issued because entity %s does not change by the update (%s)";
 
+    /**
+     * Default number of entities fetched per page when streaming the results of a query.
+     */
+    static final int DEFAULT_STREAM_CHUNK_SIZE = 500;
+
+    /**
+     * Default maximum number of results of a keys-only or projection query.
+     */
+    static final int DEFAULT_MAX_QUERY_RESULTS = 10000;
+
     static final Logger log = Logger.getLogger();
 
     /**
@@ -74,8 +96,16 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         E entity = convertToEntityForSaving(entityToAdd);
 
-        ofy().save().entity(entity).now();
-        log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
+        WriteBatch batch = WriteBatch.current();
+        if (batch == null || hasGeneratedIds()) {
+            ofy().save().entity(entity).now();
+        } else {
+            batch.save(Collections.singletonList(entity));
+        }
+        afterEntitiesWritten(Collections.singletonList(entity));
+        SecondLevelCache.inst().invalidateEntities(Collections.singletonList(entity));
+        RequestCache.invalidateAll();
+        EntityWriteLog.logCreated(Collections.singletonList(entity));
 
         return makeAttributes(entity);
     }
@@ -89,6 +119,16 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
      */
     abstract boolean hasExistingEntities(A entityToCreate);
 
+    /**
+     * Returns true if the IDs of new entities are generated by the database.
+     *
+     * <p>Such entities are always created immediately, even within a {@link WriteBatch},
+     * as their IDs are only known once they are saved.
+     */
+    boolean hasGeneratedIds() {
+        return false;
+    }
+
     /**
      * Puts an entity in the database without existence checking.
      *
@@ -130,10 +170,16 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             entities.add(entity);
         }
 
-        for (A attributes : entitiesToAdd) {
-            log.info("Entity created: " + JsonUtils.toJson(attributes));
+        WriteBatch batch = WriteBatch.current();
+        if (batch == null || hasGeneratedIds()) {
+            ofy().save().entities(entities).now();
+        } else {
+            batch.save(entities);
         }
-        ofy().save().entities(entities).now();
+        afterEntitiesWritten(entities);
+        SecondLevelCache.inst().invalidateEntities(entities);
+        RequestCache.invalidateAll();
+        EntityWriteLog.logCreated(entities);
 
         return makeAttributes(entities);
     }
@@ -151,20 +197,26 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     void saveEntity(E entityToSave) {
         assert entityToSave != null;
 
-        log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
-
-        ofy().save().entity(entityToSave).now();
+        saveEntities(Collections.singletonList(entityToSave));
     }
 
     /**
      * Saves a collection of entities.
      */
     void saveEntities(Collection<E> entitiesToSave) {
-        for (E entityToSave : entitiesToSave) {
-            log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
+        // the entities are compared with the stored ones before they are saved
+        EntityWriteLogDetails writeLogDetails = EntityWriteLog.prepareSaved(entitiesToSave);
+
+        WriteBatch batch = WriteBatch.current();
+        if (batch == null) {
+            ofy().save().entities(entitiesToSave).now();
+        } else {
+            batch.save(entitiesToSave);
         }
-
-        ofy().save().entities(entitiesToSave).now();
+        afterEntitiesWritten(entitiesToSave);
+        SecondLevelCache.inst().invalidateEntities(entitiesToSave);
+        RequestCache.invalidateAll();
+        EntityWriteLog.logPrepared(writeLogDetails);
     }
 
     /**
@@ -182,11 +234,87 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         assert keys != null;
         assert !keys.contains(null);
 
-        for (Key<E> key : keys) {
-            log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
-                    key.getKind(), key.getRaw().getId(), key.getName()));
+        deleteKeys(keys);
+        afterEntitiesDeleted(keys);
+    }
+
+    private void deleteKeys(List<Key<E>> keys) {
+        WriteBatch batch = WriteBatch.current();
+        if (batch == null) {
+            ofy().delete().keys(keys).now();
+        } else {
+            batch.delete(keys);
+        }
+        SecondLevelCache.inst().invalidate(keys);
+        RequestCache.invalidateAll();
+        EntityWriteLog.logDeleted(keys);
+    }
+
+    /**
+     * Called after entities are created or saved through this class, or held back in the open {@link WriteBatch},
+     * so that subclasses can keep data derived from the entities up to date.
+     */
+    void afterEntitiesWritten(Collection<E> entities) {
+        // nothing to do by default
+    }
+
+    /**
+     * Called after entities are deleted by key through this class, or held back in the open {@link WriteBatch};
+     * deletions of the results of a query by {@link #deleteEntities(Query)} are not included,
+     * and are to be handled by the callers.
+     */
+    void afterEntitiesDeleted(List<Key<E>> keys) {
+        // nothing to do by default
+    }
+
+    /**
+     * Deletes the results of a query, without fetching the entities.
+     *
+     * <p>The keys are fetched in pages of {@code app.datastore.write.batchsize} keys, as configured in
+     * build.properties, each page resuming from the cursor of the previous one, and each page is deleted in one
+     * batch delete. Outside a {@link WriteBatch}, the batch deletes of several pages are sent in parallel
+     * by a {@link ParallelKeyDeleter}; within one, they are deferred to the batch as usual.
+     * Either way, only the pages being deleted are held in memory.
+     *
+     * @return the number of entities deleted
+     */
+    int deleteEntities(Query<E> query) {
+        assert query != null;
+
+        int pageSize = Config.DATASTORE_WRITE_BATCH_SIZE;
+        ParallelKeyDeleter deleter = WriteBatch.current() == null ? new ParallelKeyDeleter() : null;
+        int numDeleted = 0;
+        try {
+            Cursor cursor = null;
+            List<Key<E>> page;
+            do {
+                Query<E> pageQuery = query.limit(pageSize).chunk(pageSize);
+                if (cursor != null) {
+                    pageQuery = pageQuery.startAt(cursor);
+                }
+                QueryResultIterator<Key<E>> keys = pageQuery.keys().iterator();
+                page = new ArrayList<>(pageSize);
+                keys.forEachRemaining(page::add);
+                if (page.isEmpty()) {
+                    break;
+                }
+                cursor = keys.getCursorAfter();
+
+                if (deleter == null) {
+                    deleteKeys(page);
+                } else {
+                    deleter.submit(page);
+                    EntityWriteLog.logDeleted(page);
+                }
+                numDeleted += page.size();
+            } while (page.size() == pageSize);
+        } finally {
+            if (deleter != null) {
+                deleter.awaitAll();
+                RequestCache.invalidateAll();
+            }
         }
-        ofy().delete().keys(keys).now();
+        return numDeleted;
     }
 
     abstract LoadType<E> load();
@@ -200,13 +328,147 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
      * Converts a collection of entities to a list of attributes.
      */
     List<A> makeAttributes(Collection<E> entities) {
-        List<A> attributes = new LinkedList<>();
+        List<A> attributes = new ArrayList<>(entities.size());
         for (E entity : entities) {
             attributes.add(makeAttributes(entity));
         }
         return attributes;
     }
 
+    /**
+     * Streams the results of a query in pages of {@value #DEFAULT_STREAM_CHUNK_SIZE} entities.
+     *
+     * @see #streamAttributes(Query, int)
+     */
+    Stream<A> streamAttributes(Query<E> query) {
+        return streamAttributes(query, DEFAULT_STREAM_CHUNK_SIZE);
+    }
+
+    /**
+     * Streams the results of a query.
+     *
+     * <p>The results are fetched page by page, each page resuming from the cursor of the previous one,
+     * and each entity is converted to attributes only when it is consumed. Unlike {@link Query#list()},
+     * this never holds more than one page of unconverted entities and never runs a single long query.
+     *
+     * @param chunkSize the number of entities fetched per page
+     */
+    Stream<A> streamAttributes(Query<E> query, int chunkSize) {
+        assert chunkSize > 0;
+
+        Iterator<E> entities = new PagedQueryIterator<>(query, chunkSize);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(entities, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(this::makeAttributes);
+    }
+
+    /**
+     * Gets the entity with the given key, from the {@link SecondLevelCache} if its kind is cached.
+     *
+     * <p>The entity may be outdated by up to the lifetime of the cache, and must therefore not be updated.
+     *
+     * @return null if the entity does not exist
+     */
+    E getCachedEntity(Key<E> key) {
+        SecondLevelCache cache = SecondLevelCache.inst();
+        if (!cache.isCached(key.getKind())) {
+            return ofy().load().key(key).now();
+        }
+        E entity = cache.get(key);
+        if (entity == null) {
+            long invalidationCount = cache.getInvalidationCount(key);
+            entity = ofy().load().key(key).now();
+            // within a write batch, the entity loaded may be outdated by writes still pending
+            if (entity != null && WriteBatch.current() == null) {
+                cache.put(entity, invalidationCount);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Gets the first result of a query, from the {@link SecondLevelCache} if its kind is cached.
+     *
+     * <p>When the kind is cached, only the key of the result is queried, and the entity is then
+     * looked up by key. The entity may be outdated by up to the lifetime of the cache, and must therefore
+     * not be updated.
+     *
+     * @return null if the query has no result
+     */
+    E getFirstCachedEntity(Query<E> query) {
+        if (!SecondLevelCache.inst().isEnabled()) {
+            return query.first().now();
+        }
+        Key<E> key = query.keys().first().now();
+        return key == null ? null : getCachedEntity(key);
+    }
+
+    /**
+     * Returns true if the query has at least one result.
+     *
+     * <p>This fetches at most one key, and no entity.
+     */
+    boolean hasAnyEntity(Query<E> query) {
+        return query.limit(1).keys().first().now() != null;
+    }
+
+    /**
+     * Gets the keys of the results of a query, up to {@value #DEFAULT_MAX_QUERY_RESULTS} keys.
+     *
+     * @see #getKeys(Query, int)
+     */
+    List<Key<E>> getKeys(Query<E> query) {
+        return getKeys(query, DEFAULT_MAX_QUERY_RESULTS);
+    }
+
+    /**
+     * Gets the keys of the results of a query, without fetching the entities.
+     *
+     * @param maxResults the maximum number of keys returned; results beyond it are dropped and logged
+     */
+    List<Key<E>> getKeys(Query<E> query, int maxResults) {
+        assert maxResults > 0;
+
+        List<Key<E>> keys = query.limit(maxResults).keys().list();
+        logIfTruncated(keys.size(), maxResults);
+        return keys;
+    }
+
+    /**
+     * Gets the results of a projection query, up to {@value #DEFAULT_MAX_QUERY_RESULTS} results.
+     *
+     * @see #getProjection(Query, int, boolean, String...)
+     */
+    List<E> getProjection(Query<E> query, boolean isDistinct, String... properties) {
+        return getProjection(query, DEFAULT_MAX_QUERY_RESULTS, isDistinct, properties);
+    }
+
+    /**
+     * Gets the results of a projection query.
+     *
+     * <p>Only the given properties are fetched, directly from the index; the other fields of the
+     * returned entities are not set. The properties must be indexed, and there must be a composite index
+     * on the properties filtered on followed by the projected properties. Entities without a value for
+     * any of the projected properties are not returned.
+     *
+     * @param maxResults the maximum number of results returned; results beyond it are dropped and logged
+     * @param isDistinct if true, only the first result of each combination of projected values is returned
+     */
+    List<E> getProjection(Query<E> query, int maxResults, boolean isDistinct, String... properties) {
+        assert maxResults > 0;
+        assert properties.length > 0;
+
+        List<E> entities = query.project(properties).distinct(isDistinct).limit(maxResults).list();
+        logIfTruncated(entities.size(), maxResults);
+        return entities;
+    }
+
+    private void logIfTruncated(int numResults, int maxResults) {
+        if (numResults == maxResults) {
+            log.warning("Query results may have been truncated at the maximum of " + maxResults + " results");
+        }
+    }
+
     /**
      * Converts from entity to attributes.
      *
@@ -233,4 +495,50 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         }
     }
 
-}
+    /**
+     * Iterates through the results of a query page by page using query cursors.
+     */
+    private static final class PagedQueryIterator<E> implements Iterator<E> {
+
+        private final Query<E> query;
+        private final int pageSize;
+        private QueryResultIterator<E> page;
+        private int numFetchedInPage;
+
+        private PagedQueryIterator(Query<E> query, int pageSize) {
+            this.query = query;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page != null && page.hasNext()) {
+                return true;
+            }
+            if (page != null && numFetchedInPage < pageSize) {
+                // a page which is not full is the last one
+                return false;
+            }
+
+            Query<E> pageQuery = query.limit(pageSize).chunk(pageSize);
+            if (page != null) {
+                Cursor cursor = page.getCursorAfter();
+                pageQuery = pageQuery.startAt(cursor);
+            }
+            page = pageQuery.iterator();
+            numFetchedInPage = 0;
+            return page.hasNext();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            numFetchedInPage++;
+            return page.next();
+        }
+
+    }
+
+}
\ No newline at end of file
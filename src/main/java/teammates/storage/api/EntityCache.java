@@ -0,0 +1,39 @@
+package teammates.storage.api;
+
+import java.util.Collection;
+
+import com.google.cloud.datastore.Entity;
+
+/**
+ * A store for the shared second-level entity cache.
+ *
+ * <p>Entities are stored in their datastore representation, which is immutable, keyed by the URL-safe
+ * form of their key.
+ *
+ * @see SecondLevelCache
+ */
+interface EntityCache {
+
+    /**
+     * Gets the cached entity with the given key.
+     *
+     * @return null if the entity is not cached
+     */
+    Entity get(String key);
+
+    /**
+     * Caches the given entity, replacing any previous entry for the same key.
+     */
+    void put(String key, Entity entity);
+
+    /**
+     * Removes the entities with the given keys from the cache.
+     */
+    void invalidate(Collection<String> keys);
+
+    /**
+     * Removes all entities from the cache.
+     */
+    void invalidateAll();
+
+}
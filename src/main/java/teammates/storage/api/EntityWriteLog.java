@@ -0,0 +1,203 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+
+import com.google.cloud.datastore.BaseEntity;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.FullEntity;
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.logs.EntityWriteLogDetails;
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+
+/**
+ * Records the writes made through {@link EntitiesDb} in the audit log.
+ *
+ * <p>Each write operation is recorded as one entry holding the kind and the keys of the entities written,
+ * but not their content; for saves of existing entities, the names of the fields changed are recorded as well.
+ * Only a sample of the operations is recorded, as configured in build.properties;
+ * the entry is not built at all for operations which are not recorded.
+ */
+final class EntityWriteLog {
+
+    /**
+     * Maximum number of keys listed in one entry.
+     */
+    static final int MAX_KEYS_PER_ENTRY = 20;
+
+    static final String WRITE_TYPE_CREATE = "CREATE";
+    static final String WRITE_TYPE_SAVE = "SAVE";
+    static final String WRITE_TYPE_DELETE = "DELETE";
+
+    private static final Logger log = Logger.getLogger();
+
+    private EntityWriteLog() {
+        // utility class
+    }
+
+    /**
+     * Records the creation of entities.
+     */
+    static void logCreated(Collection<?> entities) {
+        if (shouldLog(Config.DATASTORE_WRITE_LOG_SAMPLE_RATE)) {
+            log(WRITE_TYPE_CREATE, toKeys(entities), entities.size());
+        }
+    }
+
+    /**
+     * Prepares the record of the saving of existing entities,
+     * to be logged with {@link #logPrepared(EntityWriteLogDetails)} once they are saved.
+     *
+     * <p>The changed fields are found by reading the entities as they are stored, so this is to be called
+     * before the entities are saved. Only the entities listed in the entry are read, and only for recorded saves.
+     *
+     * @return null if the saving is not recorded
+     */
+    @Nullable
+    static EntityWriteLogDetails prepareSaved(Collection<?> entities) {
+        if (entities.isEmpty() || !shouldLog(Config.DATASTORE_WRITE_LOG_SAMPLE_RATE)) {
+            return null;
+        }
+        EntityWriteLogDetails details = toLogDetails(WRITE_TYPE_SAVE, toKeys(entities), entities.size());
+        details.setChangedFields(getChangedFields(entities));
+        return details;
+    }
+
+    /**
+     * Records a write operation prepared beforehand, if it is recorded.
+     */
+    static void logPrepared(@Nullable EntityWriteLogDetails details) {
+        if (details != null) {
+            log(details);
+        }
+    }
+
+    /**
+     * Records the deletion of entities.
+     */
+    static void logDeleted(Collection<? extends Key<?>> keys) {
+        if (shouldLog(Config.DATASTORE_WRITE_LOG_SAMPLE_RATE)) {
+            log(WRITE_TYPE_DELETE, keys, keys.size());
+        }
+    }
+
+    /**
+     * Returns true if a write operation should be recorded, given the fraction of operations to record.
+     */
+    static boolean shouldLog(double sampleRate) {
+        if (sampleRate <= 0 || !log.isInfoEnabled()) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static void log(String writeType, Collection<? extends Key<?>> keys, int numEntities) {
+        if (numEntities == 0) {
+            return;
+        }
+        log(toLogDetails(writeType, keys, numEntities));
+    }
+
+    private static void log(EntityWriteLogDetails details) {
+        log.event(String.format("Entity write: %s %d %s", details.getWriteType(), details.getNumEntities(),
+                details.getEntityKind()), details);
+    }
+
+    /**
+     * Builds the entry recording a write operation on entities of the same kind.
+     *
+     * @param keys keys of (at least the first few of) the entities written
+     * @param numEntities number of entities written
+     */
+    static EntityWriteLogDetails toLogDetails(String writeType, Collection<? extends Key<?>> keys, int numEntities) {
+        List<String> keyNames = new ArrayList<>(Math.min(keys.size(), MAX_KEYS_PER_ENTRY));
+        String entityKind = null;
+        for (Key<?> key : keys) {
+            if (keyNames.size() == MAX_KEYS_PER_ENTRY) {
+                break;
+            }
+            if (entityKind == null) {
+                entityKind = key.getKind();
+            }
+            keyNames.add(key.getName() == null ? String.valueOf(key.getId()) : key.getName());
+        }
+
+        EntityWriteLogDetails details = new EntityWriteLogDetails();
+        details.setEntityKind(entityKind);
+        details.setWriteType(writeType);
+        details.setNumEntities(numEntities);
+        details.setEntityKeys(keyNames);
+        return details;
+    }
+
+    /**
+     * Returns the names of the fields of the first few entities, as many as are listed in one entry,
+     * whose values differ from those of the entities as they are stored.
+     *
+     * <p>The stored entities are read directly from the database, as those loaded through Objectify may be
+     * the very objects being saved.
+     */
+    static List<String> getChangedFields(Collection<?> entities) {
+        List<FullEntity<?>> newEntities = new ArrayList<>(Math.min(entities.size(), MAX_KEYS_PER_ENTRY));
+        List<com.google.cloud.datastore.Key> rawKeys = new ArrayList<>(newEntities.size());
+        for (Object entity : entities) {
+            if (newEntities.size() == MAX_KEYS_PER_ENTRY) {
+                break;
+            }
+            newEntities.add(ofy().save().toEntity(entity));
+            rawKeys.add(Key.create(entity).getRaw());
+        }
+        List<Entity> storedEntities = ofy().factory().datastore()
+                .fetch(rawKeys.toArray(new com.google.cloud.datastore.Key[0]));
+
+        Set<String> changedFields = new TreeSet<>();
+        for (int i = 0; i < newEntities.size(); i++) {
+            addChangedFields(storedEntities.get(i), newEntities.get(i), changedFields);
+        }
+        return new ArrayList<>(changedFields);
+    }
+
+    private static void addChangedFields(@Nullable BaseEntity<?> storedEntity, BaseEntity<?> newEntity,
+            Set<String> changedFields) {
+        Set<String> fields = new HashSet<>(newEntity.getNames());
+        if (storedEntity != null) {
+            fields.addAll(storedEntity.getNames());
+        }
+        for (String field : fields) {
+            Object storedValue = storedEntity != null && storedEntity.contains(field)
+                    ? storedEntity.getValue(field)
+                    : null;
+            Object newValue = newEntity.contains(field) ? newEntity.getValue(field) : null;
+            if (!Objects.equals(storedValue, newValue)) {
+                changedFields.add(field);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the first few entities, as many as are listed in one entry.
+     */
+    private static List<Key<?>> toKeys(Collection<?> entities) {
+        List<Key<?>> keys = new ArrayList<>(Math.min(entities.size(), MAX_KEYS_PER_ENTRY));
+        for (Object entity : entities) {
+            if (keys.size() == MAX_KEYS_PER_ENTRY) {
+                break;
+            }
+            keys.add(Key.create(entity));
+        }
+        return keys;
+    }
+
+}
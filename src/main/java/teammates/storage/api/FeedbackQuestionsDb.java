@@ -38,7 +38,10 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId));
+        FeedbackQuestion feedbackQuestion = makeKeyFromWebSafeString(feedbackQuestionId)
+                .map(this::getCachedEntity)
+                .orElse(null);
+        return makeAttributesOrNull(feedbackQuestion);
     }
 
     /**
@@ -115,7 +118,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         boolean hasSameAttributes =
                 this.<Integer>hasSameValue(feedbackQuestion.getQuestionNumber(), newAttributes.getQuestionNumber())
                 && this.<String>hasSameValue(
-                        feedbackQuestion.getQuestionText(), newAttributes.getSerializedQuestionDetails())
+                        feedbackQuestion.getQuestionText(), newAttributes.getSerializedQuestionDetailsForStorage())
                 && this.<String>hasSameValue(
                         feedbackQuestion.getQuestionDescription(), newAttributes.getQuestionDescription())
                 && this.<FeedbackParticipantType>hasSameValue(
@@ -136,7 +139,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         }
 
         feedbackQuestion.setQuestionNumber(newAttributes.getQuestionNumber());
-        feedbackQuestion.setQuestionText(newAttributes.getSerializedQuestionDetails());
+        feedbackQuestion.setQuestionText(newAttributes.getSerializedQuestionDetailsForStorage());
         feedbackQuestion.setQuestionDescription(newAttributes.getQuestionDescription());
         feedbackQuestion.setGiverType(newAttributes.getGiverType());
         feedbackQuestion.setRecipientType(newAttributes.getRecipientType());
@@ -216,13 +219,10 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
 
     private boolean hasFeedbackQuestionEntitiesForGiverType(
             String feedbackSessionName, String courseId, FeedbackParticipantType giverType) {
-        return load()
+        return hasAnyEntity(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
-                .filter("giverType =", giverType)
-                .keys()
-                .list()
-                .size() != 0;
+                .filter("giverType =", giverType));
     }
 
     @Override
@@ -230,15 +230,17 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         return ofy().load().type(FeedbackQuestion.class);
     }
 
+    @Override
+    boolean hasGeneratedIds() {
+        return true;
+    }
+
     @Override
     boolean hasExistingEntities(FeedbackQuestionAttributes entityToCreate) {
-        return !load()
+        return hasAnyEntity(load()
                 .filter("feedbackSessionName =", entityToCreate.getFeedbackSessionName())
                 .filter("courseId =", entityToCreate.getCourseId())
-                .filter("questionNumber =", entityToCreate.getQuestionNumber())
-                .keys()
-                .list()
-                .isEmpty();
+                .filter("questionNumber =", entityToCreate.getQuestionNumber()));
     }
 
     @Override
@@ -3,10 +3,16 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -33,6 +39,8 @@ public final class FeedbackResponseCommentsDb
 
     private static final FeedbackResponseCommentsDb instance = new FeedbackResponseCommentsDb();
 
+    private final FeedbackResultsSnapshotsDb snapshotsDb = FeedbackResultsSnapshotsDb.inst();
+
     private FeedbackResponseCommentsDb() {
         // prevent initialization
     }
@@ -102,7 +110,46 @@ public final class FeedbackResponseCommentsDb
         assert courseId != null;
         assert feedbackSessionName != null;
 
-        return makeAttributes(getFeedbackResponseCommentEntitiesForSession(courseId, feedbackSessionName));
+        return streamFeedbackResponseCommentsForSession(courseId, feedbackSessionName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all comments in a feedback session of a course.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseCommentAttributes> streamFeedbackResponseCommentsForSession(
+            String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        return streamAttributes(getFeedbackResponseCommentsForSessionQuery(courseId, feedbackSessionName));
+    }
+
+    /**
+     * Gets the comments of the given responses.
+     *
+     * <p>The responses are grouped by their question, and the comments of each group are read in one query
+     * as in {@link #getFeedbackResponseCommentsForResponsesOfQuestion(String, Set)}, so that only the comments
+     * of the questions of the responses are read, rather than those of their whole sessions.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Set<String> feedbackResponseIds) {
+        assert feedbackResponseIds != null;
+
+        Map<String, Set<String>> responseIdsByQuestion = new HashMap<>();
+        for (String feedbackResponseId : feedbackResponseIds) {
+            responseIdsByQuestion
+                    .computeIfAbsent(FeedbackResultsSnapshotsDb.getQuestionIdOfResponse(feedbackResponseId),
+                            questionId -> new HashSet<>())
+                    .add(feedbackResponseId);
+        }
+
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        responseIdsByQuestion.forEach((questionId, responseIds) ->
+                comments.addAll(getFeedbackResponseCommentsForResponsesOfQuestion(questionId, responseIds)));
+        return comments;
     }
 
     /**
@@ -114,6 +161,43 @@ public final class FeedbackResponseCommentsDb
         return makeAttributes(getFeedbackResponseCommentEntitiesForQuestion(questionId));
     }
 
+    /**
+     * Streams all comments of a feedback question of a course.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseCommentAttributes> streamFeedbackResponseCommentsForQuestion(String questionId) {
+        assert questionId != null;
+
+        return streamAttributes(load().filter("feedbackQuestionId =", questionId));
+    }
+
+    /**
+     * Gets the comments of the given responses of a feedback question.
+     *
+     * <p>The comments are read in one query over the range of the IDs of the responses, rather than one query
+     * per response, as the IN filter is not available through Objectify. The IDs of the responses to a question
+     * start with the ID of the question, so the range stays within the question; for a page of its responses,
+     * which are consecutive in the order of their IDs, only the comments of the page are read.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponsesOfQuestion(
+            String questionId, Set<String> feedbackResponseIds) {
+        assert questionId != null;
+        assert feedbackResponseIds != null;
+
+        if (feedbackResponseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Query<FeedbackResponseComment> query = load()
+                .filter("feedbackResponseId >=", Collections.min(feedbackResponseIds))
+                .filter("feedbackResponseId <=", Collections.max(feedbackResponseIds));
+        try (Stream<FeedbackResponseCommentAttributes> comments = streamAttributes(query)) {
+            return comments
+                    .filter(comment -> feedbackResponseIds.contains(comment.getFeedbackResponseId()))
+                    .collect(Collectors.toList());
+        }
+    }
+
     /**
      * Gets all comments which have its corresponding response given to/from a section of a feedback session of a course.
      */
@@ -154,6 +238,58 @@ public final class FeedbackResponseCommentsDb
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions);
         }
 
+        if (!applyUpdateOptions(frc, updateOptions)) {
+            return makeAttributes(frc);
+        }
+
+        saveEntity(frc);
+
+        return makeAttributes(frc);
+    }
+
+    /**
+     * Updates feedback response comments in bulk by {@link FeedbackResponseCommentAttributes.UpdateOptions}.
+     *
+     * <p>The comments are read at once and the changed ones are saved together.
+     * Comments which cannot be found are skipped.
+     *
+     * @throws InvalidParametersException if attributes to update are not valid
+     */
+    public void updateFeedbackResponseComments(
+            Collection<FeedbackResponseCommentAttributes.UpdateOptions> updateOptionsList)
+            throws InvalidParametersException {
+        assert updateOptionsList != null;
+
+        if (updateOptionsList.isEmpty()) {
+            return;
+        }
+        List<Long> commentIds = updateOptionsList.stream()
+                .map(FeedbackResponseCommentAttributes.UpdateOptions::getFeedbackResponseCommentId)
+                .collect(Collectors.toList());
+        Map<Long, FeedbackResponseComment> comments = load().ids(commentIds);
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes.UpdateOptions updateOptions : updateOptionsList) {
+            FeedbackResponseComment frc = comments.get(updateOptions.getFeedbackResponseCommentId());
+            if (frc != null && applyUpdateOptions(frc, updateOptions)) {
+                commentsToSave.add(frc);
+            }
+        }
+
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+    }
+
+    /**
+     * Applies the update options to the comment entity.
+     *
+     * @return true if the comment is changed
+     * @throws InvalidParametersException if attributes to update are not valid
+     */
+    private boolean applyUpdateOptions(
+            FeedbackResponseComment frc, FeedbackResponseCommentAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException {
         FeedbackResponseCommentAttributes newAttributes = makeAttributes(frc);
         newAttributes.update(updateOptions);
 
@@ -176,7 +312,7 @@ public final class FeedbackResponseCommentsDb
         if (hasSameAttributes) {
             log.info(String.format(
                     OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponseComment.class.getSimpleName(), updateOptions));
-            return newAttributes;
+            return false;
         }
 
         frc.setFeedbackResponseId(newAttributes.getFeedbackResponseId());
@@ -188,9 +324,7 @@ public final class FeedbackResponseCommentsDb
         frc.setGiverSection(newAttributes.getGiverSection());
         frc.setReceiverSection(newAttributes.getReceiverSection());
 
-        saveEntity(frc);
-
-        return makeAttributes(frc);
+        return true;
     }
 
     /**
@@ -243,11 +377,37 @@ public final class FeedbackResponseCommentsDb
      * Deletes a comment.
      */
     public void deleteFeedbackResponseComment(long commentId) {
-        deleteEntity(Key.create(FeedbackResponseComment.class, commentId));
+        deleteComments(Collections.singletonList(Key.create(FeedbackResponseComment.class, commentId)));
+    }
+
+    /**
+     * Deletes the comments with the given IDs.
+     */
+    public void deleteFeedbackResponseCommentsByIds(Collection<Long> commentIds) {
+        assert commentIds != null;
+
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        deleteComments(commentIds.stream()
+                .map(commentId -> Key.create(FeedbackResponseComment.class, commentId))
+                .collect(Collectors.toList()));
+    }
+
+    private void deleteComments(List<Key<FeedbackResponseComment>> keys) {
+        // the questions of the comments are only known before the comments are deleted
+        List<String> questionIds = ofy().load().keys(keys).values().stream()
+                .map(FeedbackResponseComment::getFeedbackQuestionId)
+                .collect(Collectors.toList());
+        deleteEntity(keys);
+        snapshotsDb.invalidateSnapshots(questionIds);
     }
 
     /**
      * Deletes comments using {@link AttributesDeletionQuery}.
+     *
+     * <p>The affected results snapshots in {@link FeedbackResultsSnapshotsDb} are invalidated
+     * once the comments are deleted.
      */
     public void deleteFeedbackResponseComments(AttributesDeletionQuery query) {
         assert query != null;
@@ -266,7 +426,18 @@ public final class FeedbackResponseCommentsDb
             entitiesToDelete = entitiesToDelete.filter("feedbackResponseId =", query.getResponseId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntities(entitiesToDelete);
+
+        if (query.isQuestionIdPresent()) {
+            snapshotsDb.invalidateSnapshots(Collections.singletonList(query.getQuestionId()));
+        } else if (query.isResponseIdPresent()) {
+            snapshotsDb.invalidateSnapshots(Collections.singletonList(
+                    FeedbackResultsSnapshotsDb.getQuestionIdOfResponse(query.getResponseId())));
+        } else if (query.isFeedbackSessionNamePresent()) {
+            snapshotsDb.deleteSnapshotsForSession(query.getCourseId(), query.getFeedbackSessionName());
+        } else if (query.isCourseIdPresent()) {
+            snapshotsDb.deleteSnapshotsForCourse(query.getCourseId());
+        }
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(long feedbackResponseCommentId) {
@@ -318,12 +489,11 @@ public final class FeedbackResponseCommentsDb
         return getFeedbackResponseCommentsForResponseQuery(feedbackResponseId).list();
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSession(
+    private Query<FeedbackResponseComment> getFeedbackResponseCommentsForSessionQuery(
             String courseId, String feedbackSessionName) {
         return load()
                 .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .list();
+                .filter("feedbackSessionName =", feedbackSessionName);
     }
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForQuestion(String questionId) {
@@ -390,12 +560,24 @@ public final class FeedbackResponseCommentsDb
         return ofy().load().type(FeedbackResponseComment.class);
     }
 
+    @Override
+    boolean hasGeneratedIds() {
+        return true;
+    }
+
     @Override
     boolean hasExistingEntities(FeedbackResponseCommentAttributes entityToCreate) {
         // comment does not have unique constraint
         return false;
     }
 
+    @Override
+    void afterEntitiesWritten(Collection<FeedbackResponseComment> entities) {
+        snapshotsDb.invalidateSnapshots(entities.stream()
+                .map(FeedbackResponseComment::getFeedbackQuestionId)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     FeedbackResponseCommentAttributes makeAttributes(FeedbackResponseComment entity) {
         assert entity != null;
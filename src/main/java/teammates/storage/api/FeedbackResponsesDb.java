@@ -3,19 +3,27 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.google.cloud.datastore.Cursor;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.cmd.QueryResultIterator;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.QueryPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -30,8 +38,16 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * The greatest string of one character, which sorts after every other string of one character.
+     */
+    private static final String MAX_CHARACTER = new String(Character.toChars(Character.MAX_CODE_POINT));
+
     private static final FeedbackResponsesDb instance = new FeedbackResponsesDb();
 
+    private final FeedbackSessionGiversDb fsGiversDb = FeedbackSessionGiversDb.inst();
+    private final FeedbackResultsSnapshotsDb snapshotsDb = FeedbackResultsSnapshotsDb.inst();
+
     private FeedbackResponsesDb() {
         // prevent initialization
     }
@@ -110,7 +126,60 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesForQuestion(feedbackQuestionId));
+        return streamFeedbackResponsesForQuestion(feedbackQuestionId).collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all feedback responses for a question.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        assert feedbackQuestionId != null;
+
+        return streamAttributes(load().filter("feedbackQuestionId =", feedbackQuestionId));
+    }
+
+    /**
+     * Gets a page of the feedback responses for a question, in the order of their IDs.
+     *
+     * @param pageToken the token of the page from {@link QueryPage#getNextPageToken()}, or null for the first page
+     * @throws IllegalArgumentException if the page token is not valid
+     */
+    public QueryPage<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInPage(
+            String feedbackQuestionId, String pageToken, int pageSize) {
+        assert feedbackQuestionId != null;
+        assert pageSize > 0;
+
+        Query<FeedbackResponse> query = load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .limit(pageSize)
+                .chunk(pageSize);
+        if (pageToken != null) {
+            try {
+                query = query.startAt(Cursor.fromUrlSafe(pageToken));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+            }
+        }
+        QueryResultIterator<FeedbackResponse> iterator = query.iterator();
+        List<FeedbackResponse> page = new ArrayList<>(pageSize);
+        iterator.forEachRemaining(page::add);
+
+        // a page which is not full is the last one
+        String nextPageToken = page.size() < pageSize ? null : iterator.getCursorAfter().toUrlSafe();
+        return new QueryPage<>(makeAttributes(page), nextPageToken);
+    }
+
+    /**
+     * Gets the number of feedback responses for a question.
+     */
+    public int getNumFeedbackResponsesForQuestion(String feedbackQuestionId) {
+        assert feedbackQuestionId != null;
+
+        return load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .count();
     }
 
     /**
@@ -119,11 +188,8 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
     public boolean areThereResponsesForQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return !load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .keys()
-                .list()
-                .isEmpty();
+        return hasAnyEntity(load()
+                .filter("feedbackQuestionId =", feedbackQuestionId));
     }
 
     /**
@@ -134,7 +200,22 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert feedbackSessionName != null;
         assert courseId != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesForSession(feedbackSessionName, courseId));
+        return streamFeedbackResponsesForSession(feedbackSessionName, courseId).collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all responses of a feedback session in a course.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForSession(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return streamAttributes(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId));
     }
 
     /**
@@ -148,8 +229,51 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert section != null;
         assert fetchType != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesForSessionInSection(
-                feedbackSessionName, courseId, section, fetchType));
+        return streamFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section, fetchType)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all responses given to/from a section in a feedback session in a course.
+     * Optionally, retrieves by either giver, receiver sections, or both.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForSessionInSection(
+            String feedbackSessionName, String courseId, String section, FeedbackResultFetchType fetchType) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert section != null;
+        assert fetchType != null;
+
+        Query<FeedbackResponse> sessionQuery = load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId);
+        FeedbackResponsesQueryPlanner.Plan plan = FeedbackResponsesQueryPlanner.planForSession(
+                feedbackSessionName, courseId, section, fetchType, estimateScopeSize(sessionQuery, fetchType));
+        log.info(plan.explain());
+        if (plan.getStrategy() == FeedbackResponsesQueryPlanner.Strategy.IN_MEMORY_FILTER) {
+            return streamAttributes(sessionQuery)
+                    .filter(response -> isInSection(response.getGiverSection(), response.getRecipientSection(),
+                            section, fetchType));
+        }
+
+        Stream<FeedbackResponseAttributes> responsesFromSection = fetchType.shouldFetchByGiver()
+                ? streamAttributes(sessionQuery.filter("giverSection =", section))
+                : Stream.empty();
+        if (!fetchType.shouldFetchByReceiver()) {
+            return responsesFromSection;
+        }
+
+        Stream<FeedbackResponseAttributes> responsesToSection =
+                streamAttributes(sessionQuery.filter("receiverSection =", section));
+        if (!fetchType.shouldFetchByGiver()) {
+            return responsesToSection;
+        }
+        // responses within the section match both queries; only the first occurrence is kept
+        Set<String> seenResponseIds = new HashSet<>();
+        return Stream.concat(responsesFromSection, responsesToSection)
+                .filter(response -> seenResponseIds.add(response.getId()));
     }
 
     /**
@@ -201,7 +325,22 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert courseId != null;
         assert receiver != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesForReceiverForCourse(courseId, receiver));
+        return streamFeedbackResponsesForReceiverForCourse(courseId, receiver).collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all responses given to a user in a course.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForReceiverForCourse(
+            String courseId, String receiver) {
+        assert courseId != null;
+        assert receiver != null;
+
+        return streamAttributes(load()
+                .filter("courseId =", courseId)
+                .filter("receiver =", receiver));
     }
 
     /**
@@ -212,7 +351,22 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         assert courseId != null;
         assert giverEmail != null;
 
-        return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
+        return streamFeedbackResponsesFromGiverForCourse(courseId, giverEmail).collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all responses given by a user in a course.
+     *
+     * @see #streamAttributes(Query)
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesFromGiverForCourse(
+            String courseId, String giverEmail) {
+        assert courseId != null;
+        assert giverEmail != null;
+
+        return streamAttributes(load()
+                .filter("courseId =", courseId)
+                .filter("giverEmail =", giverEmail));
     }
 
     /**
@@ -252,7 +406,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                     this.<String>hasSameValue(oldResponse.getGiverSection(), newAttributes.getGiverSection())
                     && this.<String>hasSameValue(oldResponse.getRecipientSection(), newAttributes.getRecipientSection())
                     && this.<String>hasSameValue(
-                            oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetail());
+                            oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetailForStorage());
             if (hasSameAttributes) {
                 log.info(String.format(
                         OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponse.class.getSimpleName(), updateOptions));
@@ -261,7 +415,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
 
             oldResponse.setGiverSection(newAttributes.getGiverSection());
             oldResponse.setRecipientSection(newAttributes.getRecipientSection());
-            oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetail());
+            oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetailForStorage());
 
             saveEntity(oldResponse);
 
@@ -273,7 +427,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                              newAttributes.getRecipient())
                     .withCourseId(newAttributes.getCourseId())
                     .withFeedbackSessionName(newAttributes.getFeedbackSessionName())
-                    .withResponseDetails(newAttributes.getResponseDetailsCopy())
+                    .withResponseDetails(newAttributes.getResponseDetails())
                     .withGiverSection(newAttributes.getGiverSection())
                     .withRecipientSection(newAttributes.getRecipientSection())
                     .build();
@@ -284,6 +438,99 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         }
     }
 
+    /**
+     * Updates feedback responses in bulk with {@link FeedbackResponseAttributes.UpdateOptions}.
+     *
+     * <p>Each response is updated as by {@link #updateFeedbackResponse(FeedbackResponseAttributes.UpdateOptions)},
+     * but the responses are read at once and written together. Responses which cannot be found are skipped.
+     *
+     * @return the updated responses, keyed by their ID before the update
+     * @throws InvalidParametersException if attributes to update are not valid
+     * @throws EntityAlreadyExistsException if a response cannot be updated
+     *         by recreation because of an existent response
+     */
+    public Map<String, FeedbackResponseAttributes> updateFeedbackResponses(
+            Collection<FeedbackResponseAttributes.UpdateOptions> updateOptionsList)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        assert updateOptionsList != null;
+
+        List<String> responseIds = updateOptionsList.stream()
+                .map(FeedbackResponseAttributes.UpdateOptions::getFeedbackResponseId)
+                .collect(Collectors.toList());
+        Map<String, FeedbackResponse> oldResponses = load().ids(responseIds);
+
+        Map<String, FeedbackResponseAttributes> updatedResponses = new LinkedHashMap<>();
+        List<FeedbackResponse> responsesToSave = new ArrayList<>();
+        Map<String, FeedbackResponseAttributes> responsesToRecreate = new LinkedHashMap<>();
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponseAttributes.UpdateOptions updateOptions : updateOptionsList) {
+            FeedbackResponse oldResponse = oldResponses.get(updateOptions.getFeedbackResponseId());
+            if (oldResponse == null) {
+                continue;
+            }
+
+            FeedbackResponseAttributes newAttributes = makeAttributes(oldResponse);
+            newAttributes.update(updateOptions);
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+            }
+
+            if (newAttributes.getRecipient().equals(oldResponse.getRecipientEmail())
+                    && newAttributes.getGiver().equals(oldResponse.getGiverEmail())) {
+                boolean hasSameAttributes =
+                        this.<String>hasSameValue(oldResponse.getGiverSection(), newAttributes.getGiverSection())
+                        && this.<String>hasSameValue(
+                                oldResponse.getRecipientSection(), newAttributes.getRecipientSection())
+                        && this.<String>hasSameValue(
+                                oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetailForStorage());
+                if (!hasSameAttributes) {
+                    oldResponse.setGiverSection(newAttributes.getGiverSection());
+                    oldResponse.setRecipientSection(newAttributes.getRecipientSection());
+                    oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetailForStorage());
+                    responsesToSave.add(oldResponse);
+                }
+                updatedResponses.put(oldResponse.getId(), newAttributes);
+            } else {
+                // need to recreate the entity
+                FeedbackResponseAttributes recreatedResponse = FeedbackResponseAttributes
+                        .builder(newAttributes.getFeedbackQuestionId(), newAttributes.getGiver(),
+                                 newAttributes.getRecipient())
+                        .withCourseId(newAttributes.getCourseId())
+                        .withFeedbackSessionName(newAttributes.getFeedbackSessionName())
+                        .withResponseDetails(newAttributes.getResponseDetails())
+                        .withGiverSection(newAttributes.getGiverSection())
+                        .withRecipientSection(newAttributes.getRecipientSection())
+                        .build();
+                if (responsesToRecreate.containsKey(recreatedResponse.getId())) {
+                    throw new EntityAlreadyExistsException(
+                            String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, recreatedResponse));
+                }
+                responsesToRecreate.put(recreatedResponse.getId(), recreatedResponse);
+                keysToDelete.add(Key.create(FeedbackResponse.class, oldResponse.getId()));
+                updatedResponses.put(oldResponse.getId(), recreatedResponse);
+            }
+        }
+
+        if (!responsesToRecreate.isEmpty()) {
+            Map<String, FeedbackResponse> existingResponses = load().ids(responsesToRecreate.keySet());
+            if (!existingResponses.isEmpty()) {
+                throw new EntityAlreadyExistsException(String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS,
+                        makeAttributes(existingResponses.values().iterator().next())));
+            }
+            putEntities(responsesToRecreate.values());
+        }
+        if (!responsesToSave.isEmpty()) {
+            saveEntities(responsesToSave);
+        }
+        if (!keysToDelete.isEmpty()) {
+            deleteEntity(keysToDelete);
+        }
+
+        return updatedResponses;
+    }
+
     /**
      * Deletes a feedback response.
      */
@@ -293,12 +540,42 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         deleteEntity(Key.create(FeedbackResponse.class, responseId));
     }
 
+    /**
+     * Deletes the feedback responses with the given IDs.
+     */
+    public void deleteFeedbackResponsesByIds(Collection<String> responseIds) {
+        assert responseIds != null;
+
+        if (responseIds.isEmpty()) {
+            return;
+        }
+        deleteEntity(responseIds.stream()
+                .map(responseId -> Key.create(FeedbackResponse.class, responseId))
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Deletes responses using {@link AttributesDeletionQuery}.
+     *
+     * <p>The sets of givers of the affected sessions in {@link FeedbackSessionGiversDb} are deleted as well,
+     * to be rebuilt from the remaining responses when next read; the affected results snapshots
+     * in {@link FeedbackResultsSnapshotsDb} are invalidated once the responses are deleted.
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         assert query != null;
 
+        if (query.isQuestionIdPresent()) {
+            FeedbackResponse responseOfQuestion =
+                    load().filter("feedbackQuestionId =", query.getQuestionId()).first().now();
+            if (responseOfQuestion != null) {
+                fsGiversDb.deleteGivers(responseOfQuestion.getCourseId(), responseOfQuestion.getFeedbackSessionName());
+            }
+        } else if (query.isFeedbackSessionNamePresent()) {
+            fsGiversDb.deleteGivers(query.getCourseId(), query.getFeedbackSessionName());
+        } else if (query.isCourseIdPresent()) {
+            fsGiversDb.deleteGiversForCourse(query.getCourseId());
+        }
+
         Query<FeedbackResponse> entitiesToDelete = load().project();
         if (query.isCourseIdPresent()) {
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
@@ -310,7 +587,15 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
             entitiesToDelete = entitiesToDelete.filter("feedbackQuestionId =", query.getQuestionId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntities(entitiesToDelete);
+
+        if (query.isQuestionIdPresent()) {
+            snapshotsDb.invalidateSnapshots(Collections.singletonList(query.getQuestionId()));
+        } else if (query.isFeedbackSessionNamePresent()) {
+            snapshotsDb.deleteSnapshotsForSession(query.getCourseId(), query.getFeedbackSessionName());
+        } else if (query.isCourseIdPresent()) {
+            snapshotsDb.deleteSnapshotsForCourse(query.getCourseId());
+        }
     }
 
     /**
@@ -318,7 +603,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
      */
     public boolean hasFeedbackResponseEntitiesForCourse(String courseId) {
         assert courseId != null;
-        return !load().filter("courseId =", courseId).keys().list().isEmpty();
+        return hasAnyEntity(load().filter("courseId =", courseId));
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
@@ -327,6 +612,18 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
             String feedbackQuestionId, String section, FeedbackResultFetchType fetchType) {
+        FeedbackResponsesQueryPlanner.Plan plan = FeedbackResponsesQueryPlanner.planForQuestion(
+                feedbackQuestionId, section, fetchType,
+                estimateScopeSize(load().filter("feedbackQuestionId =", feedbackQuestionId), fetchType));
+        log.info(plan.explain());
+        if (plan.getStrategy() == FeedbackResponsesQueryPlanner.Strategy.KEY_RANGE_SCAN) {
+            return loadByKeyPrefix(feedbackQuestionId + "%").list().stream()
+                    .filter(response -> feedbackQuestionId.equals(response.getFeedbackQuestionId()))
+                    .filter(response -> isInSection(response.getGiverSection(), response.getRecipientSection(),
+                            section, fetchType))
+                    .collect(Collectors.toList());
+        }
+
         Map<String, FeedbackResponse> allResponses = new HashMap<>();
 
         if (fetchType.shouldFetchByGiver()) {
@@ -343,46 +640,37 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return allResponses.values();
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
-        return load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .list();
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
+            String feedbackQuestionId, String giverEmail) {
+        // the keys of the responses start with the question ID and the giver, see generateId() in FeedbackResponse.java
+        return loadByKeyPrefix(FeedbackResponse.generateId(feedbackQuestionId, giverEmail, "")).list().stream()
+                .filter(response -> feedbackQuestionId.equals(response.getFeedbackQuestionId())
+                        && giverEmail.equals(response.getGiverEmail()))
+                .collect(Collectors.toList());
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForSession(String feedbackSessionName, String courseId) {
+    /**
+     * Returns a query for the responses whose ID starts with the given prefix, served by a scan of the key range.
+     */
+    private Query<FeedbackResponse> loadByKeyPrefix(String idPrefix) {
         return load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .list();
+                .filterKey(">=", Key.create(FeedbackResponse.class, idPrefix))
+                .filterKey("<", Key.create(FeedbackResponse.class, idPrefix + MAX_CHARACTER));
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
-            String feedbackSessionName, String courseId, String section, FeedbackResultFetchType fetchType) {
-        Map<String, FeedbackResponse> allResponse = new HashMap<>();
-
-        if (fetchType.shouldFetchByGiver()) {
-            load().filter("feedbackSessionName =", feedbackSessionName)
-                    .filter("courseId =", courseId)
-                    .filter("giverSection =", section)
-                    .forEach(resp -> allResponse.put(resp.getId(), resp));
-        }
-
-        if (fetchType.shouldFetchByReceiver()) {
-            load().filter("feedbackSessionName =", feedbackSessionName)
-                    .filter("courseId =", courseId)
-                    .filter("receiverSection =", section)
-                    .forEach(resp -> allResponse.put(resp.getId(), resp));
-        }
-
-        return allResponse.values();
+    /**
+     * Estimates the number of responses matched by the query, counting up to the number above which
+     * the {@link FeedbackResponsesQueryPlanner} always chooses index queries.
+     */
+    private int estimateScopeSize(Query<FeedbackResponse> scopeQuery, FeedbackResultFetchType fetchType) {
+        // counting is a keys-only query
+        return scopeQuery.limit(FeedbackResponsesQueryPlanner.getMaxScopeSizeToEstimate(fetchType)).count();
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
-            String feedbackQuestionId, String giverEmail) {
-        return load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .list();
+    private static boolean isInSection(String giverSection, String recipientSection, String section,
+            FeedbackResultFetchType fetchType) {
+        return (fetchType.shouldFetchByGiver() && section.equals(giverSection))
+                || (fetchType.shouldFetchByReceiver() && section.equals(recipientSection));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestion(
@@ -393,22 +681,6 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                 .list();
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
-            String courseId, String receiver) {
-        return load()
-                .filter("courseId =", courseId)
-                .filter("receiver =", receiver)
-                .list();
-    }
-
-    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForCourse(
-            String courseId, String giverEmail) {
-        return load()
-                .filter("courseId =", courseId)
-                .filter("giverEmail =", giverEmail)
-                .list();
-    }
-
     @Override
     LoadType<FeedbackResponse> load() {
         return ofy().load().type(FeedbackResponse.class);
@@ -416,13 +688,24 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
 
     @Override
     boolean hasExistingEntities(FeedbackResponseAttributes entityToCreate) {
-        return !load()
+        return hasAnyEntity(load()
                 .filterKey(Key.create(FeedbackResponse.class,
                         FeedbackResponse.generateId(entityToCreate.getFeedbackQuestionId(),
-                                entityToCreate.getGiver(), entityToCreate.getRecipient())))
-                .keys()
-                .list()
-                .isEmpty();
+                                entityToCreate.getGiver(), entityToCreate.getRecipient()))));
+    }
+
+    @Override
+    void afterEntitiesWritten(Collection<FeedbackResponse> entities) {
+        snapshotsDb.invalidateSnapshots(entities.stream()
+                .map(FeedbackResponse::getFeedbackQuestionId)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    void afterEntitiesDeleted(List<Key<FeedbackResponse>> keys) {
+        snapshotsDb.invalidateSnapshots(keys.stream()
+                .map(key -> FeedbackResultsSnapshotsDb.getQuestionIdOfResponse(key.getName()))
+                .collect(Collectors.toList()));
     }
 
     @Override
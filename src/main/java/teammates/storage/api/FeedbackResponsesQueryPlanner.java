@@ -0,0 +1,152 @@
+package teammates.storage.api;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+
+/**
+ * Chooses how {@link FeedbackResponsesDb} fetches the responses of a question or a session
+ * which are given by and/or to a section.
+ *
+ * <p>The responses can be fetched in one of the following ways:
+ * <ul>
+ * <li>{@link Strategy#INDEX_QUERY}: one query per section property, backed by the composite indexes
+ * on the question or session and {@code giverSection}/{@code receiverSection} declared in index.yaml.
+ * Only the responses in the section are read, but fetching both given and received responses
+ * takes two queries whose results overlap.</li>
+ * <li>{@link Strategy#KEY_RANGE_SCAN}: one scan over the keys of the question, which all start with
+ * the question ID (see {@link teammates.storage.entity.FeedbackResponse#generateId(String, String, String)}),
+ * with the sections filtered in memory. It needs no index.</li>
+ * <li>{@link Strategy#IN_MEMORY_FILTER}: one query for all responses of the session,
+ * with the sections filtered in memory.</li>
+ * </ul>
+ *
+ * <p>Reading the whole question or session is only chosen when it is estimated to hold few enough responses
+ * that reading all of them costs less than running the additional index queries.
+ */
+final class FeedbackResponsesQueryPlanner {
+
+    /**
+     * Largest number of responses which are read and filtered in memory in place of each index query.
+     */
+    static final int MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY = 500;
+
+    private FeedbackResponsesQueryPlanner() {
+        // utility class
+    }
+
+    /**
+     * Returns the maximum number of responses in the question or session that is worth counting
+     * to estimate its size; any larger scope is served by index queries anyway.
+     */
+    static int getMaxScopeSizeToEstimate(FeedbackResultFetchType fetchType) {
+        return MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY * getNumIndexQueries(fetchType) + 1;
+    }
+
+    /**
+     * Plans the fetching of the responses of a question in a section.
+     *
+     * @param estimatedQuestionSize the estimated number of responses of the question
+     */
+    static Plan planForQuestion(String questionId, String section, FeedbackResultFetchType fetchType,
+            int estimatedQuestionSize) {
+        Strategy strategy = isWorthReadingWholeScope(fetchType, estimatedQuestionSize)
+                ? Strategy.KEY_RANGE_SCAN
+                : Strategy.INDEX_QUERY;
+        return new Plan(strategy, "question " + questionId, section, fetchType, estimatedQuestionSize);
+    }
+
+    /**
+     * Plans the fetching of the responses of a session in a section.
+     *
+     * @param estimatedSessionSize the estimated number of responses of the session
+     */
+    static Plan planForSession(String feedbackSessionName, String courseId, String section,
+            FeedbackResultFetchType fetchType, int estimatedSessionSize) {
+        Strategy strategy = isWorthReadingWholeScope(fetchType, estimatedSessionSize)
+                ? Strategy.IN_MEMORY_FILTER
+                : Strategy.INDEX_QUERY;
+        return new Plan(strategy, "session " + feedbackSessionName + " of course " + courseId,
+                section, fetchType, estimatedSessionSize);
+    }
+
+    private static boolean isWorthReadingWholeScope(FeedbackResultFetchType fetchType, int estimatedScopeSize) {
+        return estimatedScopeSize <= MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY * getNumIndexQueries(fetchType);
+    }
+
+    private static int getNumIndexQueries(FeedbackResultFetchType fetchType) {
+        return fetchType.shouldFetchByGiver() && fetchType.shouldFetchByReceiver() ? 2 : 1;
+    }
+
+    /**
+     * The ways in which the responses can be fetched.
+     */
+    enum Strategy {
+        INDEX_QUERY,
+        KEY_RANGE_SCAN,
+        IN_MEMORY_FILTER
+    }
+
+    /**
+     * The chosen way of fetching the responses of a question or session in a section.
+     */
+    static final class Plan {
+
+        private final Strategy strategy;
+        private final String scope;
+        private final String section;
+        private final FeedbackResultFetchType fetchType;
+        private final int estimatedScopeSize;
+
+        private Plan(Strategy strategy, String scope, String section, FeedbackResultFetchType fetchType,
+                int estimatedScopeSize) {
+            this.strategy = strategy;
+            this.scope = scope;
+            this.section = section;
+            this.fetchType = fetchType;
+            this.estimatedScopeSize = estimatedScopeSize;
+        }
+
+        Strategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * Describes the plan, in the manner of the output of an EXPLAIN statement.
+         */
+        String explain() {
+            StringBuilder explanation = new StringBuilder("FeedbackResponse query plan: ")
+                    .append(strategy)
+                    .append(" for ").append(fetchType)
+                    .append(" responses of section ").append(section)
+                    .append(" in ").append(scope)
+                    .append(" (");
+            int maxScopeSizeToEstimate = getMaxScopeSizeToEstimate(fetchType);
+            if (estimatedScopeSize >= maxScopeSizeToEstimate) {
+                explanation.append("more than ").append(maxScopeSizeToEstimate - 1);
+            } else {
+                explanation.append(estimatedScopeSize);
+            }
+            explanation.append(" responses in scope)");
+            switch (strategy) {
+            case INDEX_QUERY:
+                explanation.append(": ").append(getNumIndexQueries(fetchType)).append(" index query(s)");
+                break;
+            case KEY_RANGE_SCAN:
+                explanation.append(": 1 key range scan, sections filtered in memory");
+                break;
+            case IN_MEMORY_FILTER:
+                explanation.append(": 1 session query, sections filtered in memory");
+                break;
+            default:
+                assert false : "Unknown strategy " + strategy;
+            }
+            return explanation.toString();
+        }
+
+        @Override
+        public String toString() {
+            return explain();
+        }
+
+    }
+
+}
@@ -0,0 +1,418 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.storage.entity.FeedbackQuestionResultsSnapshot;
+import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackSessionResultsSnapshotsRequest;
+
+/**
+ * Handles snapshots of the responses to feedback questions and the comments on them.
+ *
+ * <p>A snapshot is taken of the results of one question at a time, and is read in place of querying
+ * the responses and comments of the question until it is invalidated. Snapshots are invalidated, i.e. deleted,
+ * whenever a response or comment of their question is written through {@link FeedbackResponsesDb} or
+ * {@link FeedbackResponseCommentsDb}, once the write is done, or once the {@link WriteBatch} open at the time
+ * is flushed. To keep a write racing with the taking of a snapshot from being missed by the snapshot,
+ * the snapshot is saved incomplete before the results are read, and is only completed in a transaction
+ * if it has not been invalidated or replaced since.
+ *
+ * <p>The snapshots only hold the stored responses and comments: they do not depend on the viewer of the results,
+ * whose visibility is still applied to them when the results are read.
+ *
+ * @see FeedbackQuestionResultsSnapshot
+ */
+public final class FeedbackResultsSnapshotsDb {
+
+    /**
+     * Maximum size of the serialized results in a snapshot, in bytes, kept below the maximum size of an entity.
+     */
+    static final int MAX_DATA_SIZE = 900 * 1024;
+
+    /**
+     * Age after which a request for the snapshots of a session which is still pending, e.g. because its task
+     * was lost, may be made again.
+     */
+    static final Duration MAX_REQUEST_AGE = Duration.ofHours(1);
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final FeedbackResultsSnapshotsDb instance = new FeedbackResultsSnapshotsDb();
+
+    private FeedbackResultsSnapshotsDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackResultsSnapshotsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the results in the fresh snapshots of the given questions.
+     *
+     * @return the results keyed by the ID of their question; questions without fresh snapshots are absent,
+     *         and questions whose snapshots were taken without their results map to results which are not kept
+     */
+    public Map<String, QuestionResults> getFreshSnapshots(Collection<String> feedbackQuestionIds) {
+        assert feedbackQuestionIds != null;
+
+        Map<String, QuestionResults> results = new HashMap<>();
+        for (FeedbackQuestionResultsSnapshot snapshot : load().ids(feedbackQuestionIds).values()) {
+            if (!snapshot.isComplete()) {
+                continue;
+            }
+            QuestionResults questionResults = snapshot.getData() == null
+                    ? QuestionResults.NOT_KEPT
+                    : deserialize(snapshot);
+            if (questionResults != null) {
+                results.put(snapshot.getFeedbackQuestionId(), questionResults);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the IDs of the questions of a session which have fresh snapshots, including snapshots taken
+     * without the results of their questions, without reading the snapshots.
+     */
+    public Set<String> getQuestionIdsWithFreshSnapshots(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        return load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("isComplete =", true)
+                .keys()
+                .list()
+                .stream()
+                .map(Key::getName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Takes a snapshot of the current responses to a question and the comments on them,
+     * replacing the existing snapshot of the question if any.
+     *
+     * <p>If the results of the question are too large to be kept in a snapshot, the snapshot is taken without them,
+     * so that the question is known not to need another snapshot until its results change.
+     *
+     * @return false if the snapshot was invalidated or replaced while the results were read, in which case
+     *         it is not taken
+     */
+    public boolean putSnapshot(String courseId, String feedbackSessionName, String feedbackQuestionId) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+        assert feedbackQuestionId != null;
+
+        FeedbackQuestionResultsSnapshot snapshot =
+                new FeedbackQuestionResultsSnapshot(feedbackQuestionId, courseId, feedbackSessionName);
+        ofy().save().entity(snapshot).now();
+
+        // the results are streamed into the snapshot, and no more are read once it is too large
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int numResponses = 0;
+        int numComments = 0;
+        boolean isDataKept;
+        try (Stream<FeedbackResponseAttributes> responses =
+                        FeedbackResponsesDb.inst().streamFeedbackResponsesForQuestion(feedbackQuestionId);
+                Stream<FeedbackResponseCommentAttributes> comments =
+                        FeedbackResponseCommentsDb.inst().streamFeedbackResponseCommentsForQuestion(feedbackQuestionId)) {
+            try (JsonWriter out = JsonUtils.newCompactJsonWriter(
+                    new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8))) {
+                out.beginObject();
+                out.name("responses");
+                numResponses = writeArray(out, responses.map(StoredResponse::new).iterator(),
+                        JsonUtils.getCompactJsonAdapter(StoredResponse.class), bytes);
+                out.name("comments");
+                numComments = writeArray(out, comments.iterator(),
+                        JsonUtils.getCompactJsonAdapter(FeedbackResponseCommentAttributes.class), bytes);
+                out.endObject();
+            }
+            isDataKept = bytes.size() <= MAX_DATA_SIZE;
+        } catch (IOException e) {
+            log.warning("Failed to serialize results snapshot of question " + feedbackQuestionId, e);
+            isDataKept = false;
+        }
+        if (!isDataKept) {
+            log.info("Results of question " + feedbackQuestionId + " are not kept in a snapshot, after reading "
+                    + numResponses + " responses and " + numComments + " comments");
+        }
+        snapshot.complete(numResponses, numComments, isDataKept ? bytes.toByteArray() : null);
+
+        Key<FeedbackQuestionResultsSnapshot> key = Key.create(snapshot);
+        boolean isTaken = ofy().transact(() -> {
+            FeedbackQuestionResultsSnapshot current = ofy().load().key(key).now();
+            if (current == null || current.isComplete() || !current.getVersion().equals(snapshot.getVersion())) {
+                return false;
+            }
+            ofy().save().entity(snapshot).now();
+            return true;
+        });
+        if (!isTaken) {
+            log.info("Snapshot of question " + feedbackQuestionId + " is not taken: its results changed"
+                    + " while they were read");
+        }
+        return isTaken;
+    }
+
+    /**
+     * Invalidates the snapshots of the given questions, after their responses or comments are written.
+     *
+     * <p>The invalidation is deferred to the {@link WriteBatch} open in the current thread if any,
+     * so that it is only sent once the writes which make the snapshots stale are done.
+     */
+    public void invalidateSnapshots(Collection<String> feedbackQuestionIds) {
+        assert feedbackQuestionIds != null;
+
+        if (feedbackQuestionIds.isEmpty()) {
+            return;
+        }
+        deleteKeysAfterWrites(new HashSet<>(feedbackQuestionIds).stream()
+                .map(feedbackQuestionId -> Key.create(FeedbackQuestionResultsSnapshot.class, feedbackQuestionId))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Deletes the snapshots of all questions in a session, and the pending request for them if any.
+     */
+    public void deleteSnapshotsForSession(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        List<Key<?>> keys = new ArrayList<>(load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .keys()
+                .list());
+        keys.add(getRequestKey(courseId, feedbackSessionName));
+        deleteKeysAfterWrites(keys);
+    }
+
+    /**
+     * Deletes the snapshots of all questions in a course, and the pending requests for them if any.
+     */
+    public void deleteSnapshotsForCourse(String courseId) {
+        assert courseId != null;
+
+        List<Key<?>> keys = new ArrayList<>(load().filter("courseId =", courseId).keys().list());
+        keys.addAll(ofy().load().type(FeedbackSessionResultsSnapshotsRequest.class)
+                .filter("courseId =", courseId)
+                .keys()
+                .list());
+        deleteKeysAfterWrites(keys);
+    }
+
+    private void deleteKeysAfterWrites(List<? extends Key<?>> keys) {
+        WriteBatch batch = WriteBatch.current();
+        if (batch == null) {
+            ofy().delete().keys(keys).now();
+        } else {
+            batch.deleteAfterWrites(keys);
+        }
+    }
+
+    /**
+     * Requests for the snapshots of a session to be taken, unless a request for them is already pending.
+     *
+     * @return true if the request is made, in which case the taking of the snapshots is to be scheduled
+     */
+    public boolean requestSnapshots(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        Key<FeedbackSessionResultsSnapshotsRequest> key = getRequestKey(courseId, feedbackSessionName);
+        return ofy().transact(() -> {
+            FeedbackSessionResultsSnapshotsRequest request = ofy().load().key(key).now();
+            if (request != null && request.getRequestedAt().isAfter(Instant.now().minus(MAX_REQUEST_AGE))) {
+                return false;
+            }
+            ofy().save().entity(new FeedbackSessionResultsSnapshotsRequest(courseId, feedbackSessionName)).now();
+            return true;
+        });
+    }
+
+    /**
+     * Deletes the pending request for the snapshots of a session, as the snapshots start to be taken.
+     *
+     * <p>Fails silently if there is no such request.
+     */
+    public void deleteRequest(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        ofy().delete().key(getRequestKey(courseId, feedbackSessionName)).now();
+    }
+
+    private static Key<FeedbackSessionResultsSnapshotsRequest> getRequestKey(
+            String courseId, String feedbackSessionName) {
+        return Key.create(FeedbackSessionResultsSnapshotsRequest.class,
+                FeedbackSessionResultsSnapshotsRequest.generateId(courseId, feedbackSessionName));
+    }
+
+    /**
+     * Gets the ID of the question of a response from the ID of the response.
+     */
+    static String getQuestionIdOfResponse(String feedbackResponseId) {
+        // the ID of a response starts with the ID of its question, see generateId() in FeedbackResponse.java
+        int endOfQuestionId = feedbackResponseId.indexOf('%');
+        return endOfQuestionId < 0 ? feedbackResponseId : feedbackResponseId.substring(0, endOfQuestionId);
+    }
+
+    private LoadType<FeedbackQuestionResultsSnapshot> load() {
+        return ofy().load().type(FeedbackQuestionResultsSnapshot.class);
+    }
+
+    /**
+     * Writes the values as a JSON array, until the serialized snapshot is larger than {@link #MAX_DATA_SIZE}.
+     *
+     * @return the number of values written
+     */
+    private static <T> int writeArray(JsonWriter out, Iterator<T> values, TypeAdapter<T> adapter,
+            ByteArrayOutputStream bytes) throws IOException {
+        int numValues = 0;
+        out.beginArray();
+        while (bytes.size() <= MAX_DATA_SIZE && values.hasNext()) {
+            adapter.write(out, values.next());
+            numValues++;
+        }
+        out.endArray();
+        return numValues;
+    }
+
+    private static QuestionResults deserialize(FeedbackQuestionResultsSnapshot snapshot) {
+        String json;
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.getData()))) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warning("Failed to deserialize results snapshot of question " + snapshot.getFeedbackQuestionId(), e);
+            return null;
+        }
+        StoredResults storedResults = JsonUtils.fromJson(json, StoredResults.class);
+        List<FeedbackResponseAttributes> responses = storedResults.responses.stream()
+                .map(storedResponse -> storedResponse.toAttributes(snapshot))
+                .collect(Collectors.toList());
+        return new QuestionResults(responses, storedResults.comments);
+    }
+
+    /**
+     * The results of a question as serialized in a snapshot.
+     */
+    private static final class StoredResults {
+
+        private List<StoredResponse> responses;
+        private List<FeedbackResponseCommentAttributes> comments;
+
+    }
+
+    /**
+     * A response as serialized in a snapshot, with the fields of its entity as they are stored.
+     *
+     * <p>The details of the response are kept as stored, so that they are only parsed when accessed,
+     * as for responses loaded from the datastore. The course, session and question of the response are those
+     * of the snapshot.
+     */
+    private static final class StoredResponse {
+
+        private String id;
+        private FeedbackQuestionType questionType;
+        private String giver;
+        private String giverSection;
+        private String recipient;
+        private String recipientSection;
+        private String answer;
+        private Instant createdAt;
+        private Instant updatedAt;
+
+        StoredResponse(FeedbackResponseAttributes response) {
+            this.id = response.getId();
+            this.questionType = response.getFeedbackQuestionType();
+            this.giver = response.getGiver();
+            this.giverSection = response.getGiverSection();
+            this.recipient = response.getRecipient();
+            this.recipientSection = response.getRecipientSection();
+            this.answer = response.getSerializedFeedbackResponseDetailForStorage();
+            this.createdAt = response.getCreatedAt();
+            this.updatedAt = response.getUpdatedAt();
+        }
+
+        FeedbackResponseAttributes toAttributes(FeedbackQuestionResultsSnapshot snapshot) {
+            FeedbackResponse entity = new FeedbackResponse(snapshot.getFeedbackSessionName(), snapshot.getCourseId(),
+                    snapshot.getFeedbackQuestionId(), questionType, giver, giverSection, recipient, recipientSection,
+                    answer);
+            entity.setCreatedAt(createdAt);
+            entity.setLastUpdate(updatedAt);
+            FeedbackResponseAttributes response = FeedbackResponseAttributes.valueOf(entity);
+            response.setId(id);
+            return response;
+        }
+
+    }
+
+    /**
+     * The responses to a question and the comments on them, as read from a snapshot.
+     */
+    public static final class QuestionResults {
+
+        /**
+         * The results of a question whose snapshot was taken without them, as they are too large to be kept.
+         */
+        static final QuestionResults NOT_KEPT = new QuestionResults(null, null);
+
+        private final List<FeedbackResponseAttributes> responses;
+        private final List<FeedbackResponseCommentAttributes> comments;
+
+        QuestionResults(List<FeedbackResponseAttributes> responses, List<FeedbackResponseCommentAttributes> comments) {
+            this.responses = responses;
+            this.comments = comments;
+        }
+
+        /**
+         * Returns true if the results are kept in the snapshot, i.e. the responses and comments can be read.
+         */
+        public boolean isKept() {
+            return responses != null;
+        }
+
+        public List<FeedbackResponseAttributes> getResponses() {
+            return responses;
+        }
+
+        public List<FeedbackResponseCommentAttributes> getComments() {
+            return comments;
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+
+import teammates.storage.entity.FeedbackSessionGiverShard;
+
+/**
+ * Maintains the set of givers who have submitted responses in each feedback session,
+ * so that the number of givers can be read without scanning the responses of the session.
+ *
+ * <p>The set of a session is split into {@value #NUM_SHARDS} shards by the hash of the giver identifier.
+ * Reading the number of givers loads all shards of the session in one batch; adding or removing a giver
+ * updates the single shard of the giver in a transaction, so that concurrent submissions by different
+ * givers seldom contend for the same entity. As adding or removing a giver is idempotent,
+ * repeating an update after a failure is harmless.
+ *
+ * <p>The set of a session is only known once all of its shards exist, which is once it has been put in full with
+ * {@link #putGivers(String, String, Set, Instant)}: until then, and after the set is deleted, the set is reported
+ * as unknown, to be rebuilt from the responses by the caller. Givers added meanwhile are still recorded
+ * in their shards, so that a rebuild from responses read before they were added does not lose them.
+ *
+ * @see FeedbackSessionGiverShard
+ */
+public final class FeedbackSessionGiversDb {
+
+    /**
+     * Number of shards over which the givers of a session are spread.
+     */
+    static final int NUM_SHARDS = 20;
+
+    private static final FeedbackSessionGiversDb instance = new FeedbackSessionGiversDb();
+
+    private FeedbackSessionGiversDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionGiversDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the number of givers who have submitted responses in a session.
+     *
+     * @return null if the set of givers of the session is unknown
+     */
+    public Integer getNumGivers(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        Map<Key<FeedbackSessionGiverShard>, FeedbackSessionGiverShard> shards =
+                ofy().load().keys(getShardKeys(courseId, feedbackSessionName));
+        if (shards.size() < NUM_SHARDS) {
+            return null;
+        }
+        return shards.values().stream()
+                .mapToInt(shard -> shard.getGivers().size())
+                .sum();
+    }
+
+    /**
+     * Puts the full set of givers who have submitted responses in a session, as read from the responses
+     * at the given time, replacing the existing set if any.
+     *
+     * <p>Each shard is replaced in its own transaction. A shard updated since the responses were read keeps
+     * its givers, so that givers added concurrently are not lost; givers removed concurrently may thus be kept
+     * until the set is put again.
+     */
+    public void putGivers(String courseId, String feedbackSessionName, Set<String> givers, Instant readAt) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+        assert givers != null;
+        assert readAt != null;
+
+        Map<Integer, Set<String>> giversByShard = new HashMap<>();
+        for (int shardIndex = 0; shardIndex < NUM_SHARDS; shardIndex++) {
+            giversByShard.put(shardIndex, new HashSet<>());
+        }
+        for (String giver : givers) {
+            giversByShard.get(getShardIndex(giver)).add(giver);
+        }
+
+        giversByShard.forEach((shardIndex, giversInShard) -> {
+            Key<FeedbackSessionGiverShard> key = getShardKey(courseId, feedbackSessionName, shardIndex);
+            ofy().transact(() -> {
+                FeedbackSessionGiverShard existingShard = ofy().load().key(key).now();
+                Set<String> shardGivers = new HashSet<>(giversInShard);
+                if (existingShard != null && existingShard.getUpdatedAt().isAfter(readAt)) {
+                    shardGivers.addAll(existingShard.getGivers());
+                }
+                ofy().save().entity(
+                        new FeedbackSessionGiverShard(courseId, feedbackSessionName, shardIndex, shardGivers)).now();
+            });
+        });
+    }
+
+    /**
+     * Adds a giver to the set of givers of a session.
+     */
+    public void addGiver(String courseId, String feedbackSessionName, String giver) {
+        updateShardOfGiver(courseId, feedbackSessionName, giver, true);
+    }
+
+    /**
+     * Removes a giver from the set of givers of a session.
+     */
+    public void removeGiver(String courseId, String feedbackSessionName, String giver) {
+        updateShardOfGiver(courseId, feedbackSessionName, giver, false);
+    }
+
+    /**
+     * Adds the giver to, or removes the giver from, the shard of the giver.
+     *
+     * <p>The shard is first looked up outside of a transaction, so that the many updates which leave the set
+     * unchanged, e.g. for givers who already had responses, do not run a transaction.
+     *
+     * @param isAdded whether the giver is added; the shard is created if it does not exist only then
+     */
+    private void updateShardOfGiver(String courseId, String feedbackSessionName, String giver, boolean isAdded) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+        assert giver != null;
+
+        int shardIndex = getShardIndex(giver);
+        Key<FeedbackSessionGiverShard> key = getShardKey(courseId, feedbackSessionName, shardIndex);
+        if (isUnchangedBy(ofy().load().key(key).now(), giver, isAdded)) {
+            return;
+        }
+        ofy().transact(() -> {
+            FeedbackSessionGiverShard shard = ofy().load().key(key).now();
+            if (isUnchangedBy(shard, giver, isAdded)) {
+                return;
+            }
+            if (shard == null) {
+                shard = new FeedbackSessionGiverShard(courseId, feedbackSessionName, shardIndex, new HashSet<>());
+            }
+            if (isAdded) {
+                shard.getGivers().add(giver);
+            } else {
+                shard.getGivers().remove(giver);
+            }
+            shard.setUpdatedAt(Instant.now());
+            ofy().save().entity(shard).now();
+        });
+    }
+
+    private static boolean isUnchangedBy(FeedbackSessionGiverShard shard, String giver, boolean isAdded) {
+        if (shard == null) {
+            return !isAdded;
+        }
+        return shard.getGivers().contains(giver) == isAdded;
+    }
+
+    /**
+     * Deletes the set of givers of a session; it is no longer maintained until it is put again.
+     */
+    public void deleteGivers(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        ofy().delete().keys(getShardKeys(courseId, feedbackSessionName)).now();
+    }
+
+    /**
+     * Deletes the sets of givers of all sessions in a course.
+     */
+    public void deleteGiversForCourse(String courseId) {
+        assert courseId != null;
+
+        ofy().delete().keys(load().filter("courseId =", courseId).keys()).now();
+    }
+
+    private LoadType<FeedbackSessionGiverShard> load() {
+        return ofy().load().type(FeedbackSessionGiverShard.class);
+    }
+
+    private static int getShardIndex(String giver) {
+        return Math.floorMod(giver.hashCode(), NUM_SHARDS);
+    }
+
+    private static List<Key<FeedbackSessionGiverShard>> getShardKeys(String courseId, String feedbackSessionName) {
+        List<Key<FeedbackSessionGiverShard>> keys = new ArrayList<>();
+        for (int shardIndex = 0; shardIndex < NUM_SHARDS; shardIndex++) {
+            keys.add(getShardKey(courseId, feedbackSessionName, shardIndex));
+        }
+        return keys;
+    }
+
+    private static Key<FeedbackSessionGiverShard> getShardKey(String courseId, String feedbackSessionName,
+            int shardIndex) {
+        return Key.create(FeedbackSessionGiverShard.class,
+                FeedbackSessionGiverShard.generateId(courseId, feedbackSessionName, shardIndex));
+    }
+
+}
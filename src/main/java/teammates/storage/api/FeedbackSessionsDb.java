@@ -82,7 +82,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert courseId != null;
 
         FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+                makeAttributesOrNull(getCachedFeedbackSessionEntity(feedbackSessionName, courseId));
 
         if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
             log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
@@ -101,7 +101,7 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert courseId != null;
 
         FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+                makeAttributesOrNull(getCachedFeedbackSessionEntity(feedbackSessionName, courseId));
 
         if (feedbackSession != null && !feedbackSession.isSessionDeleted()) {
             log.info(feedbackSessionName + "/" + courseId + " is not soft-deleted!");
@@ -393,6 +393,10 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         return load().id(FeedbackSession.generateId(feedbackSessionName, courseId)).now();
     }
 
+    private FeedbackSession getCachedFeedbackSessionEntity(String feedbackSessionName, String courseId) {
+        return getCachedEntity(Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId)));
+    }
+
     @Override
     LoadType<FeedbackSession> load() {
         return ofy().load().type(FeedbackSession.class);
@@ -400,12 +404,9 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
 
     @Override
     boolean hasExistingEntities(FeedbackSessionAttributes entityToCreate) {
-        return !load()
+        return hasAnyEntity(load()
                 .filterKey(Key.create(FeedbackSession.class,
-                        FeedbackSession.generateId(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId())))
-                .keys()
-                .list()
-                .isEmpty();
+                        FeedbackSession.generateId(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId()))));
     }
 
     @Override
@@ -0,0 +1,63 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends requests to the Courses service over HTTP.
+ *
+ * <p>A single {@link HttpClient} is shared by all requests so that connections are kept alive
+ * and reused, and HTTP/2 is used whenever the service supports it.
+ * Response bodies are streamed rather than buffered.
+ */
+public class HttpCourseServiceTransport implements CourseServiceTransport {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public HttpCourseServiceTransport(String baseUrl, Duration connectTimeout) {
+        assert baseUrl != null;
+
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    @Override
+    public Response send(String method, String path, String body, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpResponse<InputStream> response =
+                httpClient.send(buildRequest(method, path, body, timeout), BodyHandlers.ofInputStream());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    @Override
+    public CompletableFuture<Response> sendAsync(String method, String path, String body, Duration timeout) {
+        return httpClient.sendAsync(buildRequest(method, path, body, timeout), BodyHandlers.ofInputStream())
+                .thenApply(response -> new Response(response.statusCode(), response.body()));
+    }
+
+    private HttpRequest buildRequest(String method, String path, String body, Duration timeout) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(timeout);
+        if (body == null) {
+            requestBuilder.method(method, BodyPublishers.noBody());
+        } else {
+            requestBuilder.header("Content-Type", "application/json")
+                    .method(method, BodyPublishers.ofString(body));
+        }
+        return requestBuilder.build();
+    }
+
+}
@@ -0,0 +1,49 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import com.google.cloud.datastore.Entity;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * An {@link EntityCache} which keeps entities in the heap of the instance.
+ *
+ * <p>Entries are evicted once the cache is full or once they are older than the configured lifetime.
+ */
+final class InMemoryEntityCache implements EntityCache {
+
+    private final Cache<String, Entity> cache;
+
+    /**
+     * Creates a cache holding at most {@code maximumSize} entities for at most {@code expireAfterWrite}.
+     */
+    InMemoryEntityCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public Entity get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(String key, Entity entity) {
+        cache.put(key, entity);
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        cache.invalidateAll(keys);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+}
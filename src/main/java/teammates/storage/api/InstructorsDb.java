@@ -128,7 +128,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         assert email != null;
         assert courseId != null;
 
-        return makeAttributesOrNull(getInstructorEntityForEmail(courseId, email));
+        return makeAttributesOrNull(getFirstCachedEntity(getInstructorForEmailQuery(courseId, email)));
     }
 
     /**
@@ -138,7 +138,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         assert email != null;
         assert courseId != null;
 
-        return makeAttributesOrNull(getInstructorEntityById(courseId, email));
+        return makeAttributesOrNull(getCachedEntity(Key.create(Instructor.class, Instructor.generateId(email, courseId))));
     }
 
     /**
@@ -148,7 +148,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         assert googleId != null;
         assert courseId != null;
 
-        return makeAttributesOrNull(getInstructorEntityForGoogleId(courseId, googleId));
+        return makeAttributesOrNull(getFirstCachedEntity(getInstructorForGoogleIdQuery(courseId, googleId)));
     }
 
     /**
@@ -177,9 +177,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
     public List<String> getInstructorEmailsForCourse(String courseId) {
         assert courseId != null;
 
-        return load()
-                .filter("courseId =", courseId)
-                .list()
+        return getProjection(load().filter("courseId =", courseId), false, "email")
                 .stream()
                 .map(Instructor::getEmail)
                 .collect(Collectors.toList());
@@ -351,21 +349,23 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         }
     }
 
-    private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
+    private Query<Instructor> getInstructorForGoogleIdQuery(String courseId, String googleId) {
         return getInstructorsForGoogleIdQuery(googleId)
-                .filter("courseId =", courseId)
-                .first().now();
+                .filter("courseId =", courseId);
     }
 
-    private Instructor getInstructorEntityForEmail(String courseId, String email) {
+    private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
+        return getInstructorForGoogleIdQuery(courseId, googleId).first().now();
+    }
+
+    private Query<Instructor> getInstructorForEmailQuery(String courseId, String email) {
         return load()
                 .filter("courseId =", courseId)
-                .filter("email =", email)
-                .first().now();
+                .filter("email =", email);
     }
 
-    private Instructor getInstructorEntityById(String courseId, String email) {
-        return load().id(Instructor.generateId(email, courseId)).now();
+    private Instructor getInstructorEntityForEmail(String courseId, String email) {
+        return getInstructorForEmailQuery(courseId, email).first().now();
     }
 
     private List<Instructor> getInstructorEntitiesThatAreDisplayedInCourse(String courseId) {
@@ -395,7 +395,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
      * Returns true if there are any instructor entities associated with the googleId.
      */
     public boolean hasInstructorsForGoogleId(String googleId) {
-        return !getInstructorsForGoogleIdQuery(googleId).keys().list().isEmpty();
+        return hasAnyEntity(getInstructorsForGoogleIdQuery(googleId));
     }
 
     private Query<Instructor> getInstructorsForGoogleIdQuery(String googleId) {
@@ -431,12 +431,9 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
     @Override
     boolean hasExistingEntities(InstructorAttributes entityToCreate) {
         // cannot use direct key query as email of an instructor can be changed
-        return !load()
+        return hasAnyEntity(load()
                 .filter("courseId =", entityToCreate.getCourseId())
-                .filter("email =", entityToCreate.getEmail())
-                .keys()
-                .list()
-                .isEmpty();
+                .filter("email =", entityToCreate.getEmail()));
     }
 
     @Override
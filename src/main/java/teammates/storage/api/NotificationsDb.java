@@ -127,7 +127,7 @@ public final class NotificationsDb extends EntitiesDb<Notification, Notification
      */
     public boolean doesNotificationExists(String notificationId) {
         Key<Notification> keyToFind = Key.create(Notification.class, notificationId);
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     private Notification getNotificationEntity(String notificationId) {
@@ -142,7 +142,7 @@ public final class NotificationsDb extends EntitiesDb<Notification, Notification
     @Override
     boolean hasExistingEntities(NotificationAttributes entityToCreate) {
         Key<Notification> keyToFind = Key.create(Notification.class, entityToCreate.getNotificationId());
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     @Override
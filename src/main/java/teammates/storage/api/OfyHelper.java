@@ -12,12 +12,16 @@ import teammates.storage.entity.Account;
 import teammates.storage.entity.AccountRequest;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseDeletion;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.DeadlineExtension;
 import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackQuestionResultsSnapshot;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionGiverShard;
+import teammates.storage.entity.FeedbackSessionResultsSnapshotsRequest;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.Notification;
 import teammates.storage.entity.UsageStatistics;
@@ -51,6 +55,10 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(UsageStatistics.class);
         ObjectifyService.register(DeadlineExtension.class);
         ObjectifyService.register(Notification.class);
+        ObjectifyService.register(FeedbackSessionGiverShard.class);
+        ObjectifyService.register(FeedbackQuestionResultsSnapshot.class);
+        ObjectifyService.register(CourseDeletion.class);
+        ObjectifyService.register(FeedbackSessionResultsSnapshotsRequest.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
@@ -0,0 +1,131 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.cloud.datastore.DatastoreException;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+
+/**
+ * Sends batch deletes to the database in parallel, on a pool of threads shared by the instance.
+ *
+ * <p>At most {@code app.datastore.delete.parallelism} batches, as configured in build.properties, are in flight
+ * for each caller at once: once that many batches have been submitted, {@link #submit(List)} waits for the oldest
+ * one to be done. A batch which fails is retried up to {@value #MAX_ATTEMPTS_PER_BATCH} times in total,
+ * with jittered exponential backoff; deleting the same keys again is harmless.
+ *
+ * <p>The entities deleted are removed from the {@link SecondLevelCache} once their batch is done.
+ * The deletes bypass the session cache of the calling thread, which is therefore cleared by {@link #awaitAll()}.
+ */
+final class ParallelKeyDeleter {
+
+    /**
+     * Maximum number of times a batch delete is attempted.
+     */
+    static final int MAX_ATTEMPTS_PER_BATCH = 3;
+
+    /**
+     * Upper bound of the delay before the first retry of a batch delete, in milliseconds.
+     */
+    static final long INITIAL_RETRY_BACKOFF_MILLIS = 200;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(Config.DATASTORE_DELETE_PARALLELISM,
+            runnable -> {
+                Thread thread = new Thread(runnable, "datastore-deleter");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Deque<Future<?>> batchesInFlight = new ArrayDeque<>();
+
+    /**
+     * Submits the deletion of a batch of keys, first waiting for the oldest batch in flight
+     * if the maximum number of batches are in flight.
+     *
+     * @throws DatastoreException if the oldest batch waited for fails in all its attempts
+     */
+    void submit(List<? extends Key<?>> keys) {
+        if (batchesInFlight.size() >= Config.DATASTORE_DELETE_PARALLELISM) {
+            awaitOldest();
+        }
+        batchesInFlight.add(EXECUTOR.submit(() -> {
+            deleteWithRetries(keys);
+            return null;
+        }));
+    }
+
+    /**
+     * Waits for all batches in flight to be done.
+     *
+     * @throws DatastoreException if any of the batches fails in all its attempts; the other batches are
+     *         still waited for
+     */
+    void awaitAll() {
+        RuntimeException failure = null;
+        try {
+            while (!batchesInFlight.isEmpty()) {
+                try {
+                    awaitOldest();
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+            }
+        } finally {
+            ofy().clear();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void awaitOldest() {
+        Future<?> oldest = batchesInFlight.remove();
+        try {
+            oldest.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while deleting entities", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void deleteWithRetries(List<? extends Key<?>> keys) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            if (attempt > 1) {
+                long maxDelay = INITIAL_RETRY_BACKOFF_MILLIS << (attempt - 2);
+                Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1));
+            }
+            try (Closeable session = ObjectifyService.begin()) {
+                ofy().delete().keys(keys).now();
+                SecondLevelCache.inst().invalidate(keys);
+                return;
+            } catch (DatastoreException e) {
+                if (attempt == MAX_ATTEMPTS_PER_BATCH) {
+                    throw e;
+                }
+                log.warning("Attempt " + attempt + " of deleting " + keys.size() + " entities failed: "
+                        + e.getMessage());
+            }
+        }
+    }
+
+}
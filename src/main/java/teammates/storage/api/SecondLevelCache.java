@@ -0,0 +1,252 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.FullEntity;
+import com.googlecode.objectify.Key;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
+
+/**
+ * A cache of entities shared by all requests served by the instance, sitting between {@link EntitiesDb}
+ * and the database.
+ *
+ * <p>Only entities of the kinds configured in build.properties are cached. Every write made through
+ * {@link EntitiesDb} removes the entities written from the cache. As each instance only invalidates its own cache,
+ * other instances may serve an outdated entity until it expires; the cache must therefore not be used to read
+ * entities which are then updated.
+ *
+ * <p>An entity loaded from the database is only cached if its key has not been invalidated since the load started,
+ * so that an entity read before a racing write cannot be put back in the cache after the write invalidated it.
+ * Invalidations are counted per stripe of keys rather than per key, so that they take constant memory.
+ *
+ * <p>The number of hits and misses is kept per kind and the hit ratio is logged periodically.
+ */
+final class SecondLevelCache {
+
+    /**
+     * Number of lookups of a kind between two logs of its hit ratio.
+     */
+    static final long STATS_LOG_INTERVAL = 10000;
+
+    /**
+     * Number of stripes of keys whose invalidations are counted together.
+     */
+    static final int NUM_INVALIDATION_STRIPES = 1024;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final SecondLevelCache instance = new SecondLevelCache(createEntityCache(),
+            Config.DATASTORE_CACHE_KINDS.stream()
+                    .map(String::trim)
+                    .filter(kind -> !kind.isEmpty())
+                    .collect(Collectors.toSet()));
+
+    private final EntityCache cache;
+    private final Set<String> cachedKinds;
+    private final Map<String, KindStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLongArray invalidationCounts = new AtomicLongArray(NUM_INVALIDATION_STRIPES);
+
+    SecondLevelCache(EntityCache cache, Set<String> cachedKinds) {
+        this.cache = cache;
+        this.cachedKinds = cachedKinds;
+    }
+
+    static SecondLevelCache inst() {
+        return instance;
+    }
+
+    private static EntityCache createEntityCache() {
+        Duration ttl = Duration.ofSeconds(Config.DATASTORE_CACHE_TTL_SECONDS);
+        if ("serialized".equals(Config.DATASTORE_CACHE_TYPE)) {
+            return new SerializingEntityCache(Config.DATASTORE_CACHE_SIZE, ttl);
+        }
+        return new InMemoryEntityCache(Config.DATASTORE_CACHE_SIZE, ttl);
+    }
+
+    /**
+     * Returns true if entities of any kind are cached.
+     */
+    boolean isEnabled() {
+        return !cachedKinds.isEmpty();
+    }
+
+    /**
+     * Returns true if entities of the given kind are cached.
+     */
+    boolean isCached(String kind) {
+        return cachedKinds.contains(kind);
+    }
+
+    /**
+     * Gets the cached entity with the given key, as a new object.
+     *
+     * @return null if the entity is not cached
+     */
+    <E> E get(Key<E> key) {
+        Entity entity = cache.get(toCacheKey(key));
+        recordLookup(key.getKind(), entity != null);
+        if (entity == null) {
+            return null;
+        }
+        return ofy().load().fromEntity(entity);
+    }
+
+    /**
+     * Returns the number of invalidations so far of the stripe of keys the given key belongs to.
+     *
+     * <p>This is to be read before loading the entity to be cached with {@link #put(Object, long)}.
+     */
+    long getInvalidationCount(Key<?> key) {
+        return invalidationCounts.get(getStripe(toCacheKey(key)));
+    }
+
+    /**
+     * Caches the given entity, if entities of its kind are cached.
+     */
+    void put(Object pojo) {
+        Key<?> key = Key.create(pojo);
+        if (!isCached(key.getKind())) {
+            return;
+        }
+        FullEntity<?> entity = ofy().save().toEntity(pojo);
+        cache.put(toCacheKey(key), Entity.newBuilder(key.getRaw(), entity).build());
+    }
+
+    /**
+     * Caches the given entity, if entities of its kind are cached and its key has not been invalidated
+     * since the given {@link #getInvalidationCount(Key) invalidation count} was read.
+     */
+    void put(Object pojo, long invalidationCount) {
+        Key<?> key = Key.create(pojo);
+        if (!isCached(key.getKind())) {
+            return;
+        }
+        String cacheKey = toCacheKey(key);
+        int stripe = getStripe(cacheKey);
+        if (invalidationCounts.get(stripe) != invalidationCount) {
+            return;
+        }
+        FullEntity<?> entity = ofy().save().toEntity(pojo);
+        cache.put(cacheKey, Entity.newBuilder(key.getRaw(), entity).build());
+        // an invalidation between the check and the put may have been done before the entity was cached
+        if (invalidationCounts.get(stripe) != invalidationCount) {
+            cache.invalidate(List.of(cacheKey));
+        }
+    }
+
+    /**
+     * Removes the given entities from the cache.
+     */
+    void invalidateEntities(Collection<?> pojos) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Key<?>> keys = new ArrayList<>(pojos.size());
+        for (Object pojo : pojos) {
+            keys.add(Key.create(pojo));
+        }
+        invalidate(keys);
+    }
+
+    /**
+     * Removes the entities with the given keys from the cache.
+     */
+    void invalidate(Collection<? extends Key<?>> keys) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<String> cacheKeys = new ArrayList<>();
+        for (Key<?> key : keys) {
+            if (isCached(key.getKind())) {
+                String cacheKey = toCacheKey(key);
+                // counted before the removal, so that a load racing with it is either not cached or removed again
+                invalidationCounts.incrementAndGet(getStripe(cacheKey));
+                cacheKeys.add(cacheKey);
+            }
+        }
+        if (!cacheKeys.isEmpty()) {
+            cache.invalidate(cacheKeys);
+        }
+    }
+
+    /**
+     * Removes all entities from the cache.
+     */
+    void invalidateAll() {
+        for (int i = 0; i < NUM_INVALIDATION_STRIPES; i++) {
+            invalidationCounts.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the hit/miss statistics of the given kind.
+     */
+    KindStats getStats(String kind) {
+        return stats.computeIfAbsent(kind, k -> new KindStats());
+    }
+
+    private void recordLookup(String kind, boolean isHit) {
+        KindStats kindStats = getStats(kind);
+        if (isHit) {
+            kindStats.hitCount.increment();
+        } else {
+            kindStats.missCount.increment();
+        }
+        long lookupCount = kindStats.getHitCount() + kindStats.getMissCount();
+        if (lookupCount % STATS_LOG_INTERVAL == 0) {
+            log.info(String.format("Second-level cache hit ratio of %s: %.3f over %d lookups",
+                    kind, kindStats.getHitRatio(), lookupCount));
+        }
+    }
+
+    private static String toCacheKey(Key<?> key) {
+        return key.getRaw().toUrlSafe();
+    }
+
+    private static int getStripe(String cacheKey) {
+        return Math.floorMod(cacheKey.hashCode(), NUM_INVALIDATION_STRIPES);
+    }
+
+    /**
+     * Hit/miss statistics of the cache for one kind.
+     */
+    static final class KindStats {
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        long getHitCount() {
+            return hitCount.sum();
+        }
+
+        long getMissCount() {
+            return missCount.sum();
+        }
+
+        /**
+         * Returns the fraction of lookups which found the entity in the cache, or 1 if there was no lookup.
+         */
+        double getHitRatio() {
+            long hits = getHitCount();
+            long lookups = hits + getMissCount();
+            return lookups == 0 ? 1.0 : (double) hits / lookups;
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package teammates.storage.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.cloud.datastore.Entity;
+
+import teammates.common.util.Logger;
+
+/**
+ * An {@link EntityCache} which keeps entities serialized, as a distributed cache would.
+ *
+ * <p>This is a local stand-in for a distributed cache: every entity is serialized on the way in and
+ * deserialized on the way out, so that the cost of using such a cache can be measured on a single instance.
+ * Expired entries are dropped when they are read; once the cache is full, new entities are not cached
+ * until some entries are removed.
+ */
+final class SerializingEntityCache implements EntityCache {
+
+    private static final Logger log = Logger.getLogger();
+
+    private final Map<String, CachedValue> cache = new ConcurrentHashMap<>();
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final Clock clock;
+
+    SerializingEntityCache(long maximumSize, Duration expireAfterWrite) {
+        this(maximumSize, expireAfterWrite, Clock.systemUTC());
+    }
+
+    SerializingEntityCache(long maximumSize, Duration expireAfterWrite, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.clock = clock;
+    }
+
+    @Override
+    public Entity get(String key) {
+        CachedValue value = cache.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value.expiresAtMillis <= clock.millis()) {
+            cache.remove(key, value);
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(value.bytes))) {
+            return (Entity) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.warning("Failed to deserialize cached entity " + key, e);
+            cache.remove(key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, Entity entity) {
+        if (cache.size() >= maximumSize && !cache.containsKey(key)) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+        } catch (IOException e) {
+            log.warning("Failed to serialize entity " + key, e);
+            return;
+        }
+        cache.put(key, new CachedValue(bytes.toByteArray(), clock.millis() + expireAfterWrite.toMillis()));
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        for (String key : keys) {
+            cache.remove(key);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private static final class CachedValue {
+
+        private final byte[] bytes;
+        private final long expiresAtMillis;
+
+        private CachedValue(byte[] bytes, long expiresAtMillis) {
+            this.bytes = bytes;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+    }
+
+}
@@ -128,9 +128,7 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         if (studentEmailAddresses.isEmpty()) {
             return true;
         }
-        Set<String> existingStudentEmailAddresses = load().filter("courseId =", courseId)
-                .project("email")
-                .list()
+        Set<String> existingStudentEmailAddresses = getProjection(load().filter("courseId =", courseId), false, "email")
                 .stream()
                 .map(CourseStudent::getEmail)
                 .collect(Collectors.toSet());
@@ -144,7 +142,8 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         assert courseId != null;
         assert email != null;
 
-        return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
+        return makeAttributesOrNull(
+                getCachedEntity(Key.create(CourseStudent.class, CourseStudent.generateId(email, courseId))));
     }
 
     /**
@@ -164,10 +163,9 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         assert googleId != null;
         assert courseId != null;
 
-        CourseStudent student = load()
+        CourseStudent student = getFirstCachedEntity(load()
                     .filter("courseId =", courseId)
-                    .filter("googleId =", googleId)
-                    .first().now();
+                    .filter("googleId =", googleId));
 
         return makeAttributesOrNull(student);
     }
@@ -247,6 +245,46 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return getCourseStudentCountForTeam(teamName, courseId);
     }
 
+    /**
+     * Gets the names of all sections of a course which have students, in no particular order.
+     */
+    public List<String> getSectionNamesForCourse(String courseId) {
+        assert courseId != null;
+
+        return getProjection(getCourseStudentsForCourseQuery(courseId), true, "sectionName")
+                .stream()
+                .map(CourseStudent::getSectionName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the names of all teams of a course, in no particular order.
+     */
+    public List<String> getTeamNamesForCourse(String courseId) {
+        assert courseId != null;
+
+        return getProjection(getCourseStudentsForCourseQuery(courseId), true, "teamName")
+                .stream()
+                .map(CourseStudent::getTeamName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the names of all teams of a section of a course, in no particular order.
+     */
+    public List<String> getTeamNamesForSection(String sectionName, String courseId) {
+        assert sectionName != null;
+        assert courseId != null;
+
+        Query<CourseStudent> query = load()
+                .filter("sectionName =", sectionName)
+                .filter("courseId =", courseId);
+        return getProjection(query, true, "teamName")
+                .stream()
+                .map(CourseStudent::getTeamName)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets all unregistered students of a course.
      */
@@ -402,7 +440,7 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
      * Returns true if there are any student entities associated with the googleId.
      */
     public boolean hasStudentsForGoogleId(String googleId) {
-        return !getCourseStudentsForGoogleIdQuery(googleId).keys().list().isEmpty();
+        return hasAnyEntity(getCourseStudentsForGoogleIdQuery(googleId));
     }
 
     private Query<CourseStudent> getCourseStudentsForGoogleIdQuery(String googleId) {
@@ -441,12 +479,9 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
 
     @Override
     boolean hasExistingEntities(StudentAttributes entityToCreate) {
-        return !load()
+        return hasAnyEntity(load()
                 .filterKey(Key.create(CourseStudent.class,
-                        CourseStudent.generateId(entityToCreate.getEmail(), entityToCreate.getCourse())))
-                .keys()
-                .list()
-                .isEmpty();
+                        CourseStudent.generateId(entityToCreate.getEmail(), entityToCreate.getCourse()))));
     }
 
     @Override
@@ -48,7 +48,7 @@ public final class UsageStatisticsDb extends EntitiesDb<UsageStatistics, UsageSt
     @Override
     boolean hasExistingEntities(UsageStatisticsAttributes entityToCreate) {
         Key<UsageStatistics> keyToFind = Key.create(UsageStatistics.class, entityToCreate.getStartTime().toEpochMilli());
-        return !load().filterKey(keyToFind).keys().list().isEmpty();
+        return hasAnyEntity(load().filterKey(keyToFind));
     }
 
     @Override
@@ -0,0 +1,209 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Result;
+
+import teammates.common.util.Config;
+import teammates.common.util.RequestCache;
+
+/**
+ * Buffers the writes made through {@link EntitiesDb} by the current thread, so that they are sent to the
+ * database in bulk rather than one round trip per entity.
+ *
+ * <p>A batch is opened with {@link #begin()} and is meant to be used in a try-with-resources statement
+ * whose block ends with {@link #commit()}:
+ *
+ * <pre>
+ * try (WriteBatch batch = WriteBatch.begin()) {
+ *     ...
+ *     batch.commit();
+ * }
+ * </pre>
+ *
+ * <p>While it is open, saves and deletes are held back: they are not visible to lookups or queries
+ * until they are flushed. They are flushed whenever the buffer reaches the configured maximum batch size,
+ * and when the outermost batch is committed. A batch closed without being committed, e.g. because its block
+ * threw, is aborted: the writes still pending are discarded when the outermost batch is closed, even if
+ * it is committed. Writes already flushed because the buffer was full are not undone.
+ *
+ * <p>Batches should therefore only wrap writes of distinct entities which are not read again
+ * before the batch is flushed. Batches opened within an open batch join it.
+ */
+public final class WriteBatch implements AutoCloseable {
+
+    private static final ThreadLocal<WriteBatch> CURRENT = new ThreadLocal<>();
+
+    private final int maxSize;
+    private final Map<Key<?>, Object> pendingSaves = new LinkedHashMap<>();
+    private final Set<Key<?>> pendingDeletes = new LinkedHashSet<>();
+    private final Set<Key<?>> pendingDeletesAfterWrites = new LinkedHashSet<>();
+    private final List<Runnable> pendingActionsAfterCommit = new ArrayList<>();
+    private int depth;
+    private boolean isLevelCommitted;
+    private boolean isAborted;
+
+    private WriteBatch(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Opens a batch, or joins the batch already open in the current thread.
+     *
+     * <p>New entities of kinds whose IDs are generated by the database, i.e. comments, are not held back:
+     * they are created right away, as their IDs are only known once they are saved, and are therefore
+     * not discarded if the batch is aborted. Their later updates and deletions within the batch are held back.
+     */
+    public static WriteBatch begin() {
+        WriteBatch batch = CURRENT.get();
+        if (batch == null) {
+            batch = new WriteBatch(Config.DATASTORE_WRITE_BATCH_SIZE);
+            CURRENT.set(batch);
+        }
+        batch.depth++;
+        batch.isLevelCommitted = false;
+        return batch;
+    }
+
+    /**
+     * Returns the batch open in the current thread, or null if there is none.
+     */
+    static WriteBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an action once the batch open in the current thread is committed and closed, e.g. to read
+     * what is written within the batch, or right away if there is none.
+     *
+     * <p>The action is not run if the batch is aborted. It runs outside of the batch, after all its writes are
+     * flushed, so that its own writes are sent right away.
+     */
+    public static void runAfterCommit(Runnable action) {
+        WriteBatch batch = CURRENT.get();
+        if (batch == null) {
+            action.run();
+        } else {
+            batch.pendingActionsAfterCommit.add(action);
+        }
+    }
+
+    /**
+     * Holds back the saving of entities.
+     */
+    void save(Collection<?> entities) {
+        for (Object entity : entities) {
+            Key<?> key = Key.create(entity);
+            pendingDeletes.remove(key);
+            pendingSaves.put(key, entity);
+        }
+        flushIfFull();
+    }
+
+    /**
+     * Holds back the deletion of entities.
+     */
+    void delete(Collection<? extends Key<?>> keys) {
+        for (Key<?> key : keys) {
+            pendingSaves.remove(key);
+            pendingDeletes.add(key);
+        }
+        flushIfFull();
+    }
+
+    /**
+     * Holds back the deletion of entities until the other pending writes are done, such as entities derived
+     * from the entities written which are only to be dropped once the writes can be read.
+     */
+    void deleteAfterWrites(Collection<? extends Key<?>> keys) {
+        pendingDeletesAfterWrites.addAll(keys);
+        flushIfFull();
+    }
+
+    private void flushIfFull() {
+        if (pendingSaves.size() + pendingDeletes.size() + pendingDeletesAfterWrites.size() >= maxSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends all pending writes to the database, waiting until they are done.
+     */
+    public void flush() {
+        if (pendingSaves.isEmpty() && pendingDeletes.isEmpty() && pendingDeletesAfterWrites.isEmpty()) {
+            return;
+        }
+        List<Key<?>> keys = new ArrayList<>(pendingSaves.keySet());
+        keys.addAll(pendingDeletes);
+        keys.addAll(pendingDeletesAfterWrites);
+
+        // saves and deletes are issued asynchronously, then waited for together
+        Result<?> saves = pendingSaves.isEmpty() ? null : ofy().save().entities(new ArrayList<>(pendingSaves.values()));
+        Result<?> deletes = pendingDeletes.isEmpty() ? null : ofy().delete().keys(new ArrayList<>(pendingDeletes));
+        if (saves != null) {
+            saves.now();
+        }
+        if (deletes != null) {
+            deletes.now();
+        }
+        if (!pendingDeletesAfterWrites.isEmpty()) {
+            ofy().delete().keys(new ArrayList<>(pendingDeletesAfterWrites)).now();
+        }
+        discardPendingWrites();
+
+        // other requests, or this request itself, may have cached the entities between the writes and their flushing
+        SecondLevelCache.inst().invalidate(keys);
+        RequestCache.invalidateAll();
+    }
+
+    private void discardPendingWrites() {
+        pendingSaves.clear();
+        pendingDeletes.clear();
+        pendingDeletesAfterWrites.clear();
+    }
+
+    /**
+     * Marks the writes made within this batch as complete, flushing the pending writes
+     * if this is the outermost batch and it has not been aborted.
+     */
+    public void commit() {
+        isLevelCommitted = true;
+        if (depth == 1 && !isAborted) {
+            flush();
+        }
+    }
+
+    /**
+     * Leaves the batch, aborting it if it has not been committed.
+     *
+     * <p>If this is the outermost batch, the writes still pending are discarded, and the actions to run
+     * after the batch is committed are run if it has not been aborted.
+     */
+    @Override
+    public void close() {
+        if (!isLevelCommitted) {
+            isAborted = true;
+        }
+        depth--;
+        // the enclosing batch has yet to be committed
+        isLevelCommitted = false;
+        if (depth > 0) {
+            return;
+        }
+        discardPendingWrites();
+        CURRENT.remove();
+        if (!isAborted) {
+            pendingActionsAfterCommit.forEach(Runnable::run);
+        }
+    }
+
+}
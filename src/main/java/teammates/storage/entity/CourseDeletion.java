@@ -0,0 +1,44 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+
+/**
+ * Represents a mark that a course is being deleted in the background.
+ *
+ * <p>The mark exists from the time the deletion is requested until the course is gone,
+ * and is kept apart from the course, which may be stored by the remote Courses service.
+ */
+@Entity
+@Index
+public class CourseDeletion extends BaseEntity {
+
+    @Id
+    private String courseId;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant startedAt;
+
+    @SuppressWarnings("unused")
+    private CourseDeletion() {
+        // required by Objectify
+    }
+
+    public CourseDeletion(String courseId) {
+        this.courseId = courseId;
+        this.startedAt = Instant.now();
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+}
@@ -0,0 +1,125 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+
+/**
+ * Represents a snapshot of the responses to a feedback question and the comments on them,
+ * as they were when the snapshot was taken.
+ *
+ * <p>The responses and comments are kept together in one compressed blob, so that all results of the question
+ * are read in a single lookup by the ID of the question.
+ *
+ * <p>A snapshot is saved incomplete, with a random version, before the results are read, and is only completed
+ * if it is still there with the same version once they are read.
+ */
+@Entity
+public class FeedbackQuestionResultsSnapshot extends BaseEntity {
+
+    /**
+     * The ID of the question.
+     */
+    @Id
+    private String feedbackQuestionId;
+
+    @Index
+    private String courseId;
+
+    @Index
+    private String feedbackSessionName;
+
+    private String version;
+
+    @Index
+    private boolean isComplete;
+
+    private int numResponses;
+
+    private int numComments;
+
+    private byte[] data;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackQuestionResultsSnapshot() {
+        // required by Objectify
+    }
+
+    /**
+     * Creates an incomplete snapshot, to be completed once the results of the question are read.
+     */
+    public FeedbackQuestionResultsSnapshot(String feedbackQuestionId, String courseId, String feedbackSessionName) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.version = UUID.randomUUID().toString();
+        this.isComplete = false;
+        this.createdAt = Instant.now();
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Completes the snapshot with the results of the question.
+     *
+     * @param numResponses the number of responses in the snapshot, or read before they were found too large
+     * @param numComments the number of comments in the snapshot, or read before they were found too large
+     * @param data the responses and comments, as serialized by {@code FeedbackResultsSnapshotsDb},
+     *             or null if they are too large to be kept in the snapshot
+     */
+    public void complete(int numResponses, int numComments, byte[] data) {
+        this.numResponses = numResponses;
+        this.numComments = numComments;
+        this.data = data;
+        this.isComplete = true;
+    }
+
+    public int getNumResponses() {
+        return numResponses;
+    }
+
+    public int getNumComments() {
+        return numComments;
+    }
+
+    /**
+     * Returns the responses and comments, as serialized by {@code FeedbackResultsSnapshotsDb},
+     * or null if they are too large to be kept in the snapshot.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Returns the time the snapshot started to be taken, before the results of the question were read.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+}
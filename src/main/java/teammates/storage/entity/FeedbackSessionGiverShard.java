@@ -0,0 +1,97 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents one shard of the set of givers who have submitted responses in a feedback session.
+ *
+ * <p>The givers of a session are spread over a fixed number of shards by the hash of their identifier,
+ * so that concurrent submissions by different givers mostly update different entities.
+ */
+@Entity
+@Index
+public class FeedbackSessionGiverShard extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    @Unindex
+    private int shardIndex;
+
+    @Unindex
+    private Set<String> givers = new HashSet<>();
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionGiverShard() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionGiverShard(String courseId, String feedbackSessionName, int shardIndex, Set<String> givers) {
+        this.id = generateId(courseId, feedbackSessionName, shardIndex);
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.shardIndex = shardIndex;
+        this.givers = new HashSet<>(givers);
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Generates an unique ID for the shard.
+     */
+    public static String generateId(String courseId, String feedbackSessionName, int shardIndex) {
+        // Format: courseId%feedbackSessionName%shardIndex
+        return courseId + '%' + feedbackSessionName + '%' + shardIndex;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * Returns the givers in the shard; the set returned is modifiable and backs the shard.
+     */
+    public Set<String> getGivers() {
+        if (givers == null) {
+            // empty sets are not stored
+            givers = new HashSet<>();
+        }
+        return givers;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+}
@@ -0,0 +1,66 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+
+/**
+ * Represents a pending request for the results snapshots of a feedback session to be taken,
+ * so that the taking of the snapshots is only scheduled once until it starts.
+ *
+ * @see FeedbackQuestionResultsSnapshot
+ */
+@Entity
+@Index
+public class FeedbackSessionResultsSnapshotsRequest extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant requestedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionResultsSnapshotsRequest() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionResultsSnapshotsRequest(String courseId, String feedbackSessionName) {
+        this.id = generateId(courseId, feedbackSessionName);
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.requestedAt = Instant.now();
+    }
+
+    /**
+     * Generates a unique ID for the request of a session.
+     */
+    public static String generateId(String courseId, String feedbackSessionName) {
+        // Format: courseId%feedbackSessionName
+        return courseId + '%' + feedbackSessionName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+}
@@ -28,6 +28,8 @@ public enum ResourceEndpoints {
     INSTRUCTOR_PRIVILEGE(ResourceURIs.INSTRUCTOR_PRIVILEGE),
     INSTRUCTOR_KEY(ResourceURIs.INSTRUCTOR_KEY),
     RESULT(ResourceURIs.RESULT),
+    RESULT_OUTLINE(ResourceURIs.RESULT_OUTLINE),
+    RESULT_PAGE(ResourceURIs.RESULT_PAGE),
     STUDENTS(ResourceURIs.STUDENTS),
     STUDENT(ResourceURIs.STUDENT),
     STUDENT_KEY(ResourceURIs.STUDENT_KEY),
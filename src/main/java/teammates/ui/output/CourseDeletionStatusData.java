@@ -0,0 +1,29 @@
+package teammates.ui.output;
+
+/**
+ * The API output format of the progress of a course deletion.
+ */
+public class CourseDeletionStatusData extends ApiOutput {
+
+    private final String courseId;
+    private final boolean isDeleted;
+    private final int numFeedbackSessionsLeft;
+
+    public CourseDeletionStatusData(String courseId, boolean isDeleted, int numFeedbackSessionsLeft) {
+        this.courseId = courseId;
+        this.isDeleted = isDeleted;
+        this.numFeedbackSessionsLeft = numFeedbackSessionsLeft;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public boolean getIsDeleted() {
+        return isDeleted;
+    }
+
+    public int getNumFeedbackSessionsLeft() {
+        return numFeedbackSessionsLeft;
+    }
+}
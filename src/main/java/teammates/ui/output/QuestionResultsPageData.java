@@ -0,0 +1,37 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+
+/**
+ * The API output format of a page of the responses to a question in session results.
+ */
+public class QuestionResultsPageData extends ApiOutput {
+
+    private final List<SessionResultsData.ResponseOutput> responses = new ArrayList<>();
+    @Nullable
+    private final String nextPageToken;
+
+    public QuestionResultsPageData(SessionResultsBundle bundle, @Nullable String nextPageToken) {
+        bundle.getQuestionResponseMap().values().forEach(responsesOfQuestion ->
+                responses.addAll(SessionResultsData.buildResponsesForInstructor(responsesOfQuestion, bundle, false)));
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<SessionResultsData.ResponseOutput> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Returns the token to get the next page of responses with, or null if this is the last page.
+     */
+    @Nullable
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+}
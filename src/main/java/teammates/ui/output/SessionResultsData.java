@@ -7,6 +7,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -41,7 +42,17 @@ public class SessionResultsData extends ApiOutput {
      */
     public static SessionResultsData initForInstructor(SessionResultsBundle bundle) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        forEachQuestionForInstructor(bundle, sessionResultsData.questions::add);
+        return sessionResultsData;
+    }
 
+    /**
+     * Builds the API output of each question for instructor in turn, in the order of
+     * {@link #initForInstructor(SessionResultsBundle)}, without keeping the outputs.
+     *
+     * <p>This allows the output to be written out one question at a time.
+     */
+    public static void forEachQuestionForInstructor(SessionResultsBundle bundle, Consumer<QuestionOutput> action) {
         Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
                 bundle.getQuestionResponseMap();
 
@@ -58,10 +69,8 @@ public class SessionResultsData extends ApiOutput {
             List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponseMap().get(questionId);
             qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
 
-            sessionResultsData.questions.add(qnOutput);
+            action.accept(qnOutput);
         });
-
-        return sessionResultsData;
     }
 
     /**
@@ -69,7 +78,18 @@ public class SessionResultsData extends ApiOutput {
      */
     public static SessionResultsData initForStudent(SessionResultsBundle bundle, StudentAttributes student) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        forEachQuestionForStudent(bundle, student, sessionResultsData.questions::add);
+        return sessionResultsData;
+    }
 
+    /**
+     * Builds the API output of each question for student in turn, in the order of
+     * {@link #initForStudent(SessionResultsBundle, StudentAttributes)}, without keeping the outputs.
+     *
+     * <p>This allows the output to be written out one question at a time.
+     */
+    public static void forEachQuestionForStudent(SessionResultsBundle bundle, StudentAttributes student,
+            Consumer<QuestionOutput> action) {
         Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
                 bundle.getQuestionResponseMap();
         questionsWithResponses.forEach((questionId, responses) -> {
@@ -117,17 +137,15 @@ public class SessionResultsData extends ApiOutput {
             }
             qnOutput.otherResponses.addAll(otherResponsesMap.values());
 
-            sessionResultsData.questions.add(qnOutput);
+            action.accept(qnOutput);
         });
 
         Map<String, FeedbackQuestionAttributes> questionsWithResponsesNotVisibleForPreview =
                 bundle.getQuestionsNotVisibleForPreviewMap();
         questionsWithResponsesNotVisibleForPreview.forEach((questionId, question) -> {
             QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
-            sessionResultsData.questions.add(qnOutput);
+            action.accept(qnOutput);
         });
-
-        return sessionResultsData;
     }
 
     private static ResponseOutput buildSingleResponseForStudent(
@@ -193,7 +211,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(null)
                 .withRecipientSection(response.getRecipientSection())
-                .withResponseDetails(response.getResponseDetailsCopy())
+                .withResponseDetails(response.getResponseDetails())
                 .withParticipantComment(comments.poll())
                 .withInstructorComments(new ArrayList<>(comments))
                 .build();
@@ -204,7 +222,7 @@ public class SessionResultsData extends ApiOutput {
                 + REGEX_ANONYMOUS_PARTICIPANT_HASH, Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " $1");
     }
 
-    private static List<ResponseOutput> buildResponsesForInstructor(
+    static List<ResponseOutput> buildResponsesForInstructor(
             List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle, boolean areMissingResponses) {
         List<ResponseOutput> output = new ArrayList<>();
 
@@ -283,7 +301,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(recipientEmail)
                 .withRecipientSection(recipientSection)
-                .withResponseDetails(response.getResponseDetailsCopy())
+                .withResponseDetails(response.getResponseDetails())
                 .withParticipantComment(comments.poll())
                 .withInstructorComments(new ArrayList<>(comments))
                 .build();
@@ -0,0 +1,55 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+
+/**
+ * The API output format of the outline of session results, i.e. the questions without their responses.
+ *
+ * <p>The responses of each question are then read in pages, see {@link QuestionResultsPageData}.
+ */
+public class SessionResultsOutlineData extends ApiOutput {
+
+    private final List<QuestionOutlineOutput> questions = new ArrayList<>();
+
+    public SessionResultsOutlineData(List<FeedbackQuestionAttributes> questions,
+            Map<String, Integer> numResponsesByQuestionId) {
+        for (FeedbackQuestionAttributes question : questions) {
+            this.questions.add(new QuestionOutlineOutput(question, numResponsesByQuestionId.get(question.getId())));
+        }
+    }
+
+    public List<QuestionOutlineOutput> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * API output format for questions in the outline of session results.
+     */
+    public static class QuestionOutlineOutput {
+
+        private final FeedbackQuestionData feedbackQuestion;
+        /**
+         * The number of responses stored for the question, before the visibility of the responses is applied.
+         */
+        private final int numResponses;
+
+        private QuestionOutlineOutput(FeedbackQuestionAttributes feedbackQuestionAttributes, int numResponses) {
+            this.feedbackQuestion = new FeedbackQuestionData(feedbackQuestionAttributes);
+            this.numResponses = numResponses;
+        }
+
+        public FeedbackQuestionData getFeedbackQuestion() {
+            return feedbackQuestion;
+        }
+
+        public int getNumResponses() {
+            return numResponses;
+        }
+
+    }
+
+}
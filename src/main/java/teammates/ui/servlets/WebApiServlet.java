@@ -13,6 +13,7 @@ import com.google.cloud.datastore.DatastoreException;
 import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestCache;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
@@ -55,6 +56,7 @@ public class WebApiServlet extends HttpServlet {
     private void invokeServlet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         int statusCode = 0;
         Action action = null;
+        RequestCache.init();
         try {
             action = ActionFactory.getAction(req, req.getMethod());
             action.init(req);
@@ -96,6 +98,8 @@ public class WebApiServlet extends HttpServlet {
             throwError(resp, statusCode,
                     "The server encountered an error when processing your request.");
         } finally {
+            RequestCache.clear();
+
             RequestLogUser userInfo = new RequestLogUser();
             String requestBody = null;
             String actionClass = null;
@@ -132,6 +136,13 @@ public class WebApiServlet extends HttpServlet {
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        if (resp.isCommitted()) {
+            // part of the result has already been sent with its status, e.g. by a result written out in parts;
+            // the response is aborted rather than completed, so that the client does not take it as complete
+            throw new IOException("Response aborted after being partly sent: " + message);
+        }
+        // drop any part of the result not sent yet
+        resp.resetBuffer();
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
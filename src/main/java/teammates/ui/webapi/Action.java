@@ -235,6 +235,15 @@ public abstract class Action {
         return feedbackSession;
     }
 
+    /**
+     * Verifies that the course is not being deleted, as a course being deleted is not to be restored or edited.
+     */
+    void verifyCourseNotBeingDeleted(String courseId) throws InvalidOperationException {
+        if (logic.isCourseDeletionInProgress(courseId)) {
+            throw new InvalidOperationException("The course " + courseId + " is being deleted.");
+        }
+    }
+
     /**
      * Deserializes and validates the request body payload.
      */
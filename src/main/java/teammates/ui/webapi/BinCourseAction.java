@@ -30,8 +30,9 @@ class BinCourseAction extends Action {
     }
 
     @Override
-    public JsonResult execute() throws URISyntaxException, IOException, InterruptedException {
+    public JsonResult execute() throws InvalidOperationException, URISyntaxException, IOException, InterruptedException {
         String idOfCourseToBin = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        verifyCourseNotBeingDeleted(idOfCourseToBin);
         try {
             CourseAttributes courseAttributes = logic.getCourse(idOfCourseToBin);
             courseAttributes.setDeletedAt(logic.moveCourseToRecycleBin(idOfCourseToBin));
@@ -0,0 +1,28 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: deletes the next part of a course and schedules the deletion of the rest.
+ *
+ * <p>Errors are not caught so that the task fails and is retried by the queue;
+ * deleting a part of the course again is harmless.
+ */
+class CourseDeletionWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() throws URISyntaxException, IOException, InterruptedException {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+
+        boolean isCourseDeleted = logic.deleteNextPartOfCourseCascade(courseId);
+        if (!isCourseDeleted) {
+            taskQueuer.scheduleCourseDeletion(courseId);
+        }
+
+        return new JsonResult("Successful");
+    }
+
+}
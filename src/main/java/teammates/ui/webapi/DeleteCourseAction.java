@@ -8,6 +8,10 @@ import teammates.ui.output.MessageOutput;
 
 /**
  * Delete a course.
+ *
+ * <p>The course is deleted in the background, as deleting a large course takes longer than a request may last;
+ * its progress can be followed with {@link GetCourseDeletionStatusAction}. Until it is gone, the course is marked
+ * as being deleted, which hides it from the lists of courses and prevents it from being restored or edited.
  */
 class DeleteCourseAction extends Action {
 
@@ -31,7 +35,10 @@ class DeleteCourseAction extends Action {
     public JsonResult execute() throws URISyntaxException, IOException, InterruptedException {
         String idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourseCascade(idOfCourseToDelete);
+        if (!logic.isCourseDeletionInProgress(idOfCourseToDelete)) {
+            logic.startCourseDeletion(idOfCourseToDelete);
+            taskQueuer.scheduleCourseDeletion(idOfCourseToDelete);
+        }
 
         return new JsonResult(new MessageOutput("OK"));
     }
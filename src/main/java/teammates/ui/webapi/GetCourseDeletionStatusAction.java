@@ -0,0 +1,46 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.CourseDeletionStatusData;
+
+/**
+ * Get the progress of the deletion of a course.
+ */
+class GetCourseDeletionStatusAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl()
+            throws UnauthorizedAccessException, URISyntaxException, IOException, InterruptedException {
+        if (!userInfo.isInstructor) {
+            throw new UnauthorizedAccessException("Instructor privilege is required to access this resource.");
+        }
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        CourseAttributes course = logic.getCourse(courseId);
+        if (course == null) {
+            // the instructors are deleted together with the course; only the completion of the deletion is revealed
+            return;
+        }
+        gateKeeper.verifyAccessible(logic.getInstructorForGoogleId(courseId, userInfo.id), course,
+                Const.InstructorPermissions.CAN_MODIFY_COURSE);
+    }
+
+    @Override
+    public JsonResult execute() throws URISyntaxException, IOException, InterruptedException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+
+        if (logic.getCourse(courseId) == null) {
+            return new JsonResult(new CourseDeletionStatusData(courseId, true, 0));
+        }
+        int numFeedbackSessionsLeft = logic.getAllFeedbackSessionsForCourse(courseId).size();
+        return new JsonResult(new CourseDeletionStatusData(courseId, false, numFeedbackSessionsLeft));
+    }
+}
@@ -0,0 +1,87 @@
+package teammates.ui.webapi;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.QueryPage;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.QuestionResultsPageData;
+
+/**
+ * Gets a page of the responses to a question in feedback session results for an instructor.
+ *
+ * <p>Each page covers up to the requested number of stored responses, of which only those visible to the instructor
+ * and in the requested section are returned, so a page may hold fewer responses even if it is not the last page.
+ * Missing responses are not returned, as they can only be known from all responses to the question.
+ */
+class GetQuestionResultsPageAction extends Action {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        FeedbackQuestionAttributes feedbackQuestion = getNonNullFeedbackQuestion();
+        FeedbackSessionAttributes feedbackSession =
+                getNonNullFeedbackSession(feedbackQuestion.getFeedbackSessionName(), feedbackQuestion.getCourseId());
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(feedbackSession.getCourseId(), userInfo.id);
+
+        gateKeeper.verifyAccessible(instructor, feedbackSession);
+    }
+
+    @Override
+    public JsonResult execute() {
+        FeedbackQuestionAttributes feedbackQuestion = getNonNullFeedbackQuestion();
+        String courseId = feedbackQuestion.getCourseId();
+        String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+        FeedbackResultFetchType fetchType = FeedbackResultFetchType.parseFetchType(
+                getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER));
+        String pageToken = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_TOKEN);
+        int pageSize = getPageSize();
+
+        QueryPage<FeedbackResponseAttributes> page;
+        try {
+            page = logic.getFeedbackResponsesForQuestionInPage(feedbackQuestion.getId(), pageToken, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidHttpParameterException(e.getMessage(), e);
+        }
+
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
+        SessionResultsBundle bundle = logic.getSessionResultsForResponsesOfQuestion(
+                feedbackQuestion.getFeedbackSessionName(), courseId, instructor.getEmail(), feedbackQuestion,
+                page.getResults(), selectedSection, fetchType);
+
+        return new JsonResult(new QuestionResultsPageData(bundle, page.getNextPageToken()));
+    }
+
+    private FeedbackQuestionAttributes getNonNullFeedbackQuestion() {
+        String feedbackQuestionId = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        FeedbackQuestionAttributes feedbackQuestion = logic.getFeedbackQuestion(feedbackQuestionId);
+        if (feedbackQuestion == null) {
+            throw new EntityNotFoundException("The feedback question does not exist.");
+        }
+        return feedbackQuestion;
+    }
+
+    private int getPageSize() {
+        String pageSizeParam = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE);
+        if (pageSizeParam == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        long pageSize = getLongRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE);
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidHttpParameterException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE + ", but found: [" + pageSize + "]");
+        }
+        return (int) pageSize;
+    }
+
+}
@@ -7,7 +7,6 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
-import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
 
 /**
@@ -81,7 +80,15 @@ class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
             bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId, instructor.getEmail(),
                     questionId, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+
+            // the results of published sessions are read from snapshots, once they are taken;
+            // the taking of missing snapshots is only scheduled once until it starts
+            if (bundle.hasMissingResultsSnapshots()
+                    && getNonNullFeedbackSession(feedbackSessionName, courseId).isPublished()
+                    && logic.requestResultsSnapshotsForSession(feedbackSessionName, courseId)) {
+                taskQueuer.scheduleSessionResultsSnapshot(courseId, feedbackSessionName);
+            }
+            return new SessionResultsJsonResult(bundle, null);
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getInstructorOfCourseFromRequest(courseId);
@@ -94,7 +101,7 @@ class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
                     .withTeamName(Const.USER_TEAM_FOR_INSTRUCTOR)
                     .build();
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new SessionResultsJsonResult(bundle, student);
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getStudentOfCourseFromRequest(courseId);
@@ -102,7 +109,7 @@ class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, student.getEmail(),
                     false, questionId, isPreviewResults);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new SessionResultsJsonResult(bundle, student);
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
@@ -0,0 +1,50 @@
+package teammates.ui.webapi;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.SessionResultsOutlineData;
+
+/**
+ * Gets the outline of feedback session results for an instructor, i.e. the questions with their numbers of responses.
+ *
+ * <p>The responses of each question are then read in pages with {@link GetQuestionResultsPageAction}.
+ */
+class GetSessionResultsOutlineAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        FeedbackSessionAttributes feedbackSession = getNonNullFeedbackSession(feedbackSessionName, courseId);
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
+
+        gateKeeper.verifyAccessible(instructor, feedbackSession);
+    }
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        List<FeedbackQuestionAttributes> questions = logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        Map<String, Integer> numResponsesByQuestionId = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            numResponsesByQuestionId.put(question.getId(), logic.getNumFeedbackResponsesForQuestion(question.getId()));
+        }
+
+        return new JsonResult(new SessionResultsOutlineData(questions, numResponsesByQuestionId));
+    }
+
+}
@@ -51,6 +51,8 @@ class PublishFeedbackSessionAction extends Action {
                 taskQueuer.scheduleFeedbackSessionPublishedEmail(publishFeedbackSession.getCourseId(),
                         publishFeedbackSession.getFeedbackSessionName());
             }
+            taskQueuer.scheduleSessionResultsSnapshot(publishFeedbackSession.getCourseId(),
+                    publishFeedbackSession.getFeedbackSessionName());
 
             return new JsonResult(new FeedbackSessionData(publishFeedbackSession));
         } catch (EntityDoesNotExistException e) {
@@ -0,0 +1,41 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+
+/**
+ * Cron job: recounts the submissions of the feedback sessions which are open or have closed recently,
+ * correcting any drift of the numbers maintained as responses are submitted.
+ */
+class ReconcileSubmissionCountsAction extends AdminOnlyAction {
+
+    /**
+     * Sessions which have been open within this number of hours before now are reconciled.
+     */
+    static final int RECONCILIATION_PERIOD_HOURS = 24;
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        Instant rangeEnd = Instant.now();
+        Instant rangeStart = rangeEnd.minus(RECONCILIATION_PERIOD_HOURS, ChronoUnit.HOURS);
+        List<FeedbackSessionAttributes> sessions = logic.getAllOngoingSessions(rangeStart, rangeEnd);
+
+        for (FeedbackSessionAttributes session : sessions) {
+            RequestTracer.checkRemainingTime();
+            try {
+                logic.reconcileActualTotalSubmission(session);
+            } catch (Exception e) {
+                log.severe("Unexpected error", e);
+            }
+        }
+        return new JsonResult("Successful");
+    }
+
+}
@@ -28,9 +28,10 @@ class RestoreCourseAction extends Action {
     }
 
     @Override
-    public JsonResult execute() throws URISyntaxException, IOException, InterruptedException {
+    public JsonResult execute() throws InvalidOperationException, URISyntaxException, IOException, InterruptedException {
 
         String idOfCourseToRestore = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        verifyCourseNotBeingDeleted(idOfCourseToRestore);
         String statusMessage;
 
         try {
@@ -0,0 +1,119 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Action result in form of the JSON of {@link SessionResultsData}, written out one question at a time.
+ *
+ * <p>The output of each question is built from the results bundle and written out before the next one is built,
+ * so that the output of the whole session is never held in memory at once.
+ */
+class SessionResultsJsonResult extends JsonResult {
+
+    private final SessionResultsBundle bundle;
+    @Nullable
+    private final StudentAttributes student;
+
+    /**
+     * Creates the result of a session for instructor if {@code student} is null, or for student otherwise.
+     */
+    SessionResultsJsonResult(SessionResultsBundle bundle, @Nullable StudentAttributes student) {
+        super((SessionResultsData) null);
+        this.bundle = bundle;
+        this.student = student;
+    }
+
+    /**
+     * Builds the output of the whole session at once.
+     */
+    @Override
+    SessionResultsData getOutput() {
+        return student == null
+                ? SessionResultsData.initForInstructor(bundle)
+                : SessionResultsData.initForStudent(bundle, student);
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        QuestionsWriter questionsWriter = new QuestionsWriter(resp);
+        try {
+            if (student == null) {
+                SessionResultsData.forEachQuestionForInstructor(bundle, questionsWriter::write);
+            } else {
+                SessionResultsData.forEachQuestionForStudent(bundle, student, questionsWriter::write);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        questionsWriter.finish();
+    }
+
+    /**
+     * Writes out the output of each question as it is built.
+     *
+     * <p>The status of the response is only set once the first question is built within the time left,
+     * so that failures before then are sent with their own status. Failures after then can only abort the response,
+     * see {@code WebApiServlet}.
+     */
+    private final class QuestionsWriter {
+
+        private final HttpServletResponse resp;
+        private final TypeAdapter<SessionResultsData.QuestionOutput> questionAdapter =
+                JsonUtils.getCompactJsonAdapter(SessionResultsData.QuestionOutput.class);
+        private JsonWriter writer;
+
+        QuestionsWriter(HttpServletResponse resp) {
+            this.resp = resp;
+        }
+
+        void write(SessionResultsData.QuestionOutput question) {
+            try {
+                startIfNotStarted();
+                questionAdapter.write(writer, question);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            startIfNotStarted();
+            writer.endArray();
+            String requestId = RequestTracer.getTraceId();
+            if (requestId != null) {
+                writer.name("requestId").value(requestId);
+            }
+            writer.endObject();
+            writer.flush();
+        }
+
+        private void startIfNotStarted() throws IOException {
+            RequestTracer.checkRemainingTime();
+            if (writer != null) {
+                return;
+            }
+            resp.setStatus(getStatusCode());
+            resp.setContentType("application/json");
+
+            // same format as the serialized SessionResultsData, whose own fields come before those of ApiOutput
+            writer = JsonUtils.newCompactJsonWriter(resp.getWriter());
+            writer.beginObject();
+            writer.name("questions");
+            writer.beginArray();
+        }
+
+    }
+
+}
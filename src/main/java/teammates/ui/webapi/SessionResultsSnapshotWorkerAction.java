@@ -0,0 +1,32 @@
+package teammates.ui.webapi;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: takes the results snapshots of a published session which are missing or stale.
+ */
+class SessionResultsSnapshotWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null || !session.isPublished()) {
+            // the session has been deleted or unpublished since the task was scheduled
+            return new JsonResult("Successful");
+        }
+
+        int numSnapshotsTaken = logic.takeResultsSnapshotsForSession(feedbackSessionName, courseId);
+        log.info("Took " + numSnapshotsTaken + " results snapshots of session " + feedbackSessionName
+                + " in course " + courseId);
+
+        return new JsonResult("Successful");
+    }
+
+}
@@ -16,9 +16,6 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
@@ -199,34 +196,14 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
         }
 
         List<String> recipients = submitRequest.getRecipients();
-        List<FeedbackResponseAttributes> feedbackResponsesToDelete = existingResponsesPerRecipient.entrySet().stream()
+        List<String> feedbackResponseIdsToDelete = existingResponsesPerRecipient.entrySet().stream()
                 .filter(entry -> !recipients.contains(entry.getKey()))
-                .map(entry -> entry.getValue())
+                .map(entry -> entry.getValue().getId())
                 .collect(Collectors.toList());
 
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToDelete) {
-            logic.deleteFeedbackResponseCascade(feedbackResponse.getId());
-        }
-
-        List<FeedbackResponseAttributes> output = new ArrayList<>();
-
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(logic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
-        }
-
-        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : feedbackResponsesToUpdate) {
-            try {
-                output.add(logic.updateFeedbackResponseCascade(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
-            }
-        }
+        // None of the responses should fail to be saved as they have been pre-validated
+        List<FeedbackResponseAttributes> output = logic.saveSubmittedFeedbackResponses(
+                feedbackResponseIdsToDelete, feedbackResponsesToAdd, feedbackResponsesToUpdate);
 
         return new JsonResult(new FeedbackResponsesData(output));
     }
@@ -36,7 +36,9 @@ class UpdateCourseAction extends Action {
     }
 
     @Override
-    public JsonResult execute() throws InvalidHttpRequestBodyException, URISyntaxException, IOException, InterruptedException {
+    public JsonResult execute()
+            throws InvalidHttpRequestBodyException, InvalidOperationException,
+            URISyntaxException, IOException, InterruptedException {
         CourseUpdateRequest courseUpdateRequest = getAndValidateRequestBody(CourseUpdateRequest.class);
         String courseTimeZone = courseUpdateRequest.getTimeZone();
 
@@ -46,6 +48,7 @@ class UpdateCourseAction extends Action {
         }
 
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        verifyCourseNotBeingDeleted(courseId);
         String courseName = courseUpdateRequest.getCourseName();
         CourseAttributes updatedCourse;
 
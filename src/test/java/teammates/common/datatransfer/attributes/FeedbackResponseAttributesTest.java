@@ -2,10 +2,12 @@ package teammates.common.datatransfer.attributes;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.test.BaseTestCase;
 
@@ -61,6 +63,52 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(Const.TIME_REPRESENTS_DEFAULT_TIMESTAMP, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testValueOf_shouldKeepResponseDetailsAsStoredUntilAccessed() {
+        FeedbackMcqResponseDetails details = new FeedbackMcqResponseDetails();
+        details.setAnswer("Option 1");
+        String storedAnswer = "{\"answer\":\"Option 1\",\"isOther\":false,\"otherFieldContent\":\"\","
+                + "\"questionType\":\"MCQ\"}";
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.MCQ, "giver@email.com", "section1",
+                "recipient@email.com", "section2", storedAnswer);
+
+        FeedbackResponseAttributes fra = FeedbackResponseAttributes.valueOf(response);
+
+        ______TS("details which are not accessed are written back as they were stored");
+
+        assertEquals(FeedbackQuestionType.MCQ, fra.getFeedbackQuestionType());
+        assertEquals(storedAnswer, fra.getSerializedFeedbackResponseDetailForStorage());
+        assertEquals(storedAnswer, fra.toEntity().getAnswer());
+
+        ______TS("copies of unaccessed details are independent of each other");
+
+        FeedbackResponseAttributes copy = new FeedbackResponseAttributes(fra);
+        assertNotSame(fra.getResponseDetails(), copy.getResponseDetails());
+        assertEquals(details.getJsonString(), copy.getSerializedFeedbackResponseDetail());
+
+        ______TS("details are parsed once and then shared without copying");
+
+        FeedbackResponseDetails parsedDetails = fra.getResponseDetails();
+        assertSame(parsedDetails, fra.getResponseDetails());
+        assertNotSame(parsedDetails, fra.getResponseDetailsCopy());
+        assertEquals("Option 1", parsedDetails.getAnswerString());
+        assertEquals(details.getJsonString(), fra.getSerializedFeedbackResponseDetailForStorage());
+    }
+
+    @Test
+    public void testToJson_withUnaccessedResponseDetails_shouldSerializeResponseDetails() {
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.TEXT, "giver@email.com", "section1",
+                "recipient@email.com", "section2", "answer");
+
+        String json = JsonUtils.toCompactJson(FeedbackResponseAttributes.valueOf(response));
+        FeedbackResponseAttributes deserialized = JsonUtils.fromJson(json, FeedbackResponseAttributes.class);
+
+        assertEquals("answer", deserialized.getResponseDetailsCopy().getAnswerString());
+        assertEquals(FeedbackQuestionType.TEXT, deserialized.getFeedbackQuestionType());
+    }
+
     @Test
     public void testBuilder_buildNothing_shouldUseDefaultValue() {
         FeedbackResponseAttributes fra =
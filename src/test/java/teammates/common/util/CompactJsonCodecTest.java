@@ -0,0 +1,192 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonElement;
+
+import teammates.common.datatransfer.questions.FeedbackConstantSumResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackRankOptionsResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CompactJsonCodec}.
+ */
+public class CompactJsonCodecTest extends BaseTestCase {
+
+    private static final int NUM_DETAILS = 2000;
+    private static final int NUM_BENCHMARK_ROUNDS = 5;
+
+    @Test
+    public void testEncodeDecode() {
+        ______TS("values are decoded as they were encoded");
+
+        String json = "{\"a\":[1,-2,3.5,1.0e10,9223372036854775807],\"b\":\"text \\u00e9\\ud83d\\ude00\","
+                + "\"c\":{\"a\":true,\"b\":false,\"c\":null},\"d\":[],\"e\":{}}";
+        JsonElement element = JsonUtils.parse(json);
+        String encoded = CompactJsonCodec.encode(element);
+
+        assertTrue(CompactJsonCodec.isEncoded(encoded));
+        assertEquals(element, JsonUtils.parse(CompactJsonCodec.decode(encoded).toString()));
+
+        ______TS("JSON is not taken for an encoded value");
+
+        assertFalse(CompactJsonCodec.isEncoded(json));
+        assertFalse(CompactJsonCodec.isEncoded("[1,2]"));
+        assertFalse(CompactJsonCodec.isEncoded(null));
+
+        ______TS("invalid encoded values are rejected");
+
+        assertThrows(IllegalArgumentException.class, () -> CompactJsonCodec.decode(json));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompactJsonCodec.decode(encoded.substring(0, encoded.length() - 2)));
+        assertThrows(IllegalArgumentException.class, () -> CompactJsonCodec.decode(CompactJsonCodec.PREFIX_V1 + "CQ"));
+    }
+
+    @Test
+    public void testFeedbackDetails() {
+        ______TS("response details are read back from either format");
+
+        for (FeedbackResponseDetails details : createResponseDetails(1)) {
+            Class<? extends FeedbackResponseDetails> detailsClass = details.getQuestionType().getResponseDetailsClass();
+            String encoded = JsonUtils.toCompactEncoding(details, detailsClass);
+
+            assertEquals(details.getJsonString(),
+                    JsonUtils.fromJsonOrCompactEncoding(encoded, detailsClass).getJsonString());
+            assertEquals(details.getJsonString(),
+                    JsonUtils.fromJsonOrCompactEncoding(details.getJsonString(), detailsClass).getJsonString());
+            assertTrue(encoded.length() < details.getJsonString().length());
+        }
+
+        ______TS("question details are read back from either format");
+
+        FeedbackRubricQuestionDetails questionDetails = createRubricQuestionDetails();
+        String encoded = JsonUtils.toCompactEncoding(questionDetails, FeedbackRubricQuestionDetails.class);
+
+        assertEquals(questionDetails,
+                JsonUtils.fromJsonOrCompactEncoding(encoded, FeedbackRubricQuestionDetails.class));
+        assertEquals(questionDetails,
+                JsonUtils.fromJsonOrCompactEncoding(questionDetails.getJsonString(), FeedbackRubricQuestionDetails.class));
+        assertTrue(encoded.length() < questionDetails.getJsonString().length());
+    }
+
+    /**
+     * Compares the size of response details stored as JSON and stored in the compact encoding.
+     */
+    @Test
+    public void testEncodedSize() {
+        ______TS("response details are smaller when encoded and are read back unchanged");
+
+        List<FeedbackResponseDetails> responseDetails = createResponseDetails(NUM_DETAILS / 4);
+        long jsonSize = 0;
+        long encodedSize = 0;
+        for (FeedbackResponseDetails details : responseDetails) {
+            Class<? extends FeedbackResponseDetails> detailsClass = details.getQuestionType().getResponseDetailsClass();
+            String json = details.getJsonString();
+            String encoded = JsonUtils.toCompactEncoding(details, detailsClass);
+            jsonSize += json.length();
+            encodedSize += encoded.length();
+
+            assertEquals(json, JsonUtils.fromJsonOrCompactEncoding(encoded, detailsClass).getJsonString());
+        }
+
+        assertTrue(encodedSize < jsonSize);
+    }
+
+    /**
+     * Compares the time spent on writing and reading response details as JSON and in the compact encoding.
+     *
+     * <p>This is a benchmark, which is not part of the component tests; run it with {@code ./gradlew benchmarkTests}.
+     */
+    @Test(groups = "benchmark")
+    public void benchmarkEncodeDecode() {
+        List<FeedbackResponseDetails> responseDetails = createResponseDetails(NUM_DETAILS / 4);
+        List<String> jsons = new ArrayList<>();
+        List<String> encodeds = new ArrayList<>();
+
+        long jsonWriteNanos = Long.MAX_VALUE;
+        long encodeNanos = Long.MAX_VALUE;
+        long jsonReadNanos = Long.MAX_VALUE;
+        long decodeNanos = Long.MAX_VALUE;
+
+        for (int round = 0; round < NUM_BENCHMARK_ROUNDS; round++) {
+            jsons.clear();
+            encodeds.clear();
+
+            long start = System.nanoTime();
+            for (FeedbackResponseDetails details : responseDetails) {
+                jsons.add(details.getJsonString());
+            }
+            jsonWriteNanos = Math.min(jsonWriteNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (FeedbackResponseDetails details : responseDetails) {
+                encodeds.add(JsonUtils.toCompactEncoding(details, details.getQuestionType().getResponseDetailsClass()));
+            }
+            encodeNanos = Math.min(encodeNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < responseDetails.size(); i++) {
+                JsonUtils.fromJson(jsons.get(i), responseDetails.get(i).getQuestionType().getResponseDetailsClass());
+            }
+            jsonReadNanos = Math.min(jsonReadNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < responseDetails.size(); i++) {
+                JsonUtils.fromJsonOrCompactEncoding(encodeds.get(i),
+                        responseDetails.get(i).getQuestionType().getResponseDetailsClass());
+            }
+            decodeNanos = Math.min(decodeNanos, System.nanoTime() - start);
+        }
+
+        print(String.format("Writing %d response details: %dus as JSON, %dus encoded",
+                responseDetails.size(), jsonWriteNanos / 1000, encodeNanos / 1000));
+        print(String.format("Reading %d response details: %dus from JSON, %dus from the encoding",
+                responseDetails.size(), jsonReadNanos / 1000, decodeNanos / 1000));
+        assertEquals(responseDetails.size(), encodeds.size());
+    }
+
+    private List<FeedbackResponseDetails> createResponseDetails(int numOfEachType) {
+        List<FeedbackResponseDetails> responseDetails = new ArrayList<>();
+        for (int i = 0; i < numOfEachType; i++) {
+            FeedbackRubricResponseDetails rubric = new FeedbackRubricResponseDetails();
+            rubric.setAnswer(Arrays.asList(i % 5, (i + 1) % 5, (i + 2) % 5, -1));
+            responseDetails.add(rubric);
+
+            FeedbackConstantSumResponseDetails constSum = new FeedbackConstantSumResponseDetails();
+            constSum.setAnswers(Arrays.asList(50, 30, i % 20));
+            responseDetails.add(constSum);
+
+            FeedbackRankOptionsResponseDetails rankOptions = new FeedbackRankOptionsResponseDetails();
+            rankOptions.setAnswers(Arrays.asList(3, 1, 2, 4));
+            responseDetails.add(rankOptions);
+
+            FeedbackNumericalScaleResponseDetails numScale = new FeedbackNumericalScaleResponseDetails();
+            numScale.setAnswer(i / 4.0);
+            responseDetails.add(numScale);
+        }
+        return responseDetails;
+    }
+
+    private FeedbackRubricQuestionDetails createRubricQuestionDetails() {
+        FeedbackRubricQuestionDetails details = new FeedbackRubricQuestionDetails("Rate the team's work");
+        details.setHasAssignedWeights(true);
+        details.setRubricChoices(Arrays.asList("Poor", "Fair", "Good"));
+        details.setRubricSubQuestions(Arrays.asList("Quality", "Timeliness"));
+        details.setRubricDescriptions(Arrays.asList(
+                Arrays.asList("Many errors", "Few errors", "No errors"),
+                Arrays.asList("Late", "On time", "Early")));
+        details.setRubricWeightsForEachCell(Arrays.asList(
+                Arrays.asList(0.0, 0.5, 1.0),
+                Arrays.asList(-1.5, 2.0, 10.25)));
+        return details;
+    }
+
+}
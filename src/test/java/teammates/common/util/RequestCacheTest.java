@@ -0,0 +1,64 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestCache}.
+ */
+public class RequestCacheTest extends BaseTestCase {
+
+    @AfterMethod
+    public void tearDown() {
+        RequestCache.clear();
+    }
+
+    @Test
+    public void testGetOrLoad() {
+        AtomicInteger loadCount = new AtomicInteger();
+
+        ______TS("outside of a request, nothing is cached");
+
+        assertEquals("value", RequestCache.getOrLoad("ns", "key", () -> {
+            loadCount.incrementAndGet();
+            return "value";
+        }));
+        assertFalse(RequestCache.contains("ns", "key"));
+
+        ______TS("within a request, values are loaded once");
+
+        RequestCache.init();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("value", RequestCache.getOrLoad("ns", "key", () -> {
+                loadCount.incrementAndGet();
+                return "value";
+            }));
+        }
+        assertEquals(2, loadCount.get());
+        assertFalse(RequestCache.contains("other-ns", "key"));
+
+        ______TS("null values are cached");
+
+        assertNull(RequestCache.getOrLoad("ns", "missing", () -> null));
+        assertTrue(RequestCache.contains("ns", "missing"));
+        assertNull(RequestCache.get("ns", "missing"));
+
+        ______TS("writes discard all values");
+
+        RequestCache.invalidateAll();
+        assertFalse(RequestCache.contains("ns", "key"));
+        assertFalse(RequestCache.contains("ns", "missing"));
+
+        ______TS("values do not outlive the request");
+
+        RequestCache.put("ns", "key", "value");
+        RequestCache.clear();
+        assertFalse(RequestCache.contains("ns", "key"));
+        assertNull(RequestCache.get("ns", "key"));
+    }
+
+}
@@ -492,6 +492,41 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(2, responseCommentsForStudent.size());
     }
 
+    @Test
+    public void testUpdateFeedbackResponsesForChangingSection() throws Exception {
+        StudentAttributes student = questionTypeBundle.students.get("student2InCourse1");
+        List<FeedbackResponseAttributes> responsesForReceiver =
+                frLogic.getFeedbackResponsesForReceiverForCourse(student.getCourse(), student.getEmail());
+        List<FeedbackResponseAttributes> responsesFromGiver =
+                frLogic.getFeedbackResponsesFromGiverForCourse(student.getCourse(), student.getEmail());
+        Set<String> responseIds = new HashSet<>();
+        responsesForReceiver.forEach(response -> responseIds.add(response.getId()));
+        responsesFromGiver.forEach(response -> responseIds.add(response.getId()));
+        assertEquals(2, getFeedbackResponseCommentsForResponsesFromDatabase(responseIds).size());
+
+        ______TS("responses from and to the student, and their comments, are moved to the new section");
+
+        frLogic.updateFeedbackResponsesForChangingSection(
+                student.getCourse(), student.getEmail(), student.getSection(), "New section");
+
+        responsesForReceiver =
+                frLogic.getFeedbackResponsesForReceiverForCourse(student.getCourse(), student.getEmail());
+        responsesFromGiver =
+                frLogic.getFeedbackResponsesFromGiverForCourse(student.getCourse(), student.getEmail());
+        assertEquals(11, responsesForReceiver.size());
+        assertEquals(8, responsesFromGiver.size());
+        assertTrue(responsesForReceiver.stream().allMatch(r -> "New section".equals(r.getRecipientSection())));
+        assertTrue(responsesFromGiver.stream().allMatch(r -> "New section".equals(r.getGiverSection())));
+
+        List<FeedbackResponseCommentAttributes> comments = getFeedbackResponseCommentsForResponsesFromDatabase(responseIds);
+        assertEquals(2, comments.size());
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            FeedbackResponseAttributes response = frLogic.getFeedbackResponse(comment.getFeedbackResponseId());
+            assertEquals(response.getGiverSection(), comment.getGiverSection());
+            assertEquals(response.getRecipientSection(), comment.getReceiverSection());
+        }
+    }
+
     @Test
     public void testIsNameVisibleTo() {
 
@@ -1478,6 +1513,61 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(0, bundle.getQuestionsWithCommentNotVisibleForPreview().size());
     }
 
+    @Test
+    public void testGetSessionResults_builtInParallel_shouldBeSameAsBuiltSequentially() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        SessionResultsBundle courseResults = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, null, FeedbackResultFetchType.BOTH);
+        SessionResultsBundle studentResults = frLogic.getSessionResultsForUser(
+                sessionName, courseId, student.getEmail(), false, null, false);
+        SessionResultsBundle previewResults = frLogic.getSessionResultsForUser(
+                sessionName, courseId, student.getEmail(), false, null, true);
+
+        FeedbackResponsesLogic parallelFrLogic = new FeedbackResponsesLogic(0);
+        parallelFrLogic.initLogicDependencies();
+
+        verifySameResults(courseResults, parallelFrLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, null, FeedbackResultFetchType.BOTH));
+        verifySameResults(studentResults, parallelFrLogic.getSessionResultsForUser(
+                sessionName, courseId, student.getEmail(), false, null, false));
+        verifySameResults(previewResults, parallelFrLogic.getSessionResultsForUser(
+                sessionName, courseId, student.getEmail(), false, null, true));
+    }
+
+    private void verifySameResults(SessionResultsBundle expected, SessionResultsBundle actual) {
+        assertEquals(expected.getQuestionsMap().keySet(), actual.getQuestionsMap().keySet());
+        assertEquals(getResponseIdsByQuestion(expected.getQuestionResponseMap()),
+                getResponseIdsByQuestion(actual.getQuestionResponseMap()));
+        assertEquals(getResponseIdsByQuestion(expected.getQuestionMissingResponseMap()),
+                getResponseIdsByQuestion(actual.getQuestionMissingResponseMap()));
+        assertEquals(expected.getQuestionsNotVisibleForPreviewMap().keySet(),
+                actual.getQuestionsNotVisibleForPreviewMap().keySet());
+        assertEquals(expected.getQuestionsWithCommentNotVisibleForPreview(),
+                actual.getQuestionsWithCommentNotVisibleForPreview());
+        Map<String, List<Long>> expectedCommentIds = new HashMap<>();
+        expected.getResponseCommentsMap().forEach((responseId, comments) -> expectedCommentIds.put(responseId,
+                comments.stream().map(FeedbackResponseCommentAttributes::getId).collect(Collectors.toList())));
+        Map<String, List<Long>> actualCommentIds = new HashMap<>();
+        actual.getResponseCommentsMap().forEach((responseId, comments) -> actualCommentIds.put(responseId,
+                comments.stream().map(FeedbackResponseCommentAttributes::getId).collect(Collectors.toList())));
+        assertEquals(expectedCommentIds, actualCommentIds);
+        assertEquals(expected.getResponseGiverVisibilityTable(), actual.getResponseGiverVisibilityTable());
+        assertEquals(expected.getResponseRecipientVisibilityTable(), actual.getResponseRecipientVisibilityTable());
+        assertEquals(expected.getCommentGiverVisibilityTable(), actual.getCommentGiverVisibilityTable());
+    }
+
+    private Map<String, Set<String>> getResponseIdsByQuestion(Map<String, List<FeedbackResponseAttributes>> responses) {
+        Map<String, Set<String>> responseIds = new HashMap<>();
+        responses.forEach((questionId, responsesOfQuestion) -> responseIds.put(questionId,
+                responsesOfQuestion.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet())));
+        return responseIds;
+    }
+
     @Test
     public void testGetSessionResultsForCourse_specificQuestion_shouldHaveCorrectResponsesFiltered() {
         FeedbackQuestionAttributes fq = getQuestionFromDatabase("qn3InSession1InCourse1");
@@ -24,6 +24,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InstructorUpdateException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.RequestCache;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.InstructorsDb;
 import teammates.test.AssertHelper;
@@ -323,6 +324,40 @@ public class InstructorsLogicTest extends BaseLogicTest {
                         true, true));
     }
 
+    @Test
+    public void testGetInstructorForGoogleId_selfEditWithinRequest_shouldNotChangeLaterReads() {
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        String courseId = instructor.getCourseId();
+        String googleId = instructor.getGoogleId();
+
+        RequestCache.init();
+        try {
+            // the instructor is read once for access control, then edited as in UpdateInstructorAction
+            instructorsLogic.getInstructorForGoogleId(courseId, googleId);
+            InstructorAttributes instructorToEdit = instructorsLogic.getInstructorForGoogleId(courseId, googleId);
+            instructorToEdit.setName("Edited Name");
+            instructorToEdit.setEmail("edited@course1.tmt");
+            instructorToEdit.setRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_OBSERVER);
+            instructorToEdit.getPrivileges().updatePrivilege(Const.InstructorPermissions.CAN_MODIFY_COURSE, false);
+
+            InstructorAttributes instructorReadAgain = instructorsLogic.getInstructorForGoogleId(courseId, googleId);
+            assertEquals(instructor.getName(), instructorReadAgain.getName());
+            assertEquals(instructor.getEmail(), instructorReadAgain.getEmail());
+            assertEquals(instructor.getRole(), instructorReadAgain.getRole());
+            assertTrue(instructorReadAgain.isAllowedForPrivilege(Const.InstructorPermissions.CAN_MODIFY_COURSE));
+
+            InstructorAttributes instructorInList = instructorsLogic.getInstructorsForGoogleId(googleId).stream()
+                    .filter(i -> courseId.equals(i.getCourseId()))
+                    .findFirst()
+                    .orElseThrow();
+            instructorInList.setName("Edited Name");
+            assertTrue(instructorsLogic.getInstructorsForGoogleId(googleId).stream()
+                    .noneMatch(i -> "Edited Name".equals(i.getName())));
+        } finally {
+            RequestCache.clear();
+        }
+    }
+
     @Test
     public void testUpdateInstructorByGoogleIdCascade_shouldCascadeUpdateToFeedbackSessions() throws Exception {
         InstructorAttributes instructorToBeUpdated = dataBundle.instructors.get("instructor1OfCourse1");
@@ -0,0 +1,407 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link QuestionVisibilityPolicy}.
+ */
+public class QuestionVisibilityPolicyTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "QVPolicyT.course";
+    private static final String SESSION_NAME = "QVPolicyT session";
+    private static final int NUM_TEAMS = 200;
+    private static final int NUM_STUDENTS_PER_TEAM = 5;
+    private static final int NUM_BENCHMARK_RESPONSES = 100_000;
+    private static final int NUM_BENCHMARK_ROUNDS = 5;
+    private static final List<FeedbackParticipantType> VISIBILITY_TYPES = Arrays.asList(
+            FeedbackParticipantType.RECEIVER, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS,
+            FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.STUDENTS,
+            FeedbackParticipantType.INSTRUCTORS);
+
+    private final List<StudentAttributes> students = createStudents();
+    private final InstructorAttributes instructor = createInstructor("instructor@qvpolicyt.tmt", null);
+    private final InstructorAttributes restrictedInstructor =
+            createInstructor("restricted.instructor@qvpolicyt.tmt", "Section 0");
+    private final CourseRoster roster =
+            new CourseRoster(students, Arrays.asList(instructor, restrictedInstructor));
+    private final FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+            .withCourseId(COURSE_ID)
+            .withFeedbackSessionName(SESSION_NAME)
+            .withGiverType(FeedbackParticipantType.STUDENTS)
+            .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+            .withShowResponsesTo(Arrays.asList(FeedbackParticipantType.RECEIVER,
+                    FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.INSTRUCTORS))
+            .withShowGiverNameTo(Arrays.asList(FeedbackParticipantType.RECEIVER, FeedbackParticipantType.INSTRUCTORS))
+            .withShowRecipientNameTo(Collections.singletonList(FeedbackParticipantType.INSTRUCTORS))
+            .build();
+
+    @Test
+    public void testVisibility() {
+        QuestionVisibilityPolicy policy = QuestionVisibilityPolicy.compile(question);
+        StudentAttributes giver = students.get(0);
+        StudentAttributes recipient = students.get(1);
+        StudentAttributes teammate = students.get(2);
+        StudentAttributes otherStudent = students.get(NUM_STUDENTS_PER_TEAM);
+        FeedbackResponseAttributes response = createResponse(giver, recipient);
+
+        ResultsViewer giverViewer = createStudentViewer(giver);
+        ResultsViewer recipientViewer = createStudentViewer(recipient);
+        ResultsViewer teammateViewer = createStudentViewer(teammate);
+        ResultsViewer otherStudentViewer = createStudentViewer(otherStudent);
+        ResultsViewer instructorViewer = createInstructorViewer(instructor);
+        ResultsViewer restrictedInstructorViewer = createInstructorViewer(restrictedInstructor);
+
+        ______TS("responses: visible to the participant types of the question and the giver");
+
+        assertTrue(policy.isResponseVisibleTo(FeedbackParticipantType.RECEIVER));
+        assertFalse(policy.isResponseVisibleTo(FeedbackParticipantType.STUDENTS));
+        assertTrue(policy.isResponseVisibleTo(giverViewer, response));
+        assertTrue(policy.isResponseVisibleTo(recipientViewer, response));
+        assertTrue(policy.isResponseVisibleTo(teammateViewer, response));
+        assertFalse(policy.isResponseVisibleTo(otherStudentViewer, response));
+        assertTrue(policy.isResponseVisibleTo(instructorViewer, response));
+
+        ______TS("responses: not visible to instructors restricted from viewing the section");
+
+        assertFalse(policy.isResponseVisibleTo(restrictedInstructorViewer, response));
+
+        ______TS("names: visible to the participant types of the question and the giver");
+
+        assertTrue(policy.isNameVisibleTo(giverViewer, response, true));
+        assertTrue(policy.isNameVisibleTo(recipientViewer, response, true));
+        assertFalse(policy.isNameVisibleTo(teammateViewer, response, true));
+        assertTrue(policy.isNameVisibleTo(instructorViewer, response, true));
+
+        assertTrue(policy.isNameVisibleTo(giverViewer, response, false));
+        assertFalse(policy.isNameVisibleTo(recipientViewer, response, false));
+        assertFalse(policy.isNameVisibleTo(teammateViewer, response, false));
+        assertTrue(policy.isNameVisibleTo(instructorViewer, response, false));
+
+        ______TS("comments following the question: visible to those the responses are visible to");
+
+        FeedbackResponseCommentAttributes comment = FeedbackResponseCommentAttributes.builder()
+                .withCommentGiver(instructor.getEmail())
+                .withVisibilityFollowingFeedbackQuestion(true)
+                .build();
+        assertTrue(policy.isCommentVisibleTo(teammateViewer, response, comment));
+        assertFalse(policy.isCommentVisibleTo(otherStudentViewer, response, comment));
+
+        ______TS("comments not following the question: visible to those in their own visibility list");
+
+        comment = FeedbackResponseCommentAttributes.builder()
+                .withCommentGiver(instructor.getEmail())
+                .withVisibilityFollowingFeedbackQuestion(false)
+                .withShowCommentTo(Collections.singletonList(FeedbackParticipantType.GIVER))
+                .build();
+        assertTrue(policy.isCommentVisibleTo(giverViewer, response, comment));
+        assertFalse(policy.isCommentVisibleTo(recipientViewer, response, comment));
+        assertFalse(policy.isCommentVisibleTo(teammateViewer, response, comment));
+        assertTrue(policy.isCommentVisibleTo(instructorViewer, response, comment));
+    }
+
+    @Test
+    public void testVisibility_shouldMatchPerResponseChecks() {
+        StudentAttributes giver = students.get(0);
+        StudentAttributes otherTeamStudent = students.get(NUM_STUDENTS_PER_TEAM);
+        List<ResultsViewer> viewers = Arrays.asList(
+                createStudentViewer(giver),
+                createStudentViewer(students.get(1)),
+                createStudentViewer(students.get(2)),
+                createStudentViewer(otherTeamStudent),
+                createStudentViewer(students.get(2 * NUM_STUDENTS_PER_TEAM)),
+                createInstructorViewer(instructor),
+                createInstructorViewer(restrictedInstructor));
+
+        List<FeedbackParticipantType> giverTypes =
+                Arrays.asList(FeedbackParticipantType.STUDENTS, FeedbackParticipantType.TEAMS);
+        List<FeedbackParticipantType> recipientTypes = Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.TEAMS, FeedbackParticipantType.NONE);
+        for (FeedbackParticipantType giverType : giverTypes) {
+            for (FeedbackParticipantType recipientType : recipientTypes) {
+                List<FeedbackResponseAttributes> responses = new ArrayList<>();
+                String giverIdentifier = giverType == FeedbackParticipantType.TEAMS ? giver.getTeam() : giver.getEmail();
+                if (recipientType == FeedbackParticipantType.NONE) {
+                    responses.add(createResponse(giverIdentifier, giver.getSection(),
+                            Const.GENERAL_QUESTION, Const.DEFAULT_SECTION));
+                } else if (recipientType == FeedbackParticipantType.TEAMS) {
+                    responses.add(createResponse(giverIdentifier, giver.getSection(),
+                            giver.getTeam(), giver.getSection()));
+                    responses.add(createResponse(giverIdentifier, giver.getSection(),
+                            otherTeamStudent.getTeam(), otherTeamStudent.getSection()));
+                } else {
+                    responses.add(createResponse(giverIdentifier, giver.getSection(),
+                            students.get(1).getEmail(), giver.getSection()));
+                    responses.add(createResponse(giverIdentifier, giver.getSection(),
+                            otherTeamStudent.getEmail(), otherTeamStudent.getSection()));
+                }
+
+                // every combination of the participant types which can see the responses, and
+                // every other combination of those which can see the names
+                for (int typesMask = 0; typesMask < 1 << VISIBILITY_TYPES.size(); typesMask++) {
+                    FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                            .withCourseId(COURSE_ID)
+                            .withFeedbackSessionName(SESSION_NAME)
+                            .withGiverType(giverType)
+                            .withRecipientType(recipientType)
+                            .withShowResponsesTo(getVisibilityTypes(typesMask))
+                            .withShowGiverNameTo(getVisibilityTypes(typesMask >> 1))
+                            .withShowRecipientNameTo(getVisibilityTypes(~typesMask))
+                            .build();
+                    QuestionVisibilityPolicy policy = QuestionVisibilityPolicy.compile(question);
+                    for (ResultsViewer viewer : viewers) {
+                        for (FeedbackResponseAttributes response : responses) {
+                            assertEquals(isResponseVisibleForUser(question, viewer, response),
+                                    policy.isResponseVisibleTo(viewer, response));
+                            assertEquals(isNameVisibleToUser(question, viewer, response, true),
+                                    policy.isNameVisibleTo(viewer, response, true));
+                            assertEquals(isNameVisibleToUser(question, viewer, response, false),
+                                    policy.isNameVisibleTo(viewer, response, false));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the time taken to check the visibility of the responses of a large session, between compiling
+     * the visibility settings of the question once and reading them again for every response.
+     *
+     * <p>This is a benchmark, which is not part of the component tests; run it with {@code ./gradlew benchmarkTests}.
+     */
+    @Test(groups = "benchmark")
+    public void benchmarkVisibilityChecks() {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>(NUM_BENCHMARK_RESPONSES);
+        for (int i = 0; i < NUM_BENCHMARK_RESPONSES; i++) {
+            int giverIndex = i % students.size();
+            int recipientIndex = giverIndex / NUM_STUDENTS_PER_TEAM * NUM_STUDENTS_PER_TEAM
+                    + i / students.size() % NUM_STUDENTS_PER_TEAM;
+            responses.add(createResponse(students.get(giverIndex), students.get(recipientIndex)));
+        }
+
+        StudentAttributes student = students.get(0);
+        Set<String> studentsEmailInTeam = getStudentsEmailInTeam(student);
+        List<Supplier<ResultsViewer>> viewerSuppliers = Arrays.asList(
+                () -> new ResultsViewer(student.getEmail(), false, student, studentsEmailInTeam, null, roster),
+                () -> createInstructorViewer(restrictedInstructor));
+        for (Supplier<ResultsViewer> viewerSupplier : viewerSuppliers) {
+            ResultsViewer viewer = viewerSupplier.get();
+            boolean[] expected = new boolean[NUM_BENCHMARK_RESPONSES];
+            boolean[] actual = new boolean[NUM_BENCHMARK_RESPONSES];
+            long perResponseNanos = Long.MAX_VALUE;
+            long compiledNanos = Long.MAX_VALUE;
+            for (int round = 0; round < NUM_BENCHMARK_ROUNDS; round++) {
+                // the visibility settings and the viewer are read again for every response,
+                // as when checking the visibility of a single response
+                long start = System.nanoTime();
+                for (int i = 0; i < NUM_BENCHMARK_RESPONSES; i++) {
+                    expected[i] = isVisible(QuestionVisibilityPolicy.compile(question), viewerSupplier.get(),
+                            responses.get(i));
+                }
+                perResponseNanos = Math.min(perResponseNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                QuestionVisibilityPolicy policy = QuestionVisibilityPolicy.compile(question);
+                for (int i = 0; i < NUM_BENCHMARK_RESPONSES; i++) {
+                    actual[i] = isVisible(policy, viewer, responses.get(i));
+                }
+                compiledNanos = Math.min(compiledNanos, System.nanoTime() - start);
+            }
+
+            assertTrue(Arrays.equals(expected, actual));
+            print(String.format("Checking visibility of %d responses for %s: %dus compiled per response, "
+                    + "%dus compiled once", NUM_BENCHMARK_RESPONSES, viewer.getUserEmail(),
+                    perResponseNanos / 1000, compiledNanos / 1000));
+        }
+    }
+
+    private boolean isVisible(QuestionVisibilityPolicy policy, ResultsViewer viewer,
+            FeedbackResponseAttributes response) {
+        return policy.isResponseVisibleTo(viewer, response)
+                && policy.isNameVisibleTo(viewer, response, true)
+                && policy.isNameVisibleTo(viewer, response, false);
+    }
+
+    private static List<FeedbackParticipantType> getVisibilityTypes(int typesMask) {
+        List<FeedbackParticipantType> types = new ArrayList<>();
+        for (int i = 0; i < VISIBILITY_TYPES.size(); i++) {
+            if ((typesMask & 1 << i) != 0) {
+                types.add(VISIBILITY_TYPES.get(i));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Checks the visibility of the response by reading the visibility lists of the question,
+     * as done for each response before the visibility settings were compiled.
+     */
+    private boolean isResponseVisibleForUser(FeedbackQuestionAttributes question, ResultsViewer viewer,
+            FeedbackResponseAttributes response) {
+        String userEmail = viewer.getUserEmail();
+        boolean isInstructor = viewer.isInstructor();
+        StudentAttributes student = viewer.getStudent();
+        Set<String> studentsEmailInTeam = viewer.getStudentsEmailInTeam();
+        FeedbackParticipantType recipientType = question.getRecipientType();
+
+        boolean isVisibleResponse = false;
+        if (isInstructor && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || response.getRecipient().equals(userEmail)
+                && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                || response.getGiver().equals(userEmail)
+                || !isInstructor && question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            isVisibleResponse = true;
+        } else if (studentsEmailInTeam != null && !isInstructor) {
+            isVisibleResponse = (recipientType == FeedbackParticipantType.TEAMS
+                    || recipientType == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
+                    || recipientType == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
+                    && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                    && response.getRecipient().equals(student.getTeam())
+                    || question.getGiverType() == FeedbackParticipantType.TEAMS
+                    && response.getGiver().equals(student.getTeam())
+                    || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                    && studentsEmailInTeam.contains(response.getGiver())
+                    || question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                    && studentsEmailInTeam.contains(response.getRecipient());
+        }
+        if (isVisibleResponse && isInstructor) {
+            InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
+            isVisibleResponse = instructor.isAllowedForPrivilege(response.getGiverSection(),
+                    response.getFeedbackSessionName(), Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)
+                    && (recipientType == FeedbackParticipantType.NONE
+                            || instructor.isAllowedForPrivilege(response.getRecipientSection(),
+                                    response.getFeedbackSessionName(),
+                                    Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+        }
+        return isVisibleResponse;
+    }
+
+    /**
+     * Checks the visibility of the name of the giver or recipient by reading the visibility lists of the question,
+     * as done for each response before the visibility settings were compiled.
+     */
+    private boolean isNameVisibleToUser(FeedbackQuestionAttributes question, ResultsViewer viewer,
+            FeedbackResponseAttributes response, boolean isGiverName) {
+        String userEmail = viewer.getUserEmail();
+        if (question.getGiverType() == FeedbackParticipantType.TEAMS
+                ? roster.isStudentInTeam(userEmail, response.getGiver())
+                : response.getGiver().equals(userEmail)) {
+            return true;
+        }
+
+        List<FeedbackParticipantType> showNameTo =
+                isGiverName ? question.getShowGiverNameTo() : question.getShowRecipientNameTo();
+        boolean isRecipientTeam = question.getRecipientType().isTeam();
+        for (FeedbackParticipantType type : showNameTo) {
+            switch (type) {
+            case INSTRUCTORS:
+                if (roster.getInstructorForEmail(userEmail) != null && viewer.isInstructor()) {
+                    return true;
+                }
+                break;
+            case OWN_TEAM_MEMBERS:
+            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
+                    return true;
+                }
+                break;
+            case RECEIVER:
+                if (isRecipientTeam ? roster.isStudentInTeam(userEmail, response.getRecipient())
+                        : response.getRecipient().equals(userEmail)) {
+                    return true;
+                }
+                break;
+            case RECEIVER_TEAM_MEMBERS:
+                if (isRecipientTeam ? roster.isStudentInTeam(userEmail, response.getRecipient())
+                        : roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
+                    return true;
+                }
+                break;
+            case STUDENTS:
+                if (roster.isStudentInCourse(userEmail)) {
+                    return true;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return false;
+    }
+
+    private ResultsViewer createStudentViewer(StudentAttributes student) {
+        return new ResultsViewer(student.getEmail(), false, student, getStudentsEmailInTeam(student), null, roster);
+    }
+
+    private Set<String> getStudentsEmailInTeam(StudentAttributes student) {
+        Set<String> studentsEmailInTeam = new HashSet<>();
+        for (StudentAttributes studentInTeam : roster.getTeamToMembersTable().get(student.getTeam())) {
+            studentsEmailInTeam.add(studentInTeam.getEmail());
+        }
+        return studentsEmailInTeam;
+    }
+
+    private ResultsViewer createInstructorViewer(InstructorAttributes instructor) {
+        return new ResultsViewer(instructor.getEmail(), true, null, Collections.emptySet(), instructor, roster);
+    }
+
+    private FeedbackResponseAttributes createResponse(StudentAttributes giver, StudentAttributes recipient) {
+        return createResponse(giver.getEmail(), giver.getSection(), recipient.getEmail(), recipient.getSection());
+    }
+
+    private FeedbackResponseAttributes createResponse(String giver, String giverSection,
+            String recipient, String recipientSection) {
+        return FeedbackResponseAttributes.builder("QVPolicyT.question", giver, recipient)
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withGiverSection(giverSection)
+                .withRecipientSection(recipientSection)
+                .build();
+    }
+
+    private static List<StudentAttributes> createStudents() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int team = 0; team < NUM_TEAMS; team++) {
+            for (int member = 0; member < NUM_STUDENTS_PER_TEAM; member++) {
+                students.add(StudentAttributes.builder(COURSE_ID, "student" + member + ".team" + team + "@qvpolicyt.tmt")
+                        .withName("Student " + member + " of team " + team)
+                        .withTeamName("Team " + team)
+                        .withSectionName("Section " + team % 10)
+                        .build());
+            }
+        }
+        return students;
+    }
+
+    private static InstructorAttributes createInstructor(String email, String restrictedSection) {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        if (restrictedSection != null) {
+            privileges.updatePrivilege(restrictedSection, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        }
+        return InstructorAttributes.builder(COURSE_ID, email)
+                .withName("Instructor")
+                .withPrivileges(privileges)
+                .build();
+    }
+
+}
@@ -0,0 +1,94 @@
+package teammates.storage.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CircuitBreaker}.
+ */
+public class CircuitBreakerTest extends BaseTestCase {
+
+    @Test
+    public void testStateTransitions() {
+        MutableClock clock = new MutableClock();
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 3, Duration.ofSeconds(30), clock);
+
+        ______TS("failures below the threshold keep the circuit closed");
+
+        assertTrue(circuitBreaker.allowRequest());
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.allowRequest());
+
+        ______TS("consecutive failures open the circuit");
+
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest());
+
+        ______TS("a single probe is allowed after the open duration");
+
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest());
+
+        ______TS("failed probe re-opens the circuit");
+
+        circuitBreaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest());
+
+        ______TS("successful probe closes the circuit");
+
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(circuitBreaker.allowRequest());
+        circuitBreaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.allowRequest());
+
+        assertEquals(2, circuitBreaker.getTransitionCount(CircuitBreaker.State.OPEN));
+        assertEquals(2, circuitBreaker.getTransitionCount(CircuitBreaker.State.HALF_OPEN));
+        assertEquals(1, circuitBreaker.getTransitionCount(CircuitBreaker.State.CLOSED));
+    }
+
+    /**
+     * A clock which only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2023-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
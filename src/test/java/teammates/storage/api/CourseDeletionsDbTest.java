@@ -0,0 +1,45 @@
+package teammates.storage.api;
+
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link CourseDeletionsDb}.
+ */
+public class CourseDeletionsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final String COURSE_ID = "CDelDbT.course";
+    private static final String OTHER_COURSE_ID = "CDelDbT.otherCourse";
+
+    private final CourseDeletionsDb courseDeletionsDb = CourseDeletionsDb.inst();
+
+    @Test
+    public void testMarks() {
+        ______TS("course not marked");
+
+        assertFalse(courseDeletionsDb.isDeletionInProgress(COURSE_ID));
+        assertTrue(courseDeletionsDb.getCourseIdsWithDeletionInProgress(List.of(COURSE_ID)).isEmpty());
+
+        ______TS("course marked, repeatedly");
+
+        courseDeletionsDb.markDeletionStarted(COURSE_ID);
+        courseDeletionsDb.markDeletionStarted(COURSE_ID);
+
+        assertTrue(courseDeletionsDb.isDeletionInProgress(COURSE_ID));
+        assertFalse(courseDeletionsDb.isDeletionInProgress(OTHER_COURSE_ID));
+        assertEquals(Set.of(COURSE_ID),
+                courseDeletionsDb.getCourseIdsWithDeletionInProgress(List.of(COURSE_ID, OTHER_COURSE_ID)));
+
+        ______TS("mark removed, repeatedly");
+
+        courseDeletionsDb.deleteMark(COURSE_ID);
+        courseDeletionsDb.deleteMark(COURSE_ID);
+
+        assertFalse(courseDeletionsDb.isDeletionInProgress(COURSE_ID));
+    }
+
+}
@@ -0,0 +1,90 @@
+package teammates.storage.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CourseJsonCodec}.
+ */
+public class CourseJsonCodecTest extends BaseTestCase {
+
+    private final CourseJsonCodec codec = new CourseJsonCodec();
+
+    @Test
+    public void testReadCourse() throws Exception {
+        ______TS("unknown fields are skipped");
+
+        CourseAttributes course = codec.readCourse(toStream("{\"id\": \"course-id\", \"name\": \"Course Name\", "
+                + "\"extra\": {\"nested\": [1, 2]}, \"timeZone\": \"UTC\", \"institute\": \"Institute\", "
+                + "\"createdAt\": 1684577472.5, \"deletedAt\": \"2023-05-21T08:00:00.123456\"}"));
+
+        assertEquals("course-id", course.getId());
+        assertEquals("Course Name", course.getName());
+        assertEquals(Instant.parse("2023-05-20T10:11:12.5Z"), course.getCreatedAt());
+        assertEquals(Instant.parse("2023-05-21T08:00:00.123456Z"), course.getDeletedAt());
+
+        ______TS("empty payloads");
+
+        assertNull(codec.readCourse(toStream("")));
+        assertNull(codec.readCourse(toStream("null")));
+
+        ______TS("malformed payloads");
+
+        assertThrows(IOException.class, () -> codec.readCourse(toStream("{\"name\": \"Course Name\"}")));
+        assertThrows(IOException.class, () -> codec.readCourse(toStream("[]")));
+    }
+
+    @Test
+    public void testReadCourses() throws Exception {
+        List<CourseAttributes> courses = codec.readCourses(toStream(
+                "[{\"id\": \"course-1\"}, null, {\"id\": \"course-2\"}]"));
+
+        assertEquals(2, courses.size());
+        assertEquals("course-1", courses.get(0).getId());
+        assertEquals("course-2", courses.get(1).getId());
+
+        assertThrows(IOException.class, () -> codec.readCourses(toStream("[{\"id\": \"course-1\"}")));
+    }
+
+    @Test
+    public void testParseInstant() {
+        Instant expected = Instant.parse("2023-05-20T10:11:12.345678Z");
+
+        assertEquals(expected, CourseJsonCodec.parseInstant("2023-05-20T10:11:12.345678"));
+        assertEquals(expected, CourseJsonCodec.parseInstant("2023-05-20 10:11:12.345678"));
+        assertEquals(expected, CourseJsonCodec.parseInstant("2023-05-20T12:11:12.345678+02:00"));
+        assertEquals(Instant.parse("2023-05-20T10:11:12Z"),
+                CourseJsonCodec.parseInstant("Sat, 20 May 2023 10:11:12 GMT"));
+    }
+
+    @Test
+    public void testWriteCourse_roundTrip() throws Exception {
+        CourseAttributes course = CourseAttributes.builder("course-id")
+                .withName("Course \"Name\"")
+                .withTimezone("Asia/Singapore")
+                .withInstitute("Institute")
+                .build();
+        course.setDeletedAt(Instant.parse("2023-05-21T08:00:00.123456789Z"));
+
+        CourseAttributes decoded = codec.readCourse(toStream(codec.writeCourse(course)));
+
+        assertEquals(course.getName(), decoded.getName());
+        assertEquals(course.getTimeZone(), decoded.getTimeZone());
+        assertEquals(course.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(course.getDeletedAt(), decoded.getDeletedAt());
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,277 @@
+package teammates.storage.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CourseServiceClient}.
+ */
+public class CourseServiceClientTest extends BaseTestCase {
+
+    private static final String COURSE_JSON = "{\"id\": \"course-id\", \"name\": \"Course Name\", "
+            + "\"timeZone\": \"UTC\", \"institute\": \"Institute\", "
+            + "\"createdAt\": \"2023-05-20T10:11:12.345678\", \"deletedAt\": null}";
+
+    private StubTransport transport;
+    private CourseServiceClient client;
+
+    @BeforeMethod
+    public void setUp() {
+        transport = new StubTransport();
+        client = createClient(new CourseCache(0, Duration.ZERO), new CircuitBreaker("test", 100, Duration.ofMinutes(1)));
+    }
+
+    private CourseServiceClient createClient(CourseCache cache, CircuitBreaker circuitBreaker) {
+        return new CourseServiceClient(transport, Duration.ofSeconds(1), cache, circuitBreaker, Duration.ofMillis(1), true);
+    }
+
+    @Test
+    public void testGetCourse() throws Exception {
+        ______TS("existing course");
+
+        transport.nextResponse = response(200, COURSE_JSON);
+        CourseAttributes course = client.getCourse("course-id");
+
+        assertEquals("GET /Course/course-id", transport.requests.get(0));
+        assertEquals("course-id", course.getId());
+        assertEquals("Course Name", course.getName());
+        assertEquals("UTC", course.getTimeZone());
+        assertEquals("Institute", course.getInstitute());
+        assertEquals(Instant.parse("2023-05-20T10:11:12.345678Z"), course.getCreatedAt());
+        assertFalse(course.isCourseDeleted());
+
+        ______TS("non-existent course");
+
+        transport.nextResponse = response(404, "");
+        assertNull(client.getCourse("non-existent"));
+
+        transport.nextResponse = response(200, "null");
+        assertNull(client.getCourse("non-existent"));
+
+        ______TS("service error");
+
+        transport.nextResponse = response(400, "error");
+        assertThrows(IOException.class, () -> client.getCourse("course-id"));
+    }
+
+    @Test
+    public void testGetCourse_serverErrors_shouldRetryReads() throws Exception {
+        ______TS("transient errors are retried");
+
+        transport.queuedResponses.add(response(503, "unavailable"));
+        transport.queuedResponses.add(response(200, COURSE_JSON));
+        assertEquals("course-id", client.getCourse("course-id").getId());
+        assertEquals(2, transport.requests.size());
+
+        ______TS("persistent errors are given up on");
+
+        transport.requests.clear();
+        transport.nextResponse = response(500, "error");
+        assertThrows(IOException.class, () -> client.getCourse("course-id"));
+        assertEquals(3, transport.requests.size());
+
+        ______TS("writes are not retried");
+
+        transport.requests.clear();
+        assertThrows(IOException.class, () -> client.deleteCourse("course-id"));
+        assertEquals(1, transport.requests.size());
+    }
+
+    @Test
+    public void testGetCourse_circuitOpen_shouldFailFastOrServeStaleCourse() throws Exception {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, Duration.ofMinutes(1));
+        client = createClient(new CourseCache(10, Duration.ZERO), circuitBreaker);
+
+        transport.nextResponse = response(200, COURSE_JSON);
+        client.getCourse("course-id");
+
+        transport.nextResponse = response(500, "error");
+        assertThrows(IOException.class, () -> client.getCourse("other-course-id"));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1, circuitBreaker.getTransitionCount(CircuitBreaker.State.OPEN));
+
+        ______TS("open circuit does not reach the service");
+
+        transport.requests.clear();
+        assertThrows(CourseServiceClient.CircuitOpenException.class, () -> client.getCourse("other-course-id"));
+        assertTrue(transport.requests.isEmpty());
+
+        ______TS("open circuit serves the last known version of a course");
+
+        assertEquals("course-id", client.getCourse("course-id").getId());
+        assertEquals("course-id", client.getCourses(List.of("course-id")).get(0).getId());
+        assertTrue(transport.requests.isEmpty());
+    }
+
+    @Test
+    public void testGetCourses() throws Exception {
+        ______TS("empty list does not reach the service");
+
+        assertTrue(client.getCourses(new ArrayList<>()).isEmpty());
+        assertTrue(transport.requests.isEmpty());
+
+        ______TS("all courses are fetched in one request");
+
+        transport.nextResponse = response(200, "[" + COURSE_JSON + ", null]");
+        List<CourseAttributes> courses = client.getCourses(List.of("course-id", "non-existent"));
+
+        assertEquals(List.of("POST /Courses/batch"), transport.requests);
+        assertEquals(1, courses.size());
+        assertEquals("course-id", courses.get(0).getId());
+    }
+
+    @Test
+    public void testGetCourses_batchLookupNotSupported_shouldFetchCoursesOneByOne() throws Exception {
+        transport.queuedResponses.add(response(404, ""));
+        transport.queuedResponses.add(response(200, COURSE_JSON));
+        transport.queuedResponses.add(response(404, ""));
+
+        List<CourseAttributes> courses = client.getCourses(List.of("course-id", "non-existent"));
+
+        assertEquals(List.of("POST /Courses/batch", "GET /Course/course-id", "GET /Course/non-existent"),
+                transport.requests);
+        assertEquals(1, courses.size());
+        assertEquals("course-id", courses.get(0).getId());
+
+        ______TS("batch endpoint is not retried once known to be missing");
+
+        transport.nextResponse = response(200, COURSE_JSON);
+        client.getCourses(List.of("course-id"));
+        assertEquals("GET /Course/course-id", transport.requests.get(3));
+    }
+
+    @Test
+    public void testGetCourses_batchLookupNotImplemented_shouldFetchCoursesOneByOneWithoutRetries() throws Exception {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1));
+        client = createClient(new CourseCache(0, Duration.ZERO), circuitBreaker);
+        transport.queuedResponses.add(response(501, "not implemented"));
+        transport.queuedResponses.add(response(200, COURSE_JSON));
+
+        List<CourseAttributes> courses = client.getCourses(List.of("course-id"));
+
+        assertEquals(List.of("POST /Courses/batch", "GET /Course/course-id"), transport.requests);
+        assertEquals(1, courses.size());
+        assertEquals("course-id", courses.get(0).getId());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    public void testGetCourseAsync() throws Exception {
+        transport.nextResponse = response(200, COURSE_JSON);
+        assertEquals("course-id", client.getCourseAsync("course-id").get().getId());
+
+        transport.nextResponse = response(500, "error");
+        assertThrows(ExecutionException.class, () -> client.getCourseAsync("course-id").get());
+    }
+
+    @Test
+    public void testWriteOperations() throws Exception {
+        transport.nextResponse = response(200, COURSE_JSON);
+        CourseAttributes course = CourseAttributes.builder("course-id")
+                .withName("Course Name")
+                .withTimezone("UTC")
+                .withInstitute("Institute")
+                .build();
+        course.setCreatedAt(Instant.parse("2023-05-20T10:11:12.5Z"));
+
+        client.createCourse(course);
+        client.updateCourse(course);
+        client.restoreDeletedCourse("course-id");
+        client.deleteCourse("course-id");
+
+        assertEquals(List.of("POST /Courses", "PUT /Course/course-id", "PUT /Restore/course-id",
+                "DELETE /Course/course-id"), transport.requests);
+        assertEquals("{\"id\":\"course-id\",\"name\":\"Course Name\",\"timeZone\":\"UTC\","
+                + "\"institute\":\"Institute\",\"createdAt\":1684577472.500000000,\"deletedAt\":null}",
+                transport.bodies.get(0));
+
+        ______TS("soft deletion returns the deletion time");
+
+        transport.nextResponse = response(200, "\"2023-05-21 08:00:00.123456\"");
+        assertEquals(Instant.parse("2023-05-21T08:00:00.123456Z"), client.softDeleteCourse("course-id"));
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        CourseCache cache = new CourseCache(10, Duration.ofMinutes(1));
+        client = createClient(cache, new CircuitBreaker("test", 100, Duration.ofMinutes(1)));
+        transport.nextResponse = response(200, COURSE_JSON);
+
+        ______TS("repeated lookups are served from the cache");
+
+        CourseAttributes course = client.getCourse("course-id");
+        course.setName("Modified by caller");
+        assertEquals("Course Name", client.getCourse("course-id").getName());
+        assertEquals(1, client.getCourses(List.of("course-id")).size());
+        assertEquals(1, transport.requests.size());
+        assertEquals(2, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+
+        ______TS("writes invalidate the cached course");
+
+        client.restoreDeletedCourse("course-id");
+        client.getCourse("course-id");
+        assertEquals(List.of("GET /Course/course-id", "PUT /Restore/course-id", "GET /Course/course-id"),
+                transport.requests);
+
+        ______TS("batch lookups only fetch uncached courses");
+
+        transport.nextResponse = response(200, "[]");
+        client.getCourses(List.of("course-id", "other-course-id"));
+        assertEquals("POST /Courses/batch", transport.requests.get(3));
+        assertEquals("{\"ids\":[\"other-course-id\"]}", transport.bodies.get(3));
+    }
+
+    private static StubResponse response(int statusCode, String body) {
+        return new StubResponse(statusCode, body);
+    }
+
+    /**
+     * A canned response; a fresh {@link CourseServiceTransport.Response} is built each time it is served,
+     * as the body of a response can only be read once.
+     */
+    private static class StubResponse {
+
+        private final int statusCode;
+        private final String body;
+
+        StubResponse(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+    }
+
+    /**
+     * An in-process stand-in for the Courses service which records the requests it receives.
+     */
+    private static class StubTransport implements CourseServiceTransport {
+
+        private final List<String> requests = new ArrayList<>();
+        private final List<String> bodies = new ArrayList<>();
+        private final Deque<StubResponse> queuedResponses = new ArrayDeque<>();
+        private StubResponse nextResponse;
+
+        @Override
+        public Response send(String method, String path, String body, Duration timeout) {
+            requests.add(method + " " + path);
+            bodies.add(body);
+            StubResponse response = queuedResponses.isEmpty() ? nextResponse : queuedResponses.poll();
+            return new Response(response.statusCode, response.body);
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package teammates.storage.api;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link EmbeddedCourseService}.
+ */
+public class EmbeddedCourseServiceTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private final CourseService courseService = EmbeddedCourseService.inst();
+
+    @Test
+    public void testCourseLifecycle() throws Exception {
+        CourseAttributes course = CourseAttributes.builder("ECST.tCL.course")
+                .withName("Basic Computing")
+                .withTimezone("UTC")
+                .withInstitute("Test institute")
+                .build();
+
+        ______TS("create and get");
+
+        courseService.createCourse(course);
+        verifyPresentInDatabase(course);
+        assertEquals("Basic Computing", courseService.getCourse(course.getId()).getName());
+        assertThrows(EntityAlreadyExistsException.class, () -> courseService.createCourse(course));
+
+        List<CourseAttributes> courses = courseService.getCourses(List.of(course.getId(), "non-existent"));
+        assertEquals(1, courses.size());
+        assertEquals(course.getId(), courses.get(0).getId());
+
+        ______TS("update");
+
+        course.setName("Advanced Computing");
+        assertEquals("Advanced Computing", courseService.updateCourse(course).getName());
+        assertEquals("Advanced Computing", courseService.getCourse(course.getId()).getName());
+
+        ______TS("soft-delete and restore");
+
+        assertNotNull(courseService.softDeleteCourse(course.getId()));
+        assertTrue(courseService.getCourse(course.getId()).isCourseDeleted());
+        courseService.restoreDeletedCourse(course.getId());
+        assertFalse(courseService.getCourse(course.getId()).isCourseDeleted());
+        assertThrows(EntityDoesNotExistException.class, () -> courseService.softDeleteCourse("non-existent"));
+
+        ______TS("delete");
+
+        courseService.deleteCourse(course.getId());
+        assertNull(courseService.getCourse(course.getId()));
+    }
+
+}
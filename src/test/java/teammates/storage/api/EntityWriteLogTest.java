@@ -0,0 +1,155 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.logs.EntityWriteLogDetails;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.Course;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link EntityWriteLog}.
+ */
+public class EntityWriteLogTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final int NUM_ENTITIES = 1000;
+    private static final int NUM_ROUNDS = 5;
+
+    @Test
+    public void testShouldLog() {
+        ______TS("sample rate of 0 disables the log");
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(EntityWriteLog.shouldLog(0));
+        }
+
+        ______TS("sample rate of 1 records every write");
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(EntityWriteLog.shouldLog(1));
+        }
+    }
+
+    @Test
+    public void testToLogDetails() {
+        List<Course> courses = createCourses(EntityWriteLog.MAX_KEYS_PER_ENTRY + 5);
+        List<Key<Course>> keys = new ArrayList<>();
+        for (Course course : courses) {
+            keys.add(Key.create(course));
+        }
+
+        ______TS("entry holds the kind and the keys of the entities, but not their content");
+
+        EntityWriteLogDetails details = EntityWriteLog.toLogDetails(EntityWriteLog.WRITE_TYPE_SAVE, keys, keys.size());
+
+        assertEquals("Course", details.getEntityKind());
+        assertEquals(EntityWriteLog.WRITE_TYPE_SAVE, details.getWriteType());
+        assertEquals(keys.size(), details.getNumEntities());
+        assertEquals(EntityWriteLog.MAX_KEYS_PER_ENTRY, details.getEntityKeys().size());
+        assertEquals("EWLT.course0", details.getEntityKeys().get(0));
+        assertFalse(JsonUtils.toCompactJson(details).contains("Basic Computing"));
+
+        ______TS("keys are hidden from users without access to sensitive information");
+
+        details.hideSensitiveInformation();
+        assertNull(details.getEntityKeys());
+    }
+
+    @Test
+    public void testGetChangedFields() {
+        Course course = createCourses(1).get(0);
+        ofy().save().entity(course).now();
+
+        ______TS("unchanged entity has no changed fields");
+
+        assertTrue(EntityWriteLog.getChangedFields(Collections.singletonList(course)).isEmpty());
+
+        ______TS("only the fields differing from the stored entity are changed");
+
+        course.setName("Advanced Computing");
+        course.setInstitute(null);
+
+        List<String> changedFields = EntityWriteLog.getChangedFields(Collections.singletonList(course));
+
+        assertEquals(List.of("institute", "name"), changedFields);
+
+        ______TS("all fields of an entity not yet stored are changed");
+
+        Course newCourse = createCourses(2).get(1);
+
+        changedFields = EntityWriteLog.getChangedFields(Collections.singletonList(newCourse));
+
+        assertTrue(changedFields.contains("name"));
+        assertTrue(changedFields.contains("timeZone"));
+
+        ofy().delete().entity(course).now();
+    }
+
+    /**
+     * Compares the CPU time spent on logging the creation of entities, between logging every entity
+     * as pretty-printed JSON and recording one entry per write operation.
+     *
+     * <p>This is a benchmark, which is not part of the component tests; run it with {@code ./gradlew benchmarkTests}.
+     */
+    @Test(groups = "benchmark")
+    public void benchmarkWritePathLogging() {
+        List<Course> courses = createCourses(NUM_ENTITIES);
+        List<CourseAttributes> attributes = new ArrayList<>();
+        for (Course course : courses) {
+            attributes.add(CourseAttributes.valueOf(course));
+        }
+
+        long perEntityJsonNanos = Long.MAX_VALUE;
+        long perOperationEntryNanos = Long.MAX_VALUE;
+        int totalLength = 0;
+
+        for (int round = 0; round < NUM_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (CourseAttributes course : attributes) {
+                totalLength += ("Entity created: " + JsonUtils.toJson(course)).length();
+            }
+            perEntityJsonNanos = Math.min(perEntityJsonNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            List<Key<Course>> keys = new ArrayList<>();
+            for (Course course : courses) {
+                if (keys.size() == EntityWriteLog.MAX_KEYS_PER_ENTRY) {
+                    break;
+                }
+                keys.add(Key.create(course));
+            }
+            EntityWriteLogDetails details =
+                    EntityWriteLog.toLogDetails(EntityWriteLog.WRITE_TYPE_CREATE, keys, courses.size());
+            totalLength += JsonUtils.toCompactJson(details).length();
+            perOperationEntryNanos = Math.min(perOperationEntryNanos, System.nanoTime() - start);
+        }
+
+        print(String.format("Logging the creation of %d entities: %dus as JSON per entity, %dus as one entry",
+                NUM_ENTITIES, perEntityJsonNanos / 1000, perOperationEntryNanos / 1000));
+        assertTrue(totalLength > 0);
+        assertTrue(perOperationEntryNanos < perEntityJsonNanos);
+    }
+
+    private List<Course> createCourses(int numCourses) {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < numCourses; i++) {
+            courses.add(CourseAttributes.builder("EWLT.course" + i)
+                    .withName("Basic Computing")
+                    .withTimezone("UTC")
+                    .withInstitute("Test institute")
+                    .build()
+                    .toEntity());
+        }
+        return courses;
+    }
+
+}
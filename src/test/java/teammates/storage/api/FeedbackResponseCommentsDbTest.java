@@ -3,6 +3,7 @@ package teammates.storage.api;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -622,6 +623,33 @@ public class FeedbackResponseCommentsDbTest extends BaseTestCaseWithLocalDatabas
         assertEquals(0, comments.size());
     }
 
+    @Test
+    public void testGetFeedbackResponseCommentsForResponsesOfQuestion_typicalCase_shouldQueryCorrectly() {
+        String questionId = frcaData.getFeedbackQuestionId();
+        List<FeedbackResponseCommentAttributes> comments =
+                frcDb.getFeedbackResponseCommentsForResponsesOfQuestion(questionId, Set.of(frId));
+        assertEquals(1, comments.size());
+        assertEquals(frcaData.getId(), comments.get(0).getId());
+
+        // comments of responses within the range of the IDs, but not among the responses, are not included
+        comments = frcDb.getFeedbackResponseCommentsForResponsesOfQuestion(questionId, Set.of(" ", "\uffff"));
+        assertEquals(0, comments.size());
+
+        comments = frcDb.getFeedbackResponseCommentsForResponsesOfQuestion(questionId, Set.of());
+        assertEquals(0, comments.size());
+    }
+
+    @Test
+    public void testGetFeedbackResponseCommentsForResponses_typicalCase_shouldQueryCorrectly() {
+        List<FeedbackResponseCommentAttributes> comments =
+                frcDb.getFeedbackResponseCommentsForResponses(Set.of(frId, "not_exist%giver%recipient"));
+        assertEquals(1, comments.size());
+        assertEquals(frcaData.getId(), comments.get(0).getId());
+
+        comments = frcDb.getFeedbackResponseCommentsForResponses(Set.of());
+        assertEquals(0, comments.size());
+    }
+
     private FeedbackResponseCommentAttributes getFeedbackResponseComment(String courseId, Instant createdAt, String giver) {
         return frcDb.getFeedbackResponseCommentForGiver(courseId, giver)
                 .stream()
@@ -1,9 +1,11 @@
 package teammates.storage.api;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -22,6 +24,7 @@ import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Config;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.test.AssertHelper;
@@ -178,6 +181,37 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
         assertFalse(frDb.getFeedbackResponsesForQuestion(fraFromAnotherQuestion.getFeedbackQuestionId()).isEmpty());
     }
 
+    @Test
+    public void testDeleteFeedbackResponses_moreResponsesThanOnePage_shouldDeleteAllPages() throws Exception {
+        FeedbackResponseAttributes fraFromAnotherQuestion = fras.get("response1ForQ1S1C1");
+        int numResponses = 2 * Config.DATASTORE_WRITE_BATCH_SIZE + 1;
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (int i = 0; i < numResponses; i++) {
+            responses.add(FeedbackResponseAttributes.builder(
+                    "testFeedbackQuestionId", "giver" + i + "@email.tmt", "recipient@email.tmt")
+                    .withCourseId("testCourse")
+                    .withFeedbackSessionName("fsTest1")
+                    .withGiverSection("None")
+                    .withRecipientSection("None")
+                    .withResponseDetails(new FeedbackTextResponseDetails("Text response"))
+                    .build());
+        }
+        frDb.putEntities(responses);
+        assertEquals(numResponses, frDb.getFeedbackResponsesForQuestion("testFeedbackQuestionId").size());
+
+        ______TS("responses are deleted in several pages of keys");
+
+        frDb.deleteFeedbackResponses(
+                AttributesDeletionQuery.builder()
+                        .withQuestionId("testFeedbackQuestionId")
+                        .build());
+
+        assertTrue(frDb.getFeedbackResponsesForQuestion("testFeedbackQuestionId").isEmpty());
+        assertNull(frDb.getFeedbackResponse(responses.get(0).getId()));
+        // responses of other questions remain
+        assertFalse(frDb.getFeedbackResponsesForQuestion(fraFromAnotherQuestion.getFeedbackQuestionId()).isEmpty());
+    }
+
     @Test
     public void testDeleteFeedbackResponses_byCourseIdAndSessionName() {
         ______TS("standard success case");
@@ -442,6 +476,32 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
 
     }
 
+    @Test
+    public void testStreamFeedbackResponsesForSession_anyChunkSize_shouldReturnAllResponses() {
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").getFeedbackSessionName();
+        String courseId = fras.get("response1ForQ1S1C1").getCourseId();
+        Set<String> expectedIds = frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId).stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toSet());
+
+        ______TS("pages smaller than, dividing, equal to and larger than the result");
+
+        for (int chunkSize : new int[] { 1, 4, 3, 6, 100 }) {
+            List<String> streamedIds = frDb.streamAttributes(frDb.load()
+                            .filter("feedbackSessionName =", feedbackSessionName)
+                            .filter("courseId =", courseId), chunkSize)
+                    .map(FeedbackResponseAttributes::getId)
+                    .collect(Collectors.toList());
+
+            assertEquals(expectedIds.size(), streamedIds.size());
+            assertEquals(expectedIds, new HashSet<>(streamedIds));
+        }
+
+        ______TS("partially consumed stream");
+
+        assertEquals(2, frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId).limit(2).count());
+    }
+
     @Test
     public void testGetFeedbackResponsesForReceiverForCourse() {
 
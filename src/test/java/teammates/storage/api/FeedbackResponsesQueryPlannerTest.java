@@ -0,0 +1,66 @@
+package teammates.storage.api;
+
+import static teammates.storage.api.FeedbackResponsesQueryPlanner.MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackResponsesQueryPlanner}.
+ */
+public class FeedbackResponsesQueryPlannerTest extends BaseTestCase {
+
+    @Test
+    public void testPlanForQuestion() {
+        ______TS("small question: scan its key range");
+
+        FeedbackResponsesQueryPlanner.Plan plan = FeedbackResponsesQueryPlanner.planForQuestion(
+                "questionId", "Section 1", FeedbackResultFetchType.GIVER, MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY);
+        assertEquals(FeedbackResponsesQueryPlanner.Strategy.KEY_RANGE_SCAN, plan.getStrategy());
+        assertEquals("FeedbackResponse query plan: KEY_RANGE_SCAN for GIVER responses of section Section 1 "
+                + "in question questionId (500 responses in scope): 1 key range scan, sections filtered in memory",
+                plan.explain());
+
+        ______TS("large question: query the indexes");
+
+        plan = FeedbackResponsesQueryPlanner.planForQuestion("questionId", "Section 1", FeedbackResultFetchType.GIVER,
+                FeedbackResponsesQueryPlanner.getMaxScopeSizeToEstimate(FeedbackResultFetchType.GIVER));
+        assertEquals(FeedbackResponsesQueryPlanner.Strategy.INDEX_QUERY, plan.getStrategy());
+        assertEquals("FeedbackResponse query plan: INDEX_QUERY for GIVER responses of section Section 1 "
+                + "in question questionId (more than 500 responses in scope): 1 index query(s)",
+                plan.explain());
+
+        ______TS("fetching by both sections saves one more query, so larger questions are scanned");
+
+        plan = FeedbackResponsesQueryPlanner.planForQuestion("questionId", "Section 1", FeedbackResultFetchType.BOTH,
+                MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY + 1);
+        assertEquals(FeedbackResponsesQueryPlanner.Strategy.KEY_RANGE_SCAN, plan.getStrategy());
+
+        plan = FeedbackResponsesQueryPlanner.planForQuestion("questionId", "Section 1", FeedbackResultFetchType.BOTH,
+                2 * MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY + 1);
+        assertEquals(FeedbackResponsesQueryPlanner.Strategy.INDEX_QUERY, plan.getStrategy());
+        assertTrue(plan.explain().endsWith("(more than 1000 responses in scope): 2 index query(s)"));
+    }
+
+    @Test
+    public void testPlanForSession() {
+        ______TS("small session: filter all its responses in memory");
+
+        FeedbackResponsesQueryPlanner.Plan plan = FeedbackResponsesQueryPlanner.planForSession(
+                "First session", "course1", "Section 1", FeedbackResultFetchType.BOTH, 0);
+        assertEquals(FeedbackResponsesQueryPlanner.Strategy.IN_MEMORY_FILTER, plan.getStrategy());
+        assertEquals("FeedbackResponse query plan: IN_MEMORY_FILTER for BOTH responses of section Section 1 "
+                + "in session First session of course course1 (0 responses in scope): "
+                + "1 session query, sections filtered in memory",
+                plan.explain());
+
+        ______TS("large session: query the indexes");
+
+        plan = FeedbackResponsesQueryPlanner.planForSession("First session", "course1", "Section 1",
+                FeedbackResultFetchType.RECEIVER, MAX_IN_MEMORY_FILTER_SIZE_PER_QUERY + 1);
+        assertEquals(FeedbackResponsesQueryPlanner.Strategy.INDEX_QUERY, plan.getStrategy());
+    }
+
+}
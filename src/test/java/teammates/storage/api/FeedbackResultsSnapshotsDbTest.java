@@ -0,0 +1,140 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.storage.entity.FeedbackQuestionResultsSnapshot;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link FeedbackResultsSnapshotsDb}.
+ */
+public class FeedbackResultsSnapshotsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final String QUESTION_ID = "FRSnapshotsDbT.question";
+
+    private final FeedbackResultsSnapshotsDb snapshotsDb = FeedbackResultsSnapshotsDb.inst();
+    private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
+    private final FeedbackResponseCommentsDb frcDb = FeedbackResponseCommentsDb.inst();
+
+    private FeedbackResponseAttributes response;
+    private FeedbackResponseCommentAttributes comment;
+
+    @BeforeMethod
+    public void beforeMethod() throws Exception {
+        DataBundle dataBundle = getTypicalDataBundle();
+
+        response = dataBundle.feedbackResponses.get("response1ForQ1S1C1");
+        response.setFeedbackQuestionId(QUESTION_ID);
+        response = frDb.putEntity(response);
+
+        comment = dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q1S1C1");
+        comment.setFeedbackQuestionId(QUESTION_ID);
+        comment.setFeedbackResponseId(response.getId());
+        comment = frcDb.putEntity(comment);
+    }
+
+    @AfterMethod
+    public void afterMethod() {
+        frcDb.deleteFeedbackResponseComment(comment.getId());
+        frDb.deleteFeedbackResponse(response.getId());
+    }
+
+    @Test
+    public void testSnapshots() throws Exception {
+        String courseId = response.getCourseId();
+        String feedbackSessionName = response.getFeedbackSessionName();
+
+        ______TS("no snapshot taken");
+
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+        assertTrue(snapshotsDb.getQuestionIdsWithFreshSnapshots(courseId, feedbackSessionName).isEmpty());
+
+        ______TS("snapshot taken: the responses and comments of the question are read back as stored");
+
+        assertTrue(snapshotsDb.putSnapshot(courseId, feedbackSessionName, QUESTION_ID));
+
+        Map<String, FeedbackResultsSnapshotsDb.QuestionResults> snapshots =
+                snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID, "FRSnapshotsDbT.otherQuestion"));
+        assertEquals(1, snapshots.size());
+        FeedbackResultsSnapshotsDb.QuestionResults results = snapshots.get(QUESTION_ID);
+        assertEquals(1, results.getResponses().size());
+        FeedbackResponseAttributes responseInSnapshot = results.getResponses().get(0);
+        assertEquals(response.getId(), responseInSnapshot.getId());
+        assertEquals(response, responseInSnapshot);
+        assertEquals(response.getFeedbackQuestionType(), responseInSnapshot.getFeedbackQuestionType());
+        assertEquals(response.getGiverSection(), responseInSnapshot.getGiverSection());
+        assertEquals(response.getRecipientSection(), responseInSnapshot.getRecipientSection());
+        assertEquals(response.getSerializedFeedbackResponseDetailForStorage(),
+                responseInSnapshot.getSerializedFeedbackResponseDetailForStorage());
+        assertEquals(response.getResponseDetailsCopy().getJsonString(),
+                responseInSnapshot.getResponseDetailsCopy().getJsonString());
+        assertEquals(response.getCreatedAt(), responseInSnapshot.getCreatedAt());
+        assertEquals(1, results.getComments().size());
+        assertEquals(comment.getId(), results.getComments().get(0).getId());
+        assertEquals(comment.getCommentText(), results.getComments().get(0).getCommentText());
+        assertEquals(List.of(QUESTION_ID),
+                List.copyOf(snapshotsDb.getQuestionIdsWithFreshSnapshots(courseId, feedbackSessionName)));
+
+        ______TS("comment updated: the snapshot is invalidated");
+
+        frcDb.updateFeedbackResponseComment(FeedbackResponseCommentAttributes.updateOptionsBuilder(comment.getId())
+                .withCommentText("Updated comment")
+                .build());
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+
+        ______TS("response written within a write batch: the snapshot is invalidated once the batch is flushed");
+
+        snapshotsDb.putSnapshot(courseId, feedbackSessionName, QUESTION_ID);
+        try (WriteBatch batch = WriteBatch.begin()) {
+            frDb.putEntity(response);
+            batch.commit();
+        }
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+
+        ______TS("response deleted: the snapshot is invalidated");
+
+        snapshotsDb.putSnapshot(courseId, feedbackSessionName, QUESTION_ID);
+        frDb.deleteFeedbackResponse(response.getId());
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+        response = frDb.putEntity(response);
+
+        ______TS("snapshot being taken: not fresh until completed");
+
+        ofy().save().entity(new FeedbackQuestionResultsSnapshot(QUESTION_ID, courseId, feedbackSessionName)).now();
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+        assertTrue(snapshotsDb.getQuestionIdsWithFreshSnapshots(courseId, feedbackSessionName).isEmpty());
+
+        assertTrue(snapshotsDb.putSnapshot(courseId, feedbackSessionName, QUESTION_ID));
+        assertEquals(1, snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).size());
+
+        ______TS("snapshots requested: only requested once until the request is deleted");
+
+        assertTrue(snapshotsDb.requestSnapshots(courseId, feedbackSessionName));
+        assertFalse(snapshotsDb.requestSnapshots(courseId, feedbackSessionName));
+        snapshotsDb.deleteRequest(courseId, feedbackSessionName);
+        assertTrue(snapshotsDb.requestSnapshots(courseId, feedbackSessionName));
+
+        ______TS("snapshots deleted by session and by course");
+
+        snapshotsDb.deleteSnapshotsForSession(courseId, feedbackSessionName);
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+        assertTrue(snapshotsDb.requestSnapshots(courseId, feedbackSessionName));
+
+        snapshotsDb.putSnapshot(courseId, feedbackSessionName, QUESTION_ID);
+        snapshotsDb.deleteSnapshotsForCourse(courseId);
+        assertTrue(snapshotsDb.getFreshSnapshots(List.of(QUESTION_ID)).isEmpty());
+        assertTrue(snapshotsDb.requestSnapshots(courseId, feedbackSessionName));
+        snapshotsDb.deleteRequest(courseId, feedbackSessionName);
+    }
+
+}
@@ -0,0 +1,99 @@
+package teammates.storage.api;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link FeedbackSessionGiversDb}.
+ */
+public class FeedbackSessionGiversDbTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final String COURSE_ID = "FSGiversDbT.course";
+    private static final String FEEDBACK_SESSION_NAME = "First session";
+
+    private final FeedbackSessionGiversDb fsGiversDb = FeedbackSessionGiversDb.inst();
+
+    @Test
+    public void testGivers() {
+        ______TS("set not put: unknown, even after updates");
+
+        assertNull(fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+        fsGiversDb.addGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "giver1@email.tmt");
+        assertNull(fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("empty set put");
+
+        fsGiversDb.putGivers(COURSE_ID, FEEDBACK_SESSION_NAME, Set.of(), Instant.now());
+        assertEquals(0, (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("givers spread over shards are all counted");
+
+        Set<String> givers = new HashSet<>();
+        for (int i = 0; i < 3 * FeedbackSessionGiversDb.NUM_SHARDS; i++) {
+            givers.add("giver" + i + "@email.tmt");
+        }
+        fsGiversDb.putGivers(COURSE_ID, FEEDBACK_SESSION_NAME, givers, Instant.now());
+        assertEquals(givers.size(), (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("adding and removing givers is idempotent");
+
+        fsGiversDb.addGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "newGiver@email.tmt");
+        fsGiversDb.addGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "newGiver@email.tmt");
+        fsGiversDb.addGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "giver0@email.tmt");
+        assertEquals(givers.size() + 1, (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        fsGiversDb.removeGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "giver0@email.tmt");
+        fsGiversDb.removeGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "giver0@email.tmt");
+        fsGiversDb.removeGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "nonGiver@email.tmt");
+        assertEquals(givers.size(), (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("set put from responses read before givers were added: the givers added are kept");
+
+        Instant readAt = Instant.now().minusSeconds(60);
+        fsGiversDb.addGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "concurrentGiver@email.tmt");
+        fsGiversDb.putGivers(COURSE_ID, FEEDBACK_SESSION_NAME, givers, readAt);
+        assertEquals(givers.size() + 1, (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        fsGiversDb.putGivers(COURSE_ID, FEEDBACK_SESSION_NAME, givers, Instant.now());
+        assertEquals(givers.size(), (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("set being rebuilt: givers added before it is put are kept");
+
+        fsGiversDb.deleteGivers(COURSE_ID, FEEDBACK_SESSION_NAME);
+        readAt = Instant.now().minusSeconds(60);
+        fsGiversDb.addGiver(COURSE_ID, FEEDBACK_SESSION_NAME, "concurrentGiver@email.tmt");
+        assertNull(fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+        fsGiversDb.putGivers(COURSE_ID, FEEDBACK_SESSION_NAME, givers, readAt);
+        assertEquals(givers.size() + 1, (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+        fsGiversDb.putGivers(COURSE_ID, FEEDBACK_SESSION_NAME, givers, Instant.now());
+
+        ______TS("sets of other sessions are separate");
+
+        fsGiversDb.putGivers(COURSE_ID, "Second session", Set.of("giver1@email.tmt"), Instant.now());
+        assertEquals(1, (int) fsGiversDb.getNumGivers(COURSE_ID, "Second session"));
+        assertEquals(givers.size(), (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("deleted set is unknown again");
+
+        fsGiversDb.deleteGivers(COURSE_ID, "Second session");
+        assertNull(fsGiversDb.getNumGivers(COURSE_ID, "Second session"));
+        assertEquals(givers.size(), (int) fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+
+        ______TS("sets of a course are deleted together");
+
+        fsGiversDb.putGivers(COURSE_ID, "Second session", Set.of("giver1@email.tmt"), Instant.now());
+        fsGiversDb.putGivers("FSGiversDbT.otherCourse", FEEDBACK_SESSION_NAME, Set.of("giver1@email.tmt"), Instant.now());
+        fsGiversDb.deleteGiversForCourse(COURSE_ID);
+        assertNull(fsGiversDb.getNumGivers(COURSE_ID, FEEDBACK_SESSION_NAME));
+        assertNull(fsGiversDb.getNumGivers(COURSE_ID, "Second session"));
+        assertEquals(1, (int) fsGiversDb.getNumGivers("FSGiversDbT.otherCourse", FEEDBACK_SESSION_NAME));
+
+        fsGiversDb.deleteGiversForCourse("FSGiversDbT.otherCourse");
+    }
+
+}
@@ -0,0 +1,126 @@
+package teammates.storage.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.storage.entity.Course;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link SecondLevelCache}.
+ */
+public class SecondLevelCacheTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    @Test
+    public void testInMemoryEntityCache() {
+        verifyCaching(new SecondLevelCache(new InMemoryEntityCache(100, Duration.ofMinutes(1)), Set.of("Course")));
+    }
+
+    @Test
+    public void testSerializingEntityCache() {
+        verifyCaching(new SecondLevelCache(new SerializingEntityCache(100, Duration.ofMinutes(1)), Set.of("Course")));
+
+        ______TS("expired entities are not served");
+
+        SecondLevelCache cache = new SecondLevelCache(new SerializingEntityCache(100, Duration.ZERO), Set.of("Course"));
+        Course course = createCourse("SLCT.expired");
+        cache.put(course);
+        assertNull(cache.get(Key.create(course)));
+    }
+
+    @Test
+    public void testUncachedKinds() {
+        SecondLevelCache cache = new SecondLevelCache(new InMemoryEntityCache(100, Duration.ofMinutes(1)), Set.of());
+
+        ______TS("entities of kinds which are not cached are ignored");
+
+        assertFalse(cache.isEnabled());
+        assertFalse(cache.isCached("Course"));
+
+        Course course = createCourse("SLCT.uncached");
+        cache.put(course);
+        assertNull(cache.get(Key.create(course)));
+    }
+
+    @Test
+    public void testPut_invalidatedSinceLoadStarted_shouldNotCache() {
+        SecondLevelCache cache =
+                new SecondLevelCache(new InMemoryEntityCache(100, Duration.ofMinutes(1)), Set.of("Course"));
+        Course course = createCourse("SLCT.raced");
+        Key<Course> key = Key.create(course);
+
+        ______TS("entity loaded before a write which invalidated it: not cached");
+
+        long invalidationCount = cache.getInvalidationCount(key);
+        cache.invalidate(List.of(key));
+        cache.put(course, invalidationCount);
+        assertNull(cache.get(key));
+
+        invalidationCount = cache.getInvalidationCount(key);
+        cache.invalidateAll();
+        cache.put(course, invalidationCount);
+        assertNull(cache.get(key));
+
+        ______TS("entity loaded with no write since: cached");
+
+        cache.put(course, cache.getInvalidationCount(key));
+        assertNotNull(cache.get(key));
+    }
+
+    private void verifyCaching(SecondLevelCache cache) {
+        Course course = createCourse("SLCT.course");
+        Key<Course> key = Key.create(course);
+
+        ______TS("miss before the entity is cached");
+
+        assertTrue(cache.isCached("Course"));
+        assertNull(cache.get(key));
+
+        ______TS("hit once the entity is cached, as a new object");
+
+        cache.put(course);
+        Course cachedCourse = cache.get(key);
+        assertNotSame(course, cachedCourse);
+        assertEquals(course.getUniqueId(), cachedCourse.getUniqueId());
+        assertEquals(course.getName(), cachedCourse.getName());
+        assertEquals(course.getTimeZone(), cachedCourse.getTimeZone());
+        assertEquals(course.getInstitute(), cachedCourse.getInstitute());
+        assertEquals(course.getCreatedAt(), cachedCourse.getCreatedAt());
+
+        cachedCourse.setName("Modified name");
+        assertEquals("Basic Computing", cache.get(key).getName());
+
+        ______TS("writes remove the entity from the cache");
+
+        cache.invalidateEntities(List.of(course));
+        assertNull(cache.get(key));
+
+        cache.put(course);
+        cache.invalidate(List.of(key));
+        assertNull(cache.get(key));
+
+        ______TS("hits and misses are counted per kind");
+
+        SecondLevelCache.KindStats stats = cache.getStats("Course");
+        assertEquals(2, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(0.4, stats.getHitRatio(), 0.001);
+        assertEquals(1.0, cache.getStats("Instructor").getHitRatio(), 0.001);
+    }
+
+    private Course createCourse(String courseId) {
+        return CourseAttributes.builder(courseId)
+                .withName("Basic Computing")
+                .withTimezone("UTC")
+                .withInstitute("Test institute")
+                .build()
+                .toEntity();
+    }
+
+}
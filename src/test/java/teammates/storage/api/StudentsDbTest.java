@@ -5,6 +5,7 @@ import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
@@ -140,6 +141,37 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         assertFalse(studentsDb.hasExistingStudentsInCourse(nonExistentCourseId, studentEmailAddresses));
     }
 
+    @Test
+    public void testGetSectionAndTeamNames() throws Exception {
+        String courseId = "SDT.tGSATN.course";
+        studentsDb.createEntity(createStudentInTeam(courseId, "student1@uni.edu", "Section A", "Team 1"));
+        studentsDb.createEntity(createStudentInTeam(courseId, "student2@uni.edu", "Section A", "Team 1"));
+        studentsDb.createEntity(createStudentInTeam(courseId, "student3@uni.edu", "Section A", "Team 2"));
+        studentsDb.createEntity(createStudentInTeam(courseId, "student4@uni.edu", "Section B", "Team 3"));
+
+        ______TS("names are projected from the students, without duplicates");
+
+        List<String> sectionNames = new ArrayList<>(studentsDb.getSectionNamesForCourse(courseId));
+        sectionNames.sort(null);
+        assertEquals(List.of("Section A", "Section B"), sectionNames);
+
+        List<String> teamNames = new ArrayList<>(studentsDb.getTeamNamesForCourse(courseId));
+        teamNames.sort(null);
+        assertEquals(List.of("Team 1", "Team 2", "Team 3"), teamNames);
+
+        teamNames = new ArrayList<>(studentsDb.getTeamNamesForSection("Section A", courseId));
+        teamNames.sort(null);
+        assertEquals(List.of("Team 1", "Team 2"), teamNames);
+
+        ______TS("non-existent course or section");
+
+        assertTrue(studentsDb.getSectionNamesForCourse("non-existent-course").isEmpty());
+        assertTrue(studentsDb.getTeamNamesForCourse("non-existent-course").isEmpty());
+        assertTrue(studentsDb.getTeamNamesForSection("non-existent-section", courseId).isEmpty());
+
+        studentsDb.deleteStudents(AttributesDeletionQuery.builder().withCourseId(courseId).build());
+    }
+
     @Test
     public void testGetStudent() throws Exception {
 
@@ -449,6 +481,17 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         return studentsDb.createEntity(s);
     }
 
+    private StudentAttributes createStudentInTeam(String courseId, String email, String sectionName, String teamName) {
+        return StudentAttributes
+                .builder(courseId, email)
+                .withName("valid student")
+                .withComment("")
+                .withTeamName(teamName)
+                .withSectionName(sectionName)
+                .withGoogleId("")
+                .build();
+    }
+
     private boolean isEnrollInfoSameAs(StudentAttributes student, StudentAttributes otherStudent) {
         return otherStudent != null && otherStudent.getEmail().equals(student.getEmail())
                 && otherStudent.getCourse().equals(student.getCourse())
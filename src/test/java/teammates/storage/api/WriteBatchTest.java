@@ -0,0 +1,161 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.RequestCache;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link WriteBatch}.
+ */
+public class WriteBatchTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private final CoursesDb coursesDb = CoursesDb.inst();
+
+    @Test
+    public void testWriteBatch() throws Exception {
+        CourseAttributes course1 = createCourseAttributes("WBT.course1");
+        CourseAttributes course2 = createCourseAttributes("WBT.course2");
+
+        ______TS("writes within a batch are held back until the outermost batch is committed");
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            assertSame(batch, WriteBatch.current());
+            coursesDb.createEntity(course1);
+
+            try (WriteBatch nestedBatch = WriteBatch.begin()) {
+                assertSame(batch, nestedBatch);
+                coursesDb.createEntity(course2);
+                nestedBatch.commit();
+            }
+            assertSame(batch, WriteBatch.current());
+            verifyAbsentInDatabase(course1);
+            verifyAbsentInDatabase(course2);
+
+            coursesDb.deleteCourse(course2.getId());
+            batch.commit();
+        }
+
+        assertNull(WriteBatch.current());
+        verifyPresentInDatabase(course1);
+        verifyAbsentInDatabase(course2);
+
+        ______TS("lookups memoized in the request before the writes are flushed are discarded when they are");
+
+        RequestCache.init();
+        try (WriteBatch batch = WriteBatch.begin()) {
+            coursesDb.deleteCourse(course1.getId());
+            RequestCache.put("course", course1.getId(), coursesDb.getCourse(course1.getId()));
+            batch.commit();
+            assertFalse(RequestCache.contains("course", course1.getId()));
+        } finally {
+            RequestCache.clear();
+        }
+        verifyAbsentInDatabase(course1);
+        coursesDb.createEntity(course1);
+
+        ______TS("writes can be flushed before the batch is committed");
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            coursesDb.createEntity(course2);
+            batch.flush();
+            verifyPresentInDatabase(course2);
+            batch.commit();
+        }
+
+        coursesDb.deleteCourse(course1.getId());
+        coursesDb.deleteCourse(course2.getId());
+        verifyAbsentInDatabase(course1);
+        verifyAbsentInDatabase(course2);
+    }
+
+    @Test
+    public void testWriteBatch_notCommitted_shouldDiscardPendingWrites() throws Exception {
+        CourseAttributes course1 = createCourseAttributes("WBT.course3");
+        CourseAttributes course2 = createCourseAttributes("WBT.course4");
+
+        ______TS("block throwing before the commit: nothing is written");
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            coursesDb.createEntity(course1);
+            failMidway();
+            batch.commit();
+        } catch (IllegalStateException e) {
+            assertEquals("Failed midway", e.getMessage());
+        }
+
+        assertNull(WriteBatch.current());
+        verifyAbsentInDatabase(course1);
+
+        ______TS("joined batch not committed: the outermost batch is aborted even if committed");
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            coursesDb.createEntity(course1);
+            try (WriteBatch nestedBatch = WriteBatch.begin()) {
+                assertSame(batch, nestedBatch);
+                coursesDb.createEntity(course2);
+            }
+            batch.commit();
+        }
+
+        verifyAbsentInDatabase(course1);
+        verifyAbsentInDatabase(course2);
+    }
+
+    @Test
+    public void testRunAfterCommit() throws Exception {
+        CourseAttributes course = createCourseAttributes("WBT.course5");
+        List<Boolean> isPresentWhenRun = new ArrayList<>();
+
+        ______TS("no batch open: the action is run right away");
+
+        WriteBatch.runAfterCommit(() -> isPresentWhenRun.add(true));
+        assertEquals(List.of(true), isPresentWhenRun);
+        isPresentWhenRun.clear();
+
+        ______TS("batch committed: the action is run outside of the batch once its writes are flushed");
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            coursesDb.createEntity(course);
+            try (WriteBatch nestedBatch = WriteBatch.begin()) {
+                WriteBatch.runAfterCommit(() -> {
+                    assertNull(WriteBatch.current());
+                    isPresentWhenRun.add(coursesDb.getCourse(course.getId()) != null);
+                });
+                nestedBatch.commit();
+            }
+            assertTrue(isPresentWhenRun.isEmpty());
+            batch.commit();
+            assertTrue(isPresentWhenRun.isEmpty());
+        }
+        assertEquals(List.of(true), isPresentWhenRun);
+        isPresentWhenRun.clear();
+
+        ______TS("batch aborted: the action is not run");
+
+        try (WriteBatch batch = WriteBatch.begin()) {
+            coursesDb.deleteCourse(course.getId());
+            WriteBatch.runAfterCommit(() -> isPresentWhenRun.add(true));
+        }
+        assertTrue(isPresentWhenRun.isEmpty());
+
+        coursesDb.deleteCourse(course.getId());
+    }
+
+    private void failMidway() {
+        throw new IllegalStateException("Failed midway");
+    }
+
+    private CourseAttributes createCourseAttributes(String courseId) {
+        return CourseAttributes.builder(courseId)
+                .withName("Basic Computing")
+                .withTimezone("UTC")
+                .withInstitute("Test institute")
+                .build();
+    }
+
+}
@@ -31,14 +31,14 @@ public class BaseTestCase {
     }
     // CHECKSTYLE.ON:AbbreviationAsWordInName|MethodName
 
-    @BeforeClass
+    @BeforeClass(alwaysRun = true)
     public void printTestClassHeader() {
         print("[============================="
                 + getClass().getCanonicalName()
                 + "=============================]");
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     public void printTestClassFooter() {
         print(getClass().getCanonicalName() + " completed");
     }
@@ -186,6 +186,10 @@ public class BaseTestCase {
         Assert.assertNotEquals(first, second);
     }
 
+    protected static void assertSame(Object expected, Object actual) {
+        Assert.assertSame(expected, actual);
+    }
+
     protected static void assertNotSame(Object unexpected, Object actual) {
         Assert.assertNotSame(unexpected, actual);
     }
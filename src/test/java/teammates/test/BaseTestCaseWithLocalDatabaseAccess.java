@@ -48,7 +48,7 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
     private final LogicExtension logic = new LogicExtension();
     private Closeable closeable;
 
-    @BeforeSuite
+    @BeforeSuite(alwaysRun = true)
     public void setupDbLayer() throws Exception {
         LOCAL_DATASTORE_HELPER.start();
         DatastoreOptions options = LOCAL_DATASTORE_HELPER.getOptions();
@@ -67,17 +67,17 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
         LogicStarter.initializeDependencies();
     }
 
-    @BeforeClass
+    @BeforeClass(alwaysRun = true)
     public void setupObjectify() {
         closeable = ObjectifyService.begin();
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     public void tearDownObjectify() {
         closeable.close();
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     public void resetDbLayer() throws Exception {
         SearchManagerFactory.getAccountRequestSearchManager().resetCollections();
         SearchManagerFactory.getInstructorSearchManager().resetCollections();
@@ -86,7 +86,7 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
         LOCAL_DATASTORE_HELPER.reset();
     }
 
-    @AfterSuite
+    @AfterSuite(alwaysRun = true)
     public void tearDownLocalDatastoreHelper() throws Exception {
         LOCAL_DATASTORE_HELPER.stop();
     }
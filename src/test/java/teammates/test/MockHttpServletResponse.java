@@ -1,6 +1,7 @@
 package teammates.test;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -13,8 +14,6 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-
 /**
  * Mocks {@link HttpServletResponse} for testing purpose.
  *
@@ -25,6 +24,8 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private StringWriter content = new StringWriter();
+    private PrintWriter writer = new PrintWriter(content);
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -151,9 +152,16 @@ public class MockHttpServletResponse implements HttpServletResponse {
     }
 
     @Override
-    @SuppressFBWarnings("DM_DEFAULT_ENCODING")
     public PrintWriter getWriter() {
-        return new PrintWriter(System.out);
+        return writer;
+    }
+
+    /**
+     * Returns the content written so far with {@link #getWriter()}.
+     */
+    public String getWrittenContent() {
+        writer.flush();
+        return content.toString();
     }
 
     @Override
@@ -193,7 +201,8 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void resetBuffer() {
-        // not used
+        writer.flush();
+        content.getBuffer().setLength(0);
     }
 
     @Override
@@ -0,0 +1,80 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * SUT: {@link CourseDeletionWorkerAction}.
+ */
+public class CourseDeletionWorkerActionTest extends BaseActionTest<CourseDeletionWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DELETION_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        CourseAttributes course = typicalBundle.courses.get("typicalCourse1");
+        String courseId = course.getId();
+        int numSessions = logic.getAllFeedbackSessionsForCourse(courseId).size();
+        assertTrue(numSessions > 0);
+        logic.startCourseDeletion(courseId);
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+        };
+
+        ______TS("each task deletes one session and schedules the deletion of the rest");
+
+        CourseDeletionWorkerAction action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifySpecifiedTasksAdded(Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+        assertEquals(numSessions - 1, logic.getAllFeedbackSessionsForCourse(courseId).size());
+        assertNotNull(logic.getCourse(courseId));
+
+        ______TS("the course is deleted by the last task, which schedules no further task");
+
+        for (int i = 1; i < numSessions; i++) {
+            action = getAction(submissionParams);
+            getJsonResult(action);
+            verifySpecifiedTasksAdded(Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+        }
+        assertNotNull(logic.getCourse(courseId));
+        assertTrue(logic.isCourseDeletionInProgress(courseId));
+
+        action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifyNoTasksAdded();
+        assertNull(logic.getCourse(courseId));
+        assertTrue(logic.getAllFeedbackSessionsForCourse(courseId).isEmpty());
+        assertTrue(logic.getStudentsForCourse(courseId).isEmpty());
+        assertTrue(logic.getInstructorsForCourse(courseId).isEmpty());
+        assertFalse(logic.isCourseDeletionInProgress(courseId));
+
+        ______TS("a repeated task does nothing more");
+
+        action = getAction(submissionParams);
+        getJsonResult(action);
+
+        verifyNoTasksAdded();
+    }
+
+}
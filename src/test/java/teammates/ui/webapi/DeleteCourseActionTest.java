@@ -1,5 +1,7 @@
 package teammates.ui.webapi;
 
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -53,7 +55,25 @@ public class DeleteCourseActionTest
         MessageOutput messageOutput = (MessageOutput) result.getOutput();
 
         assertEquals("OK", messageOutput.getMessage());
-        assertNull(logic.getCourse(instructor1OfCourse1.getCourseId()));
+        verifySpecifiedTasksAdded(Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
+        assertEquals(courseId, mockTaskQueuer.getTasksAdded().get(0).getParamMap().get(Const.ParamsNames.COURSE_ID));
+        assertNotNull(logic.getCourse(courseId));
+        assertTrue(logic.isCourseDeletionInProgress(courseId));
+
+        ______TS("Course being deleted is hidden from the lists of courses");
+
+        List<InstructorAttributes> instructors = logic.getInstructorsForGoogleId(instructorId);
+        assertTrue(logic.getSoftDeletedCoursesForInstructors(instructors).stream()
+                .noneMatch(course -> course.getId().equals(courseId)));
+
+        ______TS("Course already being deleted: deletion is not scheduled again");
+
+        deleteCourseAction = getAction(submissionParams);
+        result = getJsonResult(deleteCourseAction);
+        messageOutput = (MessageOutput) result.getOutput();
+
+        assertEquals("OK", messageOutput.getMessage());
+        verifyNoTasksAdded();
     }
 
     @Test
@@ -77,7 +97,7 @@ public class DeleteCourseActionTest
         MessageOutput messageOutput = (MessageOutput) result.getOutput();
 
         assertEquals("OK", messageOutput.getMessage());
-        assertNull(logic.getCourse(instructor1OfCourse1.getCourseId()));
+        verifySpecifiedTasksAdded(Const.TaskQueue.COURSE_DELETION_QUEUE_NAME, 1);
     }
 
     @Override
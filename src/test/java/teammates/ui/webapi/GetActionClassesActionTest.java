@@ -77,6 +77,8 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UnpublishFeedbackSessionAction.class,
                 PublishFeedbackSessionAction.class,
                 GetSessionResultsAction.class,
+                GetSessionResultsOutlineAction.class,
+                GetQuestionResultsPageAction.class,
                 GetHasResponsesAction.class,
                 DatastoreBackupAction.class,
                 RestoreCourseAction.class,
@@ -101,6 +103,9 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 JoinCourseAction.class,
                 GetSessionResponseStatsAction.class,
                 DeleteCourseAction.class,
+                GetCourseDeletionStatusAction.class,
+                CourseDeletionWorkerAction.class,
+                SessionResultsSnapshotWorkerAction.class,
                 CreateCourseAction.class,
                 GetCourseAction.class,
                 UpdateCourseAction.class,
@@ -129,6 +134,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
                 CalculateUsageStatisticsAction.class,
+                ReconcileSubmissionCountsAction.class,
                 GetUsageStatisticsAction.class,
                 GetNotificationAction.class,
                 CreateNotificationAction.class,
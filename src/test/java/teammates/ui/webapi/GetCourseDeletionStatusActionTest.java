@@ -0,0 +1,76 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.CourseDeletionStatusData;
+
+/**
+ * SUT: {@link GetCourseDeletionStatusAction}.
+ */
+public class GetCourseDeletionStatusActionTest extends BaseActionTest<GetCourseDeletionStatusAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.COURSE_DELETION;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        String courseId = instructor1OfCourse1.getCourseId();
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+
+        ______TS("Not enough parameters");
+
+        verifyHttpParameterFailure();
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+
+        ______TS("course with sessions left to delete");
+
+        int numSessions = logic.getAllFeedbackSessionsForCourse(courseId).size();
+        logic.deleteNextPartOfCourseCascade(courseId);
+
+        GetCourseDeletionStatusAction action = getAction(submissionParams);
+        CourseDeletionStatusData output = (CourseDeletionStatusData) getJsonResult(action).getOutput();
+
+        assertEquals(courseId, output.getCourseId());
+        assertFalse(output.getIsDeleted());
+        assertEquals(numSessions - 1, output.getNumFeedbackSessionsLeft());
+
+        ______TS("deleted course");
+
+        while (!logic.deleteNextPartOfCourseCascade(courseId)) {
+            // delete the rest of the course
+        }
+
+        action = getAction(submissionParams);
+        output = (CourseDeletionStatusData) getJsonResult(action).getOutput();
+
+        assertEquals(courseId, output.getCourseId());
+        assertTrue(output.getIsDeleted());
+        assertEquals(0, output.getNumFeedbackSessionsLeft());
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, "idOfTypicalCourse1",
+        };
+
+        verifyOnlyInstructorsOfTheSameCourseWithCorrectCoursePrivilegeCanAccess(
+                Const.InstructorPermissions.CAN_MODIFY_COURSE, submissionParams);
+    }
+
+}
@@ -0,0 +1,128 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.QuestionResultsPageData;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * SUT: {@link GetQuestionResultsPageAction}.
+ */
+public class GetQuestionResultsPageActionTest extends BaseActionTest<GetQuestionResultsPageAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESULT_PAGE;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Test
+    @Override
+    protected void testExecute() {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes question =
+                logic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+
+        ______TS("Not enough parameters");
+
+        verifyHttpParameterFailure();
+
+        ______TS("Non-existent question");
+
+        verifyEntityNotFound(Const.ParamsNames.FEEDBACK_QUESTION_ID, "non-existent-question-id");
+
+        ______TS("Invalid page size or page token");
+
+        verifyHttpParameterFailure(Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "0");
+        String tooLargePageSize = String.valueOf(GetQuestionResultsPageAction.MAX_PAGE_SIZE + 1);
+        verifyHttpParameterFailure(Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, tooLargePageSize);
+        verifyHttpParameterFailure(Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_TOKEN, "!!!");
+
+        ______TS("Typical case: all responses in one page");
+
+        List<String> expectedResponseIds = new ArrayList<>();
+        SessionResultsData.initForInstructor(logic.getSessionResultsForCourse(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor1OfCourse1.getEmail(), question.getId(), null, null))
+                .getQuestions().get(0).getAllResponses().stream()
+                .filter(response -> !response.isMissingResponse())
+                .forEach(response -> expectedResponseIds.add(response.getResponseId()));
+        assertFalse(expectedResponseIds.isEmpty());
+
+        QuestionResultsPageData page = getPage(question.getId(), null, null);
+        assertNull(page.getNextPageToken());
+        assertEquals(new HashSet<>(expectedResponseIds), getResponseIds(page));
+
+        ______TS("Typical case: responses read one page at a time");
+
+        List<String> responseIds = new ArrayList<>();
+        String pageToken = null;
+        do {
+            page = getPage(question.getId(), pageToken, "1");
+            assertTrue(page.getResponses().size() <= 1);
+            page.getResponses().forEach(response -> responseIds.add(response.getResponseId()));
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        assertEquals(expectedResponseIds.size(), responseIds.size());
+        assertEquals(new HashSet<>(expectedResponseIds), new HashSet<>(responseIds));
+
+        ______TS("Typical case: responses in a section only");
+
+        String section = typicalBundle.students.get("student1InCourse1").getSection();
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION, section,
+        };
+        page = (QuestionResultsPageData) getJsonResult(getAction(submissionParams)).getOutput();
+        assertFalse(page.getResponses().isEmpty());
+        page.getResponses().forEach(response -> assertTrue(section.equals(response.getGiverSection())
+                || section.equals(response.getRecipientSection())));
+    }
+
+    private QuestionResultsPageData getPage(String questionId, String pageToken, String pageSize) {
+        List<String> submissionParams = new ArrayList<>(List.of(Const.ParamsNames.FEEDBACK_QUESTION_ID, questionId));
+        if (pageToken != null) {
+            submissionParams.addAll(List.of(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_TOKEN, pageToken));
+        }
+        if (pageSize != null) {
+            submissionParams.addAll(List.of(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, pageSize));
+        }
+        return (QuestionResultsPageData) getJsonResult(getAction(submissionParams.toArray(new String[0]))).getOutput();
+    }
+
+    private static Set<String> getResponseIds(QuestionResultsPageData page) {
+        Set<String> responseIds = new HashSet<>();
+        page.getResponses().forEach(response -> responseIds.add(response.getResponseId()));
+        return responseIds;
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes question =
+                logic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+        };
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+    }
+}
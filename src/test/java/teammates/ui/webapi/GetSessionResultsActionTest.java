@@ -1,18 +1,26 @@
 package teammates.ui.webapi;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.test.MockHttpServletResponse;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
 
@@ -141,7 +149,137 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
     }
 
+    @Test
+    public void testExecute_publishedSession_shouldServeResultsFromSnapshots() throws Exception {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        Set<String> sections = new HashSet<>();
+        typicalBundle.feedbackResponses.values().forEach(resp -> {
+            sections.add(resp.getGiverSection());
+            sections.add(resp.getRecipientSection());
+        });
+
+        ______TS("unpublished session: snapshots are not taken");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+        };
+        SessionResultsData liveResults = (SessionResultsData) getJsonResult(getAction(submissionParams)).getOutput();
+        verifyNoTasksAdded();
+
+        Map<String, SessionResultsData> liveResultsBySection = new HashMap<>();
+        for (var fetchType : FeedbackResultFetchType.values()) {
+            for (var section : sections) {
+                liveResultsBySection.put(fetchType.name() + section, SessionResultsData.initForInstructor(
+                        logic.getSessionResultsForCourse(sessionName, courseId, instructorAttributes.getEmail(),
+                                null, section, fetchType)));
+            }
+        }
+
+        ______TS("published session without snapshots: results are served live and snapshots are scheduled");
+
+        logic.publishFeedbackSession(sessionName, courseId);
+
+        SessionResultsData output = (SessionResultsData) getJsonResult(getAction(submissionParams)).getOutput();
+        assertTrue(isSessionResultsDataEqual(liveResults, output));
+        verifySpecifiedTasksAdded(Const.TaskQueue.SESSION_RESULTS_SNAPSHOT_QUEUE_NAME, 1);
+
+        ______TS("snapshots still missing: the taking of the snapshots is not scheduled again");
+
+        getJsonResult(getAction(submissionParams));
+        verifyNoTasksAdded();
+
+        ______TS("published session with snapshots: the same results are served from the snapshots");
+
+        assertTrue(logic.takeResultsSnapshotsForSession(sessionName, courseId) > 0);
+        assertTrue(logic.hasFreshResultsSnapshotsForSession(sessionName, courseId));
+
+        output = (SessionResultsData) getJsonResult(getAction(submissionParams)).getOutput();
+        assertTrue(isSessionResultsDataEqual(liveResults, output));
+        verifyNoTasksAdded();
+
+        for (var fetchType : FeedbackResultFetchType.values()) {
+            for (var section : sections) {
+                SessionResultsData sectionResults = SessionResultsData.initForInstructor(
+                        logic.getSessionResultsForCourse(sessionName, courseId, instructorAttributes.getEmail(),
+                                null, section, fetchType));
+                assertTrue(isSessionResultsDataEqual(liveResultsBySection.get(fetchType.name() + section),
+                        sectionResults));
+            }
+        }
+
+        ______TS("response deleted: the stale snapshot is dropped and taken again");
+
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(sessionName, courseId, 1);
+        FeedbackResponseAttributes response = logic.getFeedbackResponsesForQuestion(question.getId()).get(0);
+        logic.deleteFeedbackResponseCascade(response.getId());
+        assertFalse(logic.hasFreshResultsSnapshotsForSession(sessionName, courseId));
+
+        output = (SessionResultsData) getJsonResult(getAction(submissionParams)).getOutput();
+        verifySpecifiedTasksAdded(Const.TaskQueue.SESSION_RESULTS_SNAPSHOT_QUEUE_NAME, 1);
+
+        assertEquals(1, logic.takeResultsSnapshotsForSession(sessionName, courseId));
+        SessionResultsData outputFromSnapshots =
+                (SessionResultsData) getJsonResult(getAction(submissionParams)).getOutput();
+        assertTrue(isSessionResultsDataEqual(output, outputFromSnapshots));
+    }
+
     @Override
+    @Test
+    public void testSend_shouldWriteSameJsonAsOutput() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams;
+
+        ______TS("instructor full detail: same JSON as the output built at once");
+
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+        };
+        verifySentJsonSameAsOutput(getJsonResult(getAction(submissionParams)));
+
+        ______TS("student result: same JSON as the output built at once");
+
+        StudentAttributes studentAttributes = typicalBundle.students.get("student1InCourse1");
+        loginAsStudent(studentAttributes.getGoogleId());
+        logic.publishFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_RESULT.name(),
+        };
+        JsonResult result = getJsonResult(getAction(submissionParams));
+        verifySentJsonSameAsOutput(result);
+
+        ______TS("deadline exceeded before the first question is written: neither the status nor any JSON is sent");
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        resp.setStatus(HttpStatus.SC_GATEWAY_TIMEOUT);
+        RequestTracer.init(null, null, -1);
+        try {
+            assertThrows(DeadlineExceededException.class, () -> result.send(resp));
+        } finally {
+            RequestTracer.init(null, null, Integer.MAX_VALUE);
+        }
+        assertEquals(HttpStatus.SC_GATEWAY_TIMEOUT, resp.getStatus());
+        assertEquals("", resp.getWrittenContent());
+    }
+
+    private void verifySentJsonSameAsOutput(JsonResult result) throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(JsonUtils.toCompactJson(result.getOutput()), resp.getWrittenContent());
+    }
+
     @Test
     protected void testAccessControl() {
         String[] submissionParams;
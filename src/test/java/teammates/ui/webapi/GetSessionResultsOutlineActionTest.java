@@ -0,0 +1,73 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.SessionResultsOutlineData;
+
+/**
+ * SUT: {@link GetSessionResultsOutlineAction}.
+ */
+public class GetSessionResultsOutlineActionTest extends BaseActionTest<GetSessionResultsOutlineAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESULT_OUTLINE;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Test
+    @Override
+    protected void testExecute() {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+
+        loginAsInstructor(instructor1OfCourse1.getGoogleId());
+
+        ______TS("Not enough parameters");
+
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(Const.ParamsNames.COURSE_ID, session.getCourseId());
+
+        ______TS("Typical case: all questions with their numbers of responses");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+        };
+
+        SessionResultsOutlineData output =
+                (SessionResultsOutlineData) getJsonResult(getAction(submissionParams)).getOutput();
+
+        List<FeedbackQuestionAttributes> questions =
+                logic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        assertEquals(questions.size(), output.getQuestions().size());
+        for (int i = 0; i < questions.size(); i++) {
+            SessionResultsOutlineData.QuestionOutlineOutput questionOutline = output.getQuestions().get(i);
+            String questionId = questions.get(i).getId();
+            assertEquals(questionId, questionOutline.getFeedbackQuestion().getFeedbackQuestionId());
+            assertEquals(logic.getFeedbackResponsesForQuestionInPage(questionId, null, 1000).getResults().size(),
+                    questionOutline.getNumResponses());
+        }
+    }
+
+    @Test
+    @Override
+    protected void testAccessControl() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+        };
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+    }
+}
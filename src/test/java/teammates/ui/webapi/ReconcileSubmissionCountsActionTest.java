@@ -0,0 +1,63 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+
+/**
+ * SUT: {@link ReconcileSubmissionCountsAction}.
+ */
+public class ReconcileSubmissionCountsActionTest extends BaseActionTest<ReconcileSubmissionCountsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_SUBMISSION_COUNTS_RECONCILIATION;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        logic.updateFeedbackSession(
+                FeedbackSessionAttributes
+                        .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
+                        .withStartTime(TimeHelper.getInstantDaysOffsetFromNow(-2))
+                        .withEndTime(TimeHelper.getInstantDaysOffsetFromNow(1))
+                        .build());
+        session = logic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+        int numGivers = logic.getGiverSetThatAnswerFeedbackSession(session.getCourseId(),
+                session.getFeedbackSessionName()).size();
+
+        ______TS("ongoing session: submissions recounted");
+
+        ReconcileSubmissionCountsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        MessageOutput output = (MessageOutput) result.getOutput();
+
+        assertEquals("Successful", output.getMessage());
+        assertEquals(numGivers, logic.getActualTotalSubmission(session));
+
+        ______TS("response deleted after reconciliation: giver removed from the count");
+
+        // the only response of question 3 is from its only instructor respondent
+        String questionId = logic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 3)
+                .getId();
+        logic.deleteFeedbackResponseCascade(logic.getFeedbackResponsesForQuestion(questionId).get(0).getId());
+
+        assertEquals(numGivers - 1, logic.getActualTotalSubmission(session));
+    }
+
+}
@@ -63,6 +63,15 @@ public class RestoreCourseActionTest
         assertEquals("The course " + courseId + " has been restored.", message.getMessage());
         assertNull(logic.getCourse(instructor1OfCourse1.getCourseId()).getDeletedAt());
 
+        ______TS("Course being deleted cannot be restored");
+
+        logic.moveCourseToRecycleBin(courseId);
+        logic.startCourseDeletion(courseId);
+
+        InvalidOperationException ioe = verifyInvalidOperation(submissionParams);
+        assertEquals("The course " + courseId + " is being deleted.", ioe.getMessage());
+        assertTrue(logic.getCourse(courseId).isCourseDeleted());
+
         ______TS("Not enough parameters");
 
         verifyHttpParameterFailure();
@@ -0,0 +1,66 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * SUT: {@link SessionResultsSnapshotWorkerAction}.
+ */
+public class SessionResultsSnapshotWorkerActionTest extends BaseActionTest<SessionResultsSnapshotWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SESSION_RESULTS_SNAPSHOT_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+        };
+
+        ______TS("unpublished session: no snapshots are taken");
+
+        getJsonResult(getAction(submissionParams));
+        assertFalse(logic.hasFreshResultsSnapshotsForSession(sessionName, courseId));
+
+        ______TS("published session: snapshots of all questions are taken");
+
+        logic.publishFeedbackSession(sessionName, courseId);
+
+        getJsonResult(getAction(submissionParams));
+        verifyNoTasksAdded();
+        assertTrue(logic.hasFreshResultsSnapshotsForSession(sessionName, courseId));
+
+        ______TS("session deleted since the task was scheduled: nothing to do");
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, "Non-existent session",
+        };
+
+        getJsonResult(getAction(submissionParams));
+        verifyNoTasksAdded();
+    }
+
+}
@@ -696,7 +696,7 @@ export class InstructorCoursesPageComponent implements OnInit {
         next: () => {
           this.softDeletedCourses = this.removeCourse(this.softDeletedCourses, courseId);
           this.allCoursesList = this.allCoursesList.filter((course: Course) => course.courseId !== courseId);
-          this.statusMessageService.showSuccessToast(`The course ${courseId} has been permanently deleted.`);
+          this.statusMessageService.showSuccessToast(`The course ${courseId} is being permanently deleted.`);
         },
         error: (resp: ErrorMessageOutput) => {
           this.statusMessageService.showErrorToast(resp.error.message);
@@ -763,7 +763,7 @@ export class InstructorCoursesPageComponent implements OnInit {
           this.allCoursesList = [];
           this.allCoursesList.push(...this.activeCourses.map((courseModel: CourseModel) => courseModel.course));
           this.allCoursesList.push(...this.archivedCourses.map((courseModel: CourseModel) => courseModel.course));
-          this.statusMessageService.showSuccessToast('All courses have been permanently deleted.');
+          this.statusMessageService.showSuccessToast('All courses are being permanently deleted.');
         },
         error: (resp: ErrorMessageOutput) => {
           this.statusMessageService.showErrorToast(resp.error.message);